@@ -72,5 +72,150 @@ public enum Capability {
     /**
      * Supports parentheses around operands of a set operqtion
      */
-    SET_OPERATION_PARENTHESES
+    SET_OPERATION_PARENTHESES,
+
+    /**
+     * Supports "INSERT ... ON CONFLICT ... DO UPDATE" upsert clauses
+     */
+    UPSERT_ON_CONFLICT,
+
+    /**
+     * Supports "INSERT ... ON DUPLICATE KEY UPDATE" upsert clauses
+     */
+    UPSERT_ON_DUPLICATE_KEY,
+
+    /**
+     * Supports "MERGE INTO ... USING ..." statements
+     */
+    MERGE,
+
+    /**
+     * Supports "INSERT ... RETURNING" clauses
+     */
+    INSERT_RETURNING,
+
+    /**
+     * Supports "INSERT ... OUTPUT inserted" clauses
+     */
+    INSERT_OUTPUT,
+
+    /**
+     * Supports "UPDATE ... FROM" clauses joining other relations
+     */
+    UPDATE_FROM,
+
+    /**
+     * Supports "UPDATE t JOIN ... SET" statements
+     */
+    UPDATE_JOIN,
+
+    /**
+     * Supports "UPDATE t SET ... FROM t JOIN ..." statements
+     */
+    UPDATE_FROM_JOIN,
+
+    /**
+     * Supports "DELETE t FROM t JOIN ..." statements
+     */
+    DELETE_JOIN,
+
+    /**
+     * Supports "DELETE FROM t USING ..." statements
+     */
+    DELETE_USING,
+
+    /**
+     * Supports "DELETE ... LIMIT" and "UPDATE ... LIMIT" clauses
+     */
+    DML_LIMIT,
+
+    /**
+     * Supports "DELETE TOP (n)" and "UPDATE TOP (n)" clauses
+     */
+    DML_TOP,
+
+    /**
+     * Supports limiting "DELETE" and "UPDATE" statements by the row number literal in the WHERE clause
+     */
+    DML_ROWNUM,
+
+    /**
+     * Supports common table expressions ("WITH" clauses)
+     */
+    COMMON_TABLE_EXPRESSION,
+
+    /**
+     * Supports the "RECURSIVE" keyword of "WITH" clauses declaring recursive common table expressions
+     */
+    WITH_RECURSIVE,
+
+    /**
+     * Supports "MATERIALIZED" and "NOT MATERIALIZED" keywords of common table expressions
+     */
+    CTE_MATERIALIZED,
+
+    /**
+     * Supports "MATERIALIZE" and "INLINE" optimizer hints in common table expressions
+     */
+    CTE_MATERIALIZE_HINT,
+
+    /**
+     * Supports window functions ("OVER" clauses)
+     */
+    WINDOW_FUNCTIONS,
+
+    /**
+     * Supports "CROSS JOIN LATERAL" and "LEFT JOIN LATERAL" subqueries
+     */
+    LATERAL_JOIN,
+
+    /**
+     * Supports "CROSS APPLY" and "OUTER APPLY" subqueries
+     */
+    CROSS_APPLY,
+
+    /**
+     * Supports the "SELECT ... FOR UPDATE OF" clause, restricting locks to specific tables
+     */
+    SELECT_FOR_UPDATE_OF,
+
+    /**
+     * Supports the "SELECT ... FOR UPDATE NOWAIT" clause
+     */
+    SELECT_FOR_UPDATE_NOWAIT,
+
+    /**
+     * Supports the "SELECT ... FOR UPDATE SKIP LOCKED" clause
+     */
+    SELECT_FOR_UPDATE_SKIP_LOCKED,
+
+    /**
+     * Supports the "SELECT ... FOR UPDATE WAIT" clause, with a lock wait timeout in seconds
+     */
+    SELECT_FOR_UPDATE_WAIT,
+
+    /**
+     * Supports locking table hints like "WITH (UPDLOCK, READPAST)" in place of the "SELECT ... FOR UPDATE" clause
+     */
+    LOCKING_TABLE_HINTS,
+
+    /**
+     * Supports optimizer hint comments like "/*+ INDEX(T IX) *&#47;" succeeding the statement command keyword
+     */
+    OPTIMIZER_HINTS,
+
+    /**
+     * Supports index hints like "USE INDEX (IX)" succeeding table references
+     */
+    INDEX_HINTS,
+
+    /**
+     * Supports table hints like "WITH (INDEX(IX))" succeeding table references
+     */
+    TABLE_HINTS,
+
+    /**
+     * Supports query hints in an "OPTION (...)" clause succeeding the statement
+     */
+    QUERY_OPTIONS
 }
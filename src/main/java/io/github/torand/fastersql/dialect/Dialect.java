@@ -18,6 +18,7 @@ package io.github.torand.fastersql.dialect;
 import io.github.torand.fastersql.function.singlerow.cast.DataType;
 import io.github.torand.fastersql.setoperation.SetOperator;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
@@ -67,6 +68,14 @@ public interface Dialect {
         return Optional.empty();
     }
 
+    /**
+     * Returns the name of the pseudo column uniquely identifying each row of a table, if any.
+     * @return the name of the row identifier pseudo column, if any.
+     */
+    default Optional<String> getRowIdColumnName() {
+        return Optional.empty();
+    }
+
     /**
      * Returns the specified set operator formatted for a specific SQL dialect.
      * @param setOperator the set operator.
@@ -214,6 +223,72 @@ public interface Dialect {
         return Optional.of("||");
     }
 
+    /**
+     * Returns the JDBC fetch size to use when streaming query results for a specific SQL dialect.
+     * @param fetchSize the requested number of rows to fetch per database round trip.
+     * @return the fetch size to pass to the JDBC driver of a specific SQL dialect.
+     */
+    default int getStreamingFetchSize(int fetchSize) {
+        return fetchSize;
+    }
+
+    /**
+     * Indicates whether the JDBC driver fetches query results incrementally only when auto-commit is disabled.
+     * @return whether auto-commit must be disabled when streaming query results.
+     */
+    default boolean cursorFetchRequiresTransaction() {
+        return false;
+    }
+
+    /**
+     * Returns an optimizer hint limiting the execution time of a query, for a specific SQL dialect.
+     * The hint is placed directly after the SELECT keyword. The JDBC query timeout applies regardless.
+     * @param timeout the query timeout.
+     * @return the query timeout hint, if supported by a specific SQL dialect.
+     */
+    default Optional<String> formatQueryTimeoutHint(Duration timeout) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a command limiting the execution time of statements in the current transaction, for a specific SQL dialect.
+     * The JDBC query timeout applies regardless.
+     * @param timeout the statement timeout.
+     * @return the statement timeout command, if supported by a specific SQL dialect.
+     */
+    default Optional<String> formatStatementTimeoutCommand(Duration timeout) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a statement explaining the execution plan of specified statement, for a specific SQL dialect.
+     * The explain statement returns the plan as its result set, unless {@link #formatExplainPlanQuery()} specifies a separate query.
+     * @param sql the statement to explain.
+     * @param analyze whether to execute the statement and report actual run time statistics.
+     * @return the explain statement, if supported by a specific SQL dialect.
+     */
+    default Optional<String> formatExplainStatement(String sql, boolean analyze) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a query fetching the execution plan produced by the explain statement, for a specific SQL dialect.
+     * @return the plan query, if required by a specific SQL dialect.
+     */
+    default Optional<String> formatExplainPlanQuery() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a command enabling or disabling the session mode in which statements return their execution plan
+     * instead of being executed, for a specific SQL dialect.
+     * @param enable whether to enable or disable the session mode.
+     * @return the session command, if required by a specific SQL dialect.
+     */
+    default Optional<String> formatExplainSessionCommand(boolean enable) {
+        return Optional.empty();
+    }
+
     /**
      * Indicates whether a capability is supported by a specific SQL dialect.
      * @param capability the capability to check support for
@@ -31,7 +31,7 @@ import static io.github.torand.fastersql.dialect.Capability.*;
  * Defines the <a href="https://www.h2database.com/html/grammar.html">H2</a> SQL dialect.
  */
 public class H2Dialect implements Dialect {
-    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, MODULO_OPERATOR, CURRENT_TIME, NULL_ORDERING, SELECT_FOR_UPDATE, TRUNCATE_TABLE, SET_OPERATION_PARENTHESES);
+    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, MODULO_OPERATOR, CURRENT_TIME, NULL_ORDERING, SELECT_FOR_UPDATE, TRUNCATE_TABLE, SET_OPERATION_PARENTHESES, MERGE, COMMON_TABLE_EXPRESSION, WITH_RECURSIVE, WINDOW_FUNCTIONS, SELECT_FOR_UPDATE_NOWAIT, SELECT_FOR_UPDATE_SKIP_LOCKED, SELECT_FOR_UPDATE_WAIT);
 
     /**
      * Creates an H2 {@link Dialect} implementation.
@@ -65,6 +65,11 @@ public class H2Dialect implements Dialect {
         return Optional.of("rownum()");
     }
 
+    @Override
+    public Optional<String> getRowIdColumnName() {
+        return Optional.of("_ROWID_");
+    }
+
     @Override
     public String formatConcatFunction(List<String> operands) {
         throw new UnsupportedOperationException("H2 does not support the concat() function (use the concat infix operator instead)");
@@ -107,6 +112,11 @@ public class H2Dialect implements Dialect {
         });
     }
 
+    @Override
+    public Optional<String> formatExplainStatement(String sql, boolean analyze) {
+        return Optional.of((analyze ? "explain analyze " : "explain ") + sql);
+    }
+
     @Override
     public boolean supports(Capability capability) {
         return SUPPORTED_CAPS.contains(capability);
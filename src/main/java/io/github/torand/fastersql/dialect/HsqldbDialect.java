@@ -26,7 +26,7 @@ import static io.github.torand.fastersql.dialect.Capability.*;
  * Defines the <a href="https://hsqldb.org/doc/2.0/guide/sqlgeneral-chapt.html">HyperSQL</a> (HSQLDB) SQL dialect.
  */
 public class HsqldbDialect implements Dialect {
-    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, CURRENT_TIME, NULL_ORDERING, SELECT_FOR_UPDATE, TRUNCATE_TABLE, FULL_OUTER_JOIN, SET_OPERATION_PARENTHESES);
+    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, CURRENT_TIME, NULL_ORDERING, SELECT_FOR_UPDATE, TRUNCATE_TABLE, FULL_OUTER_JOIN, SET_OPERATION_PARENTHESES, MERGE, COMMON_TABLE_EXPRESSION, WITH_RECURSIVE, WINDOW_FUNCTIONS);
 
     /**
      * Creates a HyperSQL (HSQLDB) {@link Dialect} implementation.
@@ -93,6 +93,11 @@ public class HsqldbDialect implements Dialect {
         });
     }
 
+    @Override
+    public Optional<String> formatExplainStatement(String sql, boolean analyze) {
+        return analyze ? Optional.empty() : Optional.of("explain plan for " + sql);
+    }
+
     @Override
     public boolean supports(Capability capability) {
         return SUPPORTED_CAPS.contains(capability);
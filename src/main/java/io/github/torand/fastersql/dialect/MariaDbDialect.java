@@ -26,7 +26,7 @@ import static io.github.torand.fastersql.dialect.Capability.*;
  * Defines the <a href="https://mariadb.com/kb/en/sql-statements/">MariaDB</a> SQL dialect.
  */
 public class MariaDbDialect implements Dialect {
-    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CURRENT_TIME, MODULO_OPERATOR, SELECT_FOR_UPDATE, TRUNCATE_TABLE, SET_OPERATION_PARENTHESES);
+    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CURRENT_TIME, MODULO_OPERATOR, SELECT_FOR_UPDATE, TRUNCATE_TABLE, SET_OPERATION_PARENTHESES, UPSERT_ON_DUPLICATE_KEY, INSERT_RETURNING, UPDATE_JOIN, DELETE_JOIN, DML_LIMIT, COMMON_TABLE_EXPRESSION, WITH_RECURSIVE, WINDOW_FUNCTIONS, SELECT_FOR_UPDATE_NOWAIT, SELECT_FOR_UPDATE_SKIP_LOCKED, SELECT_FOR_UPDATE_WAIT, INDEX_HINTS);
 
     /**
      * Creates a MariaDb {@link Dialect} implementation.
@@ -104,6 +104,11 @@ public class MariaDbDialect implements Dialect {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<String> formatExplainStatement(String sql, boolean analyze) {
+        return Optional.of((analyze ? "analyze " : "explain ") + sql);
+    }
+
     @Override
     public boolean supports(Capability capability) {
         return SUPPORTED_CAPS.contains(capability);
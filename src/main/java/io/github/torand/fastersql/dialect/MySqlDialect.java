@@ -17,6 +17,7 @@ package io.github.torand.fastersql.dialect;
 
 import io.github.torand.fastersql.function.singlerow.cast.DataType;
 
+import java.time.Duration;
 import java.util.EnumSet;
 import java.util.Optional;
 
@@ -26,7 +27,7 @@ import static io.github.torand.fastersql.dialect.Capability.*;
  * Defines the <a href="https://dev.mysql.com/doc/refman/8.4/en/">MySQL</a> SQL dialect.
  */
 public class MySqlDialect implements Dialect {
-    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CURRENT_TIME, MODULO_OPERATOR, SELECT_FOR_UPDATE, TRUNCATE_TABLE, SET_OPERATION_PARENTHESES);
+    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CURRENT_TIME, MODULO_OPERATOR, SELECT_FOR_UPDATE, TRUNCATE_TABLE, SET_OPERATION_PARENTHESES, UPSERT_ON_DUPLICATE_KEY, UPDATE_JOIN, DELETE_JOIN, DML_LIMIT, COMMON_TABLE_EXPRESSION, WITH_RECURSIVE, WINDOW_FUNCTIONS, LATERAL_JOIN, SELECT_FOR_UPDATE_OF, SELECT_FOR_UPDATE_NOWAIT, SELECT_FOR_UPDATE_SKIP_LOCKED, INDEX_HINTS);
 
     /**
      * Creates a MySQL {@link Dialect} implementation.
@@ -104,6 +105,23 @@ public class MySqlDialect implements Dialect {
         return Optional.empty();
     }
 
+    @Override
+    public int getStreamingFetchSize(int fetchSize) {
+        // Connector/J reads the entire result into memory unless row-by-row streaming is requested like this,
+        // or the useCursorFetch connection property is enabled.
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public Optional<String> formatQueryTimeoutHint(Duration timeout) {
+        return Optional.of("/*+ MAX_EXECUTION_TIME(%d) */".formatted(timeout.toMillis()));
+    }
+
+    @Override
+    public Optional<String> formatExplainStatement(String sql, boolean analyze) {
+        return Optional.of((analyze ? "explain analyze " : "explain ") + sql);
+    }
+
     @Override
     public boolean supports(Capability capability) {
         return SUPPORTED_CAPS.contains(capability);
@@ -39,7 +39,7 @@ public class OracleDialect implements Dialect {
      * Creates an Oracle {@link Dialect} implementation.
      */
     public OracleDialect() {
-        this(EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, NULL_ORDERING, SELECT_FOR_UPDATE, TRUNCATE_TABLE, FULL_OUTER_JOIN, SET_OPERATION_PARENTHESES));
+        this(EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, NULL_ORDERING, SELECT_FOR_UPDATE, TRUNCATE_TABLE, FULL_OUTER_JOIN, SET_OPERATION_PARENTHESES, MERGE, DML_ROWNUM, COMMON_TABLE_EXPRESSION, CTE_MATERIALIZE_HINT, WINDOW_FUNCTIONS, CROSS_APPLY, SELECT_FOR_UPDATE_NOWAIT, SELECT_FOR_UPDATE_SKIP_LOCKED, SELECT_FOR_UPDATE_WAIT, OPTIMIZER_HINTS));
     }
 
     private OracleDialect(EnumSet<Capability> capabilities) {
@@ -56,6 +56,11 @@ public class OracleDialect implements Dialect {
         return Optional.of("rownum");
     }
 
+    @Override
+    public Optional<String> getRowIdColumnName() {
+        return Optional.of("ROWID");
+    }
+
     @Override
     public String formatSetOperator(SetOperator setOperator) {
         return setOperator == SetOperator.EXCEPT ? "minus" : setOperator.sql();
@@ -102,6 +107,16 @@ public class OracleDialect implements Dialect {
         });
     }
 
+    @Override
+    public Optional<String> formatExplainStatement(String sql, boolean analyze) {
+        return analyze ? Optional.empty() : Optional.of("explain plan for " + sql);
+    }
+
+    @Override
+    public Optional<String> formatExplainPlanQuery() {
+        return Optional.of("select plan_table_output from table(dbms_xplan.display())");
+    }
+
     @Override
     public boolean supports(Capability capability) {
         return supportedCaps.contains(capability);
@@ -17,6 +17,7 @@ package io.github.torand.fastersql.dialect;
 
 import io.github.torand.fastersql.function.singlerow.cast.DataType;
 
+import java.time.Duration;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
@@ -28,7 +29,7 @@ import static io.github.torand.javacommons.lang.StringHelper.generate;
  * Defines the <a href="https://www.postgresql.org/docs/current/">PostgreSQL</a> SQL dialect
  */
 public class PostgreSqlDialect implements Dialect {
-    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, MODULO_OPERATOR, CURRENT_TIME, NULL_ORDERING, SELECT_FOR_UPDATE, TRUNCATE_TABLE, FULL_OUTER_JOIN, SET_OPERATION_PARENTHESES);
+    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, MODULO_OPERATOR, CURRENT_TIME, NULL_ORDERING, SELECT_FOR_UPDATE, TRUNCATE_TABLE, FULL_OUTER_JOIN, SET_OPERATION_PARENTHESES, UPSERT_ON_CONFLICT, INSERT_RETURNING, UPDATE_FROM, DELETE_USING, COMMON_TABLE_EXPRESSION, WITH_RECURSIVE, CTE_MATERIALIZED, WINDOW_FUNCTIONS, LATERAL_JOIN, SELECT_FOR_UPDATE_OF, SELECT_FOR_UPDATE_NOWAIT, SELECT_FOR_UPDATE_SKIP_LOCKED);
 
     /**
      * Creates a PostgreSQL {@link Dialect} implementation.
@@ -52,6 +53,11 @@ public class PostgreSqlDialect implements Dialect {
         return Optional.of("limit ?");
     }
 
+    @Override
+    public Optional<String> getRowIdColumnName() {
+        return Optional.of("ctid");
+    }
+
     @Override
     public String formatToNumberFunction(String operand, int precision, int scale) {
         StringBuilder mask = new StringBuilder();
@@ -80,6 +86,17 @@ public class PostgreSqlDialect implements Dialect {
         throw new UnsupportedOperationException("PostgreSQL does not support the mod() function (use the modulo infix operator instead)");
     }
 
+    @Override
+    public boolean cursorFetchRequiresTransaction() {
+        // The PostgreSQL driver ignores the fetch size and reads the entire result when auto-commit is enabled
+        return true;
+    }
+
+    @Override
+    public Optional<String> formatStatementTimeoutCommand(Duration timeout) {
+        return Optional.of("set local statement_timeout = %d".formatted(timeout.toMillis()));
+    }
+
     @Override
     public Optional<String> getDataType(DataType dataType) {
         // https://www.postgresql.org/docs/current/datatype.html
@@ -104,6 +121,11 @@ public class PostgreSqlDialect implements Dialect {
         });
     }
 
+    @Override
+    public Optional<String> formatExplainStatement(String sql, boolean analyze) {
+        return Optional.of((analyze ? "explain analyze " : "explain ") + sql);
+    }
+
     @Override
     public boolean supports(Capability capability) {
         return SUPPORTED_CAPS.contains(capability);
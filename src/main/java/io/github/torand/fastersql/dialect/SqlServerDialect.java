@@ -38,7 +38,7 @@ public class SqlServerDialect implements Dialect {
      * Creates a Microsoft SQL Server {@link Dialect} implementation.
      */
     public SqlServerDialect() {
-        this(EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, MODULO_OPERATOR, TRUNCATE_TABLE, FULL_OUTER_JOIN));
+        this(EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, MODULO_OPERATOR, TRUNCATE_TABLE, FULL_OUTER_JOIN, MERGE, INSERT_OUTPUT, UPDATE_FROM_JOIN, DELETE_JOIN, DML_TOP, COMMON_TABLE_EXPRESSION, WINDOW_FUNCTIONS, CROSS_APPLY, LOCKING_TABLE_HINTS, TABLE_HINTS, QUERY_OPTIONS));
     }
 
     private SqlServerDialect(EnumSet<Capability> capabilities) {
@@ -121,6 +121,17 @@ public class SqlServerDialect implements Dialect {
         return Optional.of("+");
     }
 
+    @Override
+    public Optional<String> formatExplainStatement(String sql, boolean analyze) {
+        // The statement itself returns the plan while the SHOWPLAN_XML session mode is enabled
+        return analyze ? Optional.empty() : Optional.of(sql);
+    }
+
+    @Override
+    public Optional<String> formatExplainSessionCommand(boolean enable) {
+        return Optional.of("set showplan_xml " + (enable ? "on" : "off"));
+    }
+
     @Override
     public boolean supports(Capability capability) {
         return supportedCaps.contains(capability);
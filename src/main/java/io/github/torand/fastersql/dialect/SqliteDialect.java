@@ -26,7 +26,7 @@ import static io.github.torand.fastersql.dialect.Capability.*;
  * Defines the <a href="https://www.sqlite.org/lang.html">SQLite</a> SQL dialect.
  */
 public class SqliteDialect implements Dialect {
-    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, MODULO_OPERATOR, CURRENT_TIME, NULL_ORDERING, FULL_OUTER_JOIN);
+    private static final EnumSet<Capability> SUPPORTED_CAPS = EnumSet.of(LIMIT_OFFSET, CONCAT_OPERATOR, MODULO_OPERATOR, CURRENT_TIME, NULL_ORDERING, FULL_OUTER_JOIN, UPSERT_ON_CONFLICT, INSERT_RETURNING, COMMON_TABLE_EXPRESSION, WITH_RECURSIVE, WINDOW_FUNCTIONS);
 
     /**
      * Creates a SQLite {@link Dialect} implementation.
@@ -60,6 +60,11 @@ public class SqliteDialect implements Dialect {
         return Optional.of("row_number()");
     }
 
+    @Override
+    public Optional<String> getRowIdColumnName() {
+        return Optional.of("rowid");
+    }
+
     @Override
     public String formatToNumberFunction(String operand, int precision, int scale) {
         return "cast(" + operand + " as decimal)";
@@ -99,6 +104,11 @@ public class SqliteDialect implements Dialect {
         });
     }
 
+    @Override
+    public Optional<String> formatExplainStatement(String sql, boolean analyze) {
+        return analyze ? Optional.empty() : Optional.of("explain query plan " + sql);
+    }
+
     @Override
     public boolean supports(Capability capability) {
         return SUPPORTED_CAPS.contains(capability);
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.order.OrderExpression;
 import io.github.torand.fastersql.projection.Projection;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -80,6 +81,11 @@ public class Modulo implements Expression, OrderExpression {
         return Stream.concat(dividend.aliasRefs(), divisor.aliasRefs());
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(dividend.subqueries(), divisor.subqueries());
+    }
+
     // Projection
 
     @Override
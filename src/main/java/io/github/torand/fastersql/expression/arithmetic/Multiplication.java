@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.order.OrderExpression;
 import io.github.torand.fastersql.projection.Projection;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -75,6 +76,11 @@ public class Multiplication implements Expression, OrderExpression {
         return Stream.concat(firstFactor.aliasRefs(), secondFactor.aliasRefs());
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(firstFactor.subqueries(), secondFactor.subqueries());
+    }
+
     // Projection
 
     @Override
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.order.OrderExpression;
 import io.github.torand.fastersql.projection.Projection;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -68,6 +69,11 @@ public class Negate implements Expression, OrderExpression {
         return expression.aliasRefs();
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return expression.subqueries();
+    }
+
     // Projection
 
     @Override
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.order.OrderExpression;
 import io.github.torand.fastersql.projection.Projection;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -65,6 +66,11 @@ public class Subtraction implements Expression, OrderExpression {
         return Stream.concat(minuend.aliasRefs(), subtrahend.aliasRefs());
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(minuend.subqueries(), subtrahend.subqueries());
+    }
+
     // Projection
 
     @Override
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.projection.Projection;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.List;
 import java.util.Optional;
@@ -84,6 +85,14 @@ public class SearchedCase implements Expression {
         );
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(
+            streamSafely(whenThenExpressions).flatMap(SearchedWhenThen::subqueries),
+            Stream.ofNullable(elseExpression).flatMap(Sql::subqueries)
+        );
+    }
+
     // Projection
 
     @Override
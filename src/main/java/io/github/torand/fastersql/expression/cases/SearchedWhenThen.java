@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -59,4 +60,9 @@ class SearchedWhenThen implements Sql {
     public Stream<ColumnAlias> aliasRefs() {
         return Stream.concat(when.aliasRefs(), then.aliasRefs());
     }
+
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(when.subqueries(), then.subqueries());
+    }
 }
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.projection.Projection;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.List;
 import java.util.Optional;
@@ -91,6 +92,15 @@ public class SimpleCase implements Expression {
         );
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return concatStreams(
+            caseExpression.subqueries(),
+            streamSafely(whenThenExpressions).flatMap(SimpleWhenThen::subqueries),
+            Stream.ofNullable(elseExpression).flatMap(Sql::subqueries)
+        );
+    }
+
     // Projection
 
     @Override
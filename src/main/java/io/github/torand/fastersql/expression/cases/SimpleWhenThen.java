@@ -20,6 +20,7 @@ import io.github.torand.fastersql.expression.Expression;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -58,4 +59,9 @@ class SimpleWhenThen implements Sql {
     public Stream<ColumnAlias> aliasRefs() {
         return Stream.concat(when.aliasRefs(), then.aliasRefs());
     }
+
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(when.subqueries(), then.subqueries());
+    }
 }
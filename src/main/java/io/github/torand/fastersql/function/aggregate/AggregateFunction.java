@@ -16,10 +16,21 @@
 package io.github.torand.fastersql.function.aggregate;
 
 import io.github.torand.fastersql.function.ColumnFunction;
+import io.github.torand.fastersql.function.window.Window;
+import io.github.torand.fastersql.function.window.WindowFunction;
+import io.github.torand.fastersql.function.window.WindowFunctions;
 
 /**
  * Defines a function that returns a single value based upon a set of other values fetched from multiple rows.
  */
 public interface AggregateFunction extends ColumnFunction {
 
+    /**
+     * Computes this aggregate over a window of rows, e.g. a running total, without collapsing the rows.
+     * @param window the window.
+     * @return the window function.
+     */
+    default WindowFunction over(Window window) {
+        return WindowFunctions.over(this, window);
+    }
 }
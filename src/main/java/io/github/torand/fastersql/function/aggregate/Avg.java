@@ -20,6 +20,7 @@ import io.github.torand.fastersql.expression.Expression;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.projection.Projection;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -62,6 +63,11 @@ public class Avg implements AggregateFunction {
         return expression.aliasRefs();
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return expression.subqueries();
+    }
+
     // Projection
 
     @Override
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.projection.Projection;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -74,6 +75,11 @@ public class Concat implements SingleRowFunction {
         return streamSafely(expressions).flatMap(Sql::aliasRefs);
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return streamSafely(expressions).flatMap(Sql::subqueries);
+    }
+
     // Projection
 
     @Override
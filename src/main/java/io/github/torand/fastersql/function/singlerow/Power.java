@@ -22,6 +22,7 @@ import io.github.torand.fastersql.expression.arithmetic.Subtraction;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.projection.Projection;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -81,6 +82,11 @@ public class Power implements SingleRowFunction {
         return Stream.concat(base.aliasRefs(), exponent.aliasRefs());
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(base.subqueries(), exponent.subqueries());
+    }
+
     // Projection
 
     @Override
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.function.window;
+
+import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.sql.Sql;
+
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implements a start or end bound of a window frame.
+ */
+public class FrameBound implements Sql {
+    private final String boundSql;
+
+    FrameBound(String boundSql) {
+        this.boundSql = requireNonNull(boundSql, "No bound specified");
+    }
+
+    // Sql
+
+    @Override
+    public String sql(Context context) {
+        return boundSql;
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        return Stream.empty();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.function.window;
+
+import io.github.torand.fastersql.expression.Expression;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.order.Order;
+import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.asList;
+import static io.github.torand.javacommons.collection.CollectionHelper.concat;
+import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Implements the window specification of an OVER clause, i.e. the partitioning, ordering and frame
+ * of the rows a window function is computed over.
+ */
+public class Window implements Sql {
+    private final List<Expression> partitions;
+    private final List<Order> orders;
+    private final String frameUnit;
+    private final FrameBound frameStart;
+    private final FrameBound frameEnd;
+
+    Window(List<Expression> partitions, List<Order> orders, String frameUnit, FrameBound frameStart, FrameBound frameEnd) {
+        this.partitions = asList(partitions);
+        this.orders = asList(orders);
+        this.frameUnit = frameUnit;
+        this.frameStart = frameStart;
+        this.frameEnd = frameEnd;
+    }
+
+    /**
+     * Adds one or more expressions to the PARTITION BY clause.
+     * @param partitions the partition expressions.
+     * @return the modified window.
+     */
+    public Window partitionBy(Expression... partitions) {
+        requireNonEmpty(partitions, "No partitions specified");
+        return new Window(concat(this.partitions, partitions), orders, frameUnit, frameStart, frameEnd);
+    }
+
+    /**
+     * Adds one or more ORDER clauses.
+     * @param orders the ORDER clauses.
+     * @return the modified window.
+     */
+    public Window orderBy(Order... orders) {
+        requireNonEmpty(orders, "No orders specified");
+        return new Window(partitions, concat(this.orders, orders), frameUnit, frameStart, frameEnd);
+    }
+
+    /**
+     * Specifies a frame of physical rows, from specified bound to the current row.
+     * @param start the start bound.
+     * @return the modified window.
+     */
+    public Window rows(FrameBound start) {
+        requireNonNull(start, "No start bound specified");
+        return new Window(partitions, orders, "rows", start, null);
+    }
+
+    /**
+     * Specifies a frame of physical rows between specified bounds.
+     * @param start the start bound.
+     * @param end the end bound.
+     * @return the modified window.
+     */
+    public Window rowsBetween(FrameBound start, FrameBound end) {
+        requireNonNull(start, "No start bound specified");
+        requireNonNull(end, "No end bound specified");
+        return new Window(partitions, orders, "rows", start, end);
+    }
+
+    /**
+     * Specifies a frame of rows with ordering values within specified bounds.
+     * Some SQL dialects support unbounded and current row bounds only.
+     * @param start the start bound.
+     * @param end the end bound.
+     * @return the modified window.
+     */
+    public Window rangeBetween(FrameBound start, FrameBound end) {
+        requireNonNull(start, "No start bound specified");
+        requireNonNull(end, "No end bound specified");
+        return new Window(partitions, orders, "range", start, end);
+    }
+
+    // Sql
+
+    @Override
+    public String sql(Context context) {
+        List<String> clauses = new ArrayList<>();
+
+        if (nonEmpty(partitions)) {
+            clauses.add("partition by " + streamSafely(partitions).map(p -> p.sql(context)).collect(joining(", ")));
+        }
+
+        if (nonEmpty(orders)) {
+            clauses.add("order by " + streamSafely(orders).map(o -> o.sql(context)).collect(joining(", ")));
+        }
+
+        if (nonNull(frameUnit)) {
+            clauses.add(frameUnit + " " + (nonNull(frameEnd)
+                ? "between " + frameStart.sql(context) + " and " + frameEnd.sql(context)
+                : frameStart.sql(context)));
+        }
+
+        return String.join(" ", clauses);
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        return streamSafely(partitions).flatMap(p -> p.params(context));
+    }
+
+    @Override
+    public Stream<Column> columnRefs() {
+        return Stream.concat(
+            streamSafely(partitions).flatMap(Expression::columnRefs),
+            streamSafely(orders).flatMap(Order::columnRefs));
+    }
+
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(
+            streamSafely(partitions).flatMap(Expression::subqueries),
+            streamSafely(orders).flatMap(Order::subqueries));
+    }
+}
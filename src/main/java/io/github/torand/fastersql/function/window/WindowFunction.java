@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.function.window;
+
+import io.github.torand.fastersql.alias.ColumnAlias;
+import io.github.torand.fastersql.function.ColumnFunction;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.projection.Projection;
+import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.dialect.Capability.WINDOW_FUNCTIONS;
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implements a window function, i.e. a function computed over a window of rows related to the current row,
+ * without collapsing the rows like an aggregate function does.
+ */
+public class WindowFunction implements ColumnFunction {
+    private final Sql function;
+    private final Window window;
+    private final String aliasPrefix;
+    private final ColumnAlias alias;
+
+    WindowFunction(Sql function, Window window, String aliasPrefix, String alias) {
+        this.function = requireNonNull(function, "No function specified");
+        this.window = requireNonNull(window, "No window specified");
+        this.aliasPrefix = aliasPrefix;
+        this.alias = nonBlank(alias) ? new ColumnAlias(alias) : ColumnAlias.generate(aliasPrefix);
+    }
+
+    // Sql
+
+    @Override
+    public String sql(Context context) {
+        if (!context.getDialect().supports(WINDOW_FUNCTIONS)) {
+            throw new UnsupportedOperationException("%s does not support window functions".formatted(context.getDialect().getProductName()));
+        }
+
+        return function.sql(context) + " over (" + window.sql(context) + ")";
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        return Stream.concat(function.params(context), window.params(context));
+    }
+
+    @Override
+    public Stream<Column> columnRefs() {
+        return Stream.concat(function.columnRefs(), window.columnRefs());
+    }
+
+    @Override
+    public Stream<ColumnAlias> aliasRefs() {
+        return function.aliasRefs();
+    }
+
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(function.subqueries(), window.subqueries());
+    }
+
+    // Projection
+
+    @Override
+    public Projection as(String alias) {
+        requireNonBlank(alias, "No alias specified");
+        return new WindowFunction(function, window, aliasPrefix, alias);
+    }
+
+    @Override
+    public Optional<ColumnAlias> alias() {
+        return Optional.ofNullable(alias);
+    }
+}
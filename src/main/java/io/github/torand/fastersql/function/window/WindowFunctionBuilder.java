@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.function.window;
+
+import io.github.torand.fastersql.expression.Expression;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.asList;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Builds a ranking or value window function, which is valid only when followed by an OVER clause.
+ */
+public class WindowFunctionBuilder {
+    private final String name;
+    private final List<Expression> arguments;
+
+    WindowFunctionBuilder(String name, List<Expression> arguments) {
+        this.name = requireNonNull(name, "No name specified");
+        this.arguments = asList(arguments);
+    }
+
+    /**
+     * Specifies the window of rows the function is computed over.
+     * @param window the window.
+     * @return the window function.
+     */
+    public WindowFunction over(Window window) {
+        return new WindowFunction(new Invocation(), window, name.toUpperCase() + "_", null);
+    }
+
+    /**
+     * Specifies that the function is computed over all rows of the result.
+     * @return the window function.
+     */
+    public WindowFunction over() {
+        return over(WindowFunctions.window());
+    }
+
+    private class Invocation implements Sql {
+
+        @Override
+        public String sql(Context context) {
+            return name + "(" + streamSafely(arguments).map(a -> a.sql(context)).collect(joining(", ")) + ")";
+        }
+
+        @Override
+        public Stream<Object> params(Context context) {
+            return streamSafely(arguments).flatMap(a -> a.params(context));
+        }
+
+        @Override
+        public Stream<Column> columnRefs() {
+            return streamSafely(arguments).flatMap(Expression::columnRefs);
+        }
+
+        @Override
+        public Stream<Subquery> subqueries() {
+            return streamSafely(arguments).flatMap(Expression::subqueries);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.function.window;
+
+import io.github.torand.fastersql.expression.Expression;
+import io.github.torand.fastersql.function.aggregate.AggregateFunction;
+import io.github.torand.fastersql.order.Order;
+
+import java.util.List;
+
+import static io.github.torand.fastersql.constant.Constants.$i;
+import static io.github.torand.javacommons.contract.Requires.require;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Provides factory methods for window functions, windows and window frame bounds.
+ */
+public final class WindowFunctions {
+    private WindowFunctions() {}
+
+    /**
+     * Creates the row number window function, numbering the rows of each partition sequentially from 1.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder rowNumber() {
+        return new WindowFunctionBuilder("row_number", emptyList());
+    }
+
+    /**
+     * Creates the rank window function, ranking the rows of each partition with gaps after ties.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder rank() {
+        return new WindowFunctionBuilder("rank", emptyList());
+    }
+
+    /**
+     * Creates the dense rank window function, ranking the rows of each partition without gaps after ties.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder denseRank() {
+        return new WindowFunctionBuilder("dense_rank", emptyList());
+    }
+
+    /**
+     * Creates the ntile window function, distributing the rows of each partition into a number of ranked buckets.
+     * @param buckets the number of buckets.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder ntile(int buckets) {
+        require(() -> buckets > 0, "Number of buckets must be positive");
+        return new WindowFunctionBuilder("ntile", List.of($i(buckets)));
+    }
+
+    /**
+     * Creates the lag window function, giving the value of an expression in the previous row of the partition.
+     * @param expression the expression.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder lag(Expression expression) {
+        requireNonNull(expression, "No expression specified");
+        return new WindowFunctionBuilder("lag", List.of(expression));
+    }
+
+    /**
+     * Creates the lag window function, giving the value of an expression in a preceding row of the partition.
+     * @param expression the expression.
+     * @param offset the number of rows preceding the current row.
+     * @param defaultValue the value given when the offset is beyond the partition.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder lag(Expression expression, int offset, Expression defaultValue) {
+        requireNonNull(expression, "No expression specified");
+        requireNonNull(defaultValue, "No default value specified");
+        return new WindowFunctionBuilder("lag", List.of(expression, $i(offset), defaultValue));
+    }
+
+    /**
+     * Creates the lead window function, giving the value of an expression in the next row of the partition.
+     * @param expression the expression.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder lead(Expression expression) {
+        requireNonNull(expression, "No expression specified");
+        return new WindowFunctionBuilder("lead", List.of(expression));
+    }
+
+    /**
+     * Creates the lead window function, giving the value of an expression in a succeeding row of the partition.
+     * @param expression the expression.
+     * @param offset the number of rows succeeding the current row.
+     * @param defaultValue the value given when the offset is beyond the partition.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder lead(Expression expression, int offset, Expression defaultValue) {
+        requireNonNull(expression, "No expression specified");
+        requireNonNull(defaultValue, "No default value specified");
+        return new WindowFunctionBuilder("lead", List.of(expression, $i(offset), defaultValue));
+    }
+
+    /**
+     * Creates the first value window function, giving the value of an expression in the first row of the window frame.
+     * @param expression the expression.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder firstValue(Expression expression) {
+        requireNonNull(expression, "No expression specified");
+        return new WindowFunctionBuilder("first_value", List.of(expression));
+    }
+
+    /**
+     * Creates the last value window function, giving the value of an expression in the last row of the window frame.
+     * @param expression the expression.
+     * @return the window function builder.
+     */
+    public static WindowFunctionBuilder lastValue(Expression expression) {
+        requireNonNull(expression, "No expression specified");
+        return new WindowFunctionBuilder("last_value", List.of(expression));
+    }
+
+    /**
+     * Creates an aggregate function computed over a window of rows, e.g. a running total, without collapsing the rows.
+     * @param aggregate the aggregate function.
+     * @param window the window.
+     * @return the window function.
+     */
+    public static WindowFunction over(AggregateFunction aggregate, Window window) {
+        requireNonNull(aggregate, "No aggregate function specified");
+        return new WindowFunction(aggregate, window, "OVER_", null);
+    }
+
+    /**
+     * Creates an empty window, i.e. all rows of the result.
+     * @return the window.
+     */
+    public static Window window() {
+        return new Window(null, null, null, null, null);
+    }
+
+    /**
+     * Creates a window partitioned by specified expressions.
+     * @param partitions the partition expressions.
+     * @return the window.
+     */
+    public static Window partitionBy(Expression... partitions) {
+        return window().partitionBy(partitions);
+    }
+
+    /**
+     * Creates a window ordered by specified ORDER clauses.
+     * @param orders the ORDER clauses.
+     * @return the window.
+     */
+    public static Window orderBy(Order... orders) {
+        return window().orderBy(orders);
+    }
+
+    /**
+     * Creates the frame bound of the first row of the partition.
+     * @return the frame bound.
+     */
+    public static FrameBound unboundedPreceding() {
+        return new FrameBound("unbounded preceding");
+    }
+
+    /**
+     * Creates the frame bound of a row preceding the current row.
+     * @param rows the number of rows preceding the current row.
+     * @return the frame bound.
+     */
+    public static FrameBound preceding(long rows) {
+        require(() -> rows >= 0, "Number of rows must not be negative");
+        return new FrameBound(rows + " preceding");
+    }
+
+    /**
+     * Creates the frame bound of the current row.
+     * @return the frame bound.
+     */
+    public static FrameBound currentRow() {
+        return new FrameBound("current row");
+    }
+
+    /**
+     * Creates the frame bound of a row succeeding the current row.
+     * @param rows the number of rows succeeding the current row.
+     * @return the frame bound.
+     */
+    public static FrameBound following(long rows) {
+        require(() -> rows >= 0, "Number of rows must not be negative");
+        return new FrameBound(rows + " following");
+    }
+
+    /**
+     * Creates the frame bound of the last row of the partition.
+     * @return the frame bound.
+     */
+    public static FrameBound unboundedFollowing() {
+        return new FrameBound("unbounded following");
+    }
+}
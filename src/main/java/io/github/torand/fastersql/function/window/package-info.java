@@ -0,0 +1,4 @@
+/**
+ * Provides classes and interfaces related to window functions.
+ */
+package io.github.torand.fastersql.function.window;
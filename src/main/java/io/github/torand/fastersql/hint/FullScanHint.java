@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.hint;
+
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.Optional;
+
+import static io.github.torand.fastersql.dialect.Capability.OPTIMIZER_HINTS;
+import static io.github.torand.fastersql.dialect.Capability.TABLE_HINTS;
+import static io.github.torand.fastersql.hint.IndexHint.tableRef;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implements a hint to access a table by a full table scan, rather than by an index.
+ */
+public class FullScanHint implements Hint {
+    private final Table table;
+
+    FullScanHint(Table table) {
+        this.table = requireNonNull(table, "No table specified");
+    }
+
+    // Hint
+
+    @Override
+    public Optional<String> optimizerHintSql(Context context) {
+        if (!context.getDialect().supports(OPTIMIZER_HINTS)) {
+            return Optional.empty();
+        }
+
+        return Optional.of("full(" + tableRef(context, table) + ")");
+    }
+
+    @Override
+    public Optional<String> tableHintSql(Context context, Table table) {
+        if (this.table.name().equals(table.name()) && context.getDialect().supports(TABLE_HINTS)) {
+            // Index 0 denotes the heap or clustered index
+            return Optional.of("index(0)");
+        }
+
+        return Optional.empty();
+    }
+}
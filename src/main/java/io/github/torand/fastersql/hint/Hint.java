@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.hint;
+
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.Optional;
+
+/**
+ * Defines a hint instructing the query optimizer of the database on how to execute a statement.
+ * <p>
+ * A hint may be formatted in up to three places, depending on the SQL dialect: as an optimizer hint comment
+ * succeeding the statement command keyword, as a table hint succeeding a table reference, or as a query option
+ * succeeding the statement. Hints not supported by the SQL dialect are ignored.
+ * </p>
+ */
+public interface Hint {
+
+    /**
+     * Formats the hint as an entry of an optimizer hint comment (<code>/*+ ... *&#47;</code>), if supported by the SQL dialect.
+     * @param context the context (incl. dialect).
+     * @return the formatted SQL fragment, if any.
+     */
+    default Optional<String> optimizerHintSql(Context context) {
+        return Optional.empty();
+    }
+
+    /**
+     * Formats the hint as a table hint of specified table, if supported by the SQL dialect and applicable to the table.
+     * @param context the context (incl. dialect).
+     * @param table the table referenced by the statement.
+     * @return the formatted SQL fragment, if any.
+     */
+    default Optional<String> tableHintSql(Context context, Table table) {
+        return Optional.empty();
+    }
+
+    /**
+     * Formats the hint as an entry of a query option clause, if supported by the SQL dialect.
+     * @param context the context (incl. dialect).
+     * @return the formatted SQL fragment, if any.
+     */
+    default Optional<String> queryOptionSql(Context context) {
+        return Optional.empty();
+    }
+}
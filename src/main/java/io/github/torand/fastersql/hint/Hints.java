@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.hint;
+
+import io.github.torand.fastersql.model.Table;
+
+/**
+ * Provides factory methods for optimizer and index hints.
+ */
+public final class Hints {
+    private Hints() {}
+
+    /**
+     * Creates a hint to use specified index when accessing a table, if the optimizer finds it applicable.
+     * Formatted as an optimizer hint comment on Oracle, USE INDEX on MySQL and MariaDB, and a table hint on SQL Server.
+     * @param table the table.
+     * @param indexName the index name.
+     * @return the hint.
+     */
+    public static IndexHint useIndex(Table table, String indexName) {
+        return new IndexHint(table, indexName, IndexHint.Mode.USE);
+    }
+
+    /**
+     * Creates a hint to use specified index when accessing a table, unless not applicable at all.
+     * Formatted as an optimizer hint comment on Oracle, FORCE INDEX on MySQL and MariaDB, and a table hint on SQL Server.
+     * @param table the table.
+     * @param indexName the index name.
+     * @return the hint.
+     */
+    public static IndexHint forceIndex(Table table, String indexName) {
+        return new IndexHint(table, indexName, IndexHint.Mode.FORCE);
+    }
+
+    /**
+     * Creates a hint to not use specified index when accessing a table.
+     * Formatted as an optimizer hint comment on Oracle, and IGNORE INDEX on MySQL and MariaDB.
+     * @param table the table.
+     * @param indexName the index name.
+     * @return the hint.
+     */
+    public static IndexHint ignoreIndex(Table table, String indexName) {
+        return new IndexHint(table, indexName, IndexHint.Mode.IGNORE);
+    }
+
+    /**
+     * Creates a hint to access a table by a full table scan.
+     * Formatted as an optimizer hint comment on Oracle, and a table hint on SQL Server.
+     * @param table the table.
+     * @return the hint.
+     */
+    public static FullScanHint fullScan(Table table) {
+        return new FullScanHint(table);
+    }
+
+    /**
+     * Creates a hint specifying the degree of parallelism of a statement.
+     * Formatted as an optimizer hint comment on Oracle, and a query option on SQL Server.
+     * @param degree the degree of parallelism.
+     * @return the hint.
+     */
+    public static ParallelHint parallel(int degree) {
+        return new ParallelHint(degree);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.hint;
+
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.Optional;
+
+import static io.github.torand.fastersql.dialect.Capability.INDEX_HINTS;
+import static io.github.torand.fastersql.dialect.Capability.OPTIMIZER_HINTS;
+import static io.github.torand.fastersql.dialect.Capability.TABLE_HINTS;
+import static io.github.torand.fastersql.sql.Command.SELECT;
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implements a hint to use, force or ignore a specific index when accessing a table.
+ */
+public class IndexHint implements Hint {
+
+    /**
+     * The index hint modes.
+     */
+    public enum Mode {
+        /** Use the index, if the optimizer finds it applicable. */
+        USE,
+        /** Use the index, unless not applicable at all. */
+        FORCE,
+        /** Do not use the index. */
+        IGNORE
+    }
+
+    private final Table table;
+    private final String indexName;
+    private final Mode mode;
+
+    IndexHint(Table table, String indexName, Mode mode) {
+        this.table = requireNonNull(table, "No table specified");
+        this.indexName = requireNonBlank(indexName, "No index name specified");
+        this.mode = requireNonNull(mode, "No mode specified");
+    }
+
+    // Hint
+
+    @Override
+    public Optional<String> optimizerHintSql(Context context) {
+        if (!context.getDialect().supports(OPTIMIZER_HINTS)) {
+            return Optional.empty();
+        }
+
+        return Optional.of((mode == Mode.IGNORE ? "no_index" : "index") + "(" + tableRef(context, table) + " " + indexName + ")");
+    }
+
+    @Override
+    public Optional<String> tableHintSql(Context context, Table table) {
+        if (!this.table.name().equals(table.name())) {
+            return Optional.empty();
+        }
+
+        if (context.getDialect().supports(INDEX_HINTS)) {
+            return Optional.of(mode.name().toLowerCase() + " index (" + indexName + ")");
+        } else if (context.getDialect().supports(TABLE_HINTS) && mode != Mode.IGNORE) {
+            return Optional.of("index(" + indexName + ")");
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Formats the reference to a table within an optimizer hint comment, i.e. the table alias in queries and the table name else.
+     * @param context the context (incl. dialect).
+     * @param table the table.
+     * @return the formatted table reference.
+     */
+    static String tableRef(Context context, Table table) {
+        return context.isCommand(SELECT) ? table.alias().name() : table.name();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.hint;
+
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.Optional;
+
+import static io.github.torand.fastersql.dialect.Capability.OPTIMIZER_HINTS;
+import static io.github.torand.fastersql.dialect.Capability.QUERY_OPTIONS;
+import static io.github.torand.javacommons.contract.Requires.require;
+
+/**
+ * Implements a hint specifying the degree of parallelism, i.e. the maximum number of processes or threads executing a statement.
+ */
+public class ParallelHint implements Hint {
+    private final int degree;
+
+    ParallelHint(int degree) {
+        require(() -> degree > 0, "Degree of parallelism must be positive");
+        this.degree = degree;
+    }
+
+    // Hint
+
+    @Override
+    public Optional<String> optimizerHintSql(Context context) {
+        if (!context.getDialect().supports(OPTIMIZER_HINTS)) {
+            return Optional.empty();
+        }
+
+        return Optional.of("parallel(" + degree + ")");
+    }
+
+    @Override
+    public Optional<String> queryOptionSql(Context context) {
+        if (!context.getDialect().supports(QUERY_OPTIONS)) {
+            return Optional.empty();
+        }
+
+        return Optional.of("maxdop " + degree);
+    }
+}
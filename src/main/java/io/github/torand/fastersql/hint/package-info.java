@@ -0,0 +1,4 @@
+/**
+ * Provides classes representing optimizer and index hints.
+ */
+package io.github.torand.fastersql.hint;
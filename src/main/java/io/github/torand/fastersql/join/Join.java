@@ -18,24 +18,34 @@ package io.github.torand.fastersql.join;
 import io.github.torand.fastersql.dialect.Capability;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.*;
 import static io.github.torand.javacommons.contract.Requires.require;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
 /**
  * Implements a JOIN clause.
+ * <p>
+ * The join condition (the ON clause) consists of column equalities and/or arbitrary predicates, e.g. range conditions,
+ * all combined using the boolean operator AND.
+ * </p>
  */
 public class Join implements Sql {
 
+    private final Table joined;
     private final List<Column> lefts;
     private final List<Column> rights;
+    private final List<Predicate> predicates;
     private final JoinMode mode;
 
     /**
@@ -46,12 +56,29 @@ public class Join implements Sql {
     public Join(Column left, Column right) {
         this.lefts = asList(requireNonNull(left, "No left column specified"));
         this.rights = asList(requireNonNull(right, "No right column specified"));
+        this.joined = right.table();
+        this.predicates = emptyList();
         this.mode = JoinMode.INNER;
     }
 
-    private Join(List<Column> lefts, List<Column> rights, JoinMode mode) {
+    /**
+     * Creates a join clause with an arbitrary join condition.
+     * @param joined the table joined with.
+     * @param condition the join condition.
+     */
+    public Join(Table joined, Predicate condition) {
+        this.joined = requireNonNull(joined, "No joined table specified");
+        this.lefts = emptyList();
+        this.rights = emptyList();
+        this.predicates = asList(requireNonNull(condition, "No join condition specified"));
+        this.mode = JoinMode.INNER;
+    }
+
+    private Join(Table joined, List<Column> lefts, List<Column> rights, List<Predicate> predicates, JoinMode mode) {
+        this.joined = joined;
         this.lefts = asList(lefts);
         this.rights = asList(rights);
+        this.predicates = asList(predicates);
         this.mode = mode;
     }
 
@@ -60,7 +87,7 @@ public class Join implements Sql {
      * @return the modified JOIN clause.
      */
     public Join leftOuter() {
-        return new Join(lefts, rights, JoinMode.LEFT_OUTER);
+        return new Join(joined, lefts, rights, predicates, JoinMode.LEFT_OUTER);
     }
 
     /**
@@ -68,7 +95,7 @@ public class Join implements Sql {
      * @return the modified JOIN clause.
      */
     public Join rightOuter() {
-        return new Join(lefts, rights, JoinMode.RIGHT_OUTER);
+        return new Join(joined, lefts, rights, predicates, JoinMode.RIGHT_OUTER);
     }
 
     /**
@@ -76,7 +103,7 @@ public class Join implements Sql {
      * @return the modified JOIN clause.
      */
     public Join fullOuter() {
-        return new Join(lefts, rights, JoinMode.FULL_OUTER);
+        return new Join(joined, lefts, rights, predicates, JoinMode.FULL_OUTER);
     }
 
     /**
@@ -85,13 +112,25 @@ public class Join implements Sql {
      * @return the nested JOIN clause.
      */
     public Join and(Join next) {
-        require(() -> headOf(this.lefts).table().equals(headOf(next.lefts).table()), "Left side of nested joins must belong to the same table");
-        require(() -> headOf(this.rights).table().equals(headOf(next.rights).table()), "Right side of nested joins must belong to the same table");
+        require(() -> isEmpty(this.lefts) || isEmpty(next.lefts) || headOf(this.lefts).table().equals(headOf(next.lefts).table()), "Left side of nested joins must belong to the same table");
+        require(() -> this.joined.equals(next.joined), "Right side of nested joins must belong to the same table");
 
         List<Column> concatenatedLefts = concat(this.lefts, next.lefts);
         List<Column> concatenatedRights = concat(this.rights, next.rights);
+        List<Predicate> concatenatedPredicates = concat(this.predicates, next.predicates);
+
+        return new Join(joined, concatenatedLefts, concatenatedRights, concatenatedPredicates, mode);
+    }
 
-        return new Join(concatenatedLefts, concatenatedRights, mode);
+    /**
+     * Creates a nested JOIN clause by adding the specified predicate to the join condition of this JOIN clause,
+     * e.g. a range condition.
+     * @param condition the predicate to add.
+     * @return the nested JOIN clause.
+     */
+    public Join and(Predicate condition) {
+        requireNonNull(condition, "No join condition specified");
+        return new Join(joined, lefts, rights, concat(predicates, condition), mode);
     }
 
     /**
@@ -99,7 +138,30 @@ public class Join implements Sql {
      * @return the table joined with.
      */
     public Table joined() {
-        return headOf(rights).table();
+        return joined;
+    }
+
+    /**
+     * Indicates whether this is an INNER JOIN clause.
+     * @return true if this is an INNER JOIN clause; else false.
+     */
+    public boolean isInner() {
+        return mode == JoinMode.INNER;
+    }
+
+    /**
+     * Formats the join condition (the ON clause) as an SQL fragment, e.g. for use in a WHERE clause.
+     * @param context the context (incl. dialect).
+     * @return the formatted SQL fragment.
+     */
+    public String conditionSql(Context context) {
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < this.lefts.size(); i++) {
+            conditions.add(this.lefts.get(i).sql(context) + " = " + this.rights.get(i).sql(context));
+        }
+        streamSafely(predicates).map(p -> p.sql(context)).forEach(conditions::add);
+
+        return String.join(" and ", conditions);
     }
 
     // Sql
@@ -110,33 +172,23 @@ public class Join implements Sql {
             throw new UnsupportedOperationException("%s does not support FULL OUTER JOIN".formatted(context.getDialect().getProductName()));
         }
 
-        Table rightTable = headOf(this.rights).table();
-        StringBuilder sql = new StringBuilder()
-            .append(mode.sql)
-            .append(" ")
-            .append(rightTable.sql(context))
-            .append(" on ");
-
-        for (int i = 0; i < this.lefts.size(); i++) {
-            if (i > 0) {
-                sql.append(" and ");
-            }
-            sql.append(this.lefts.get(i).sql(context))
-                .append(" = ")
-                .append(this.rights.get(i).sql(context));
-        }
-
-        return sql.toString();
+        return mode.sql + " " + joined.sql(context) + " on " + conditionSql(context);
     }
 
     @Override
     public Stream<Object> params(Context context) {
-        return Stream.empty();
+        return streamSafely(predicates).flatMap(p -> p.params(context));
     }
 
     @Override
     public Stream<Column> columnRefs() {
-        return Stream.concat(streamSafely(lefts), streamSafely(rights));
+        return Stream.of(streamSafely(lefts), streamSafely(rights), streamSafely(predicates).flatMap(Predicate::columnRefs))
+            .flatMap(s -> s);
+    }
+
+    @Override
+    public Stream<Subquery> subqueries() {
+        return streamSafely(predicates).flatMap(Predicate::subqueries);
     }
 
 }
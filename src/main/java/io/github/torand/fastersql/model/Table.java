@@ -16,6 +16,8 @@
 package io.github.torand.fastersql.model;
 
 import io.github.torand.fastersql.alias.TableAlias;
+import io.github.torand.fastersql.join.Join;
+import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.relation.Relation;
 import io.github.torand.fastersql.sql.Context;
 
@@ -58,14 +60,24 @@ public class Table implements Relation {
         return name;
     }
 
+    /**
+     * Creates a JOIN clause joining with this table on specified condition, e.g. a range condition.
+     * @param condition the join condition.
+     * @return the JOIN clause.
+     */
+    public Join on(Predicate condition) {
+        return new Join(this, condition);
+    }
+
     // Sql
 
     @Override
     public String sql(Context context) {
+        String resolvedName = context.resolveTableName(name);
         if (context.isCommand(SELECT)) {
-            return name + " " + alias.sql(context);
+            return resolvedName + " " + alias.sql(context) + context.getTableHint(name).map(h -> " " + h).orElse("");
         } else {
-            return name;
+            return resolvedName;
         }
     }
 
@@ -19,6 +19,7 @@ import io.github.torand.fastersql.alias.ColumnAlias;
 import io.github.torand.fastersql.dialect.Capability;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -78,4 +79,9 @@ public class Ascending implements Order {
     public Stream<ColumnAlias> aliasRefs() {
         return expression.aliasRefs();
     }
+
+    @Override
+    public Stream<Subquery> subqueries() {
+        return expression.subqueries();
+    }
 }
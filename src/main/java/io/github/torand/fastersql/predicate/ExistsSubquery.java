@@ -47,6 +47,11 @@ public class ExistsSubquery implements Predicate {
         return query.params(localContext);
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.of(query);
+    }
+
     // Predicate
 
     @Override
@@ -18,6 +18,7 @@ package io.github.torand.fastersql.predicate;
 import io.github.torand.fastersql.alias.ColumnAlias;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.Collection;
 import java.util.List;
@@ -27,6 +28,7 @@ import static io.github.torand.fastersql.sql.Clause.RESTRICTION;
 import static io.github.torand.fastersql.statement.Helpers.paramMarkers;
 import static io.github.torand.javacommons.collection.CollectionHelper.asList;
 import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -41,6 +43,22 @@ public class In implements Predicate {
         this.right = asList(requireNonEmpty(right, "No right operand specified"));
     }
 
+    /**
+     * Gets the left operand of this predicate.
+     * @return the left operand.
+     */
+    public LeftOperand left() {
+        return left;
+    }
+
+    /**
+     * Gets the set of values of this predicate.
+     * @return the values.
+     */
+    public List<?> values() {
+        return unmodifiableList(right);
+    }
+
     // Sql
 
     @Override
@@ -64,6 +82,11 @@ public class In implements Predicate {
         return left.aliasRefs();
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return left.subqueries();
+    }
+
     // Predicate
 
     @Override
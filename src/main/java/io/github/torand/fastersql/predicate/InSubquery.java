@@ -61,6 +61,11 @@ public class InSubquery implements Predicate {
         return left.aliasRefs();
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(left.subqueries(), Stream.of(query));
+    }
+
     // Predicate
 
     @Override
@@ -18,6 +18,7 @@ package io.github.torand.fastersql.predicate;
 import io.github.torand.fastersql.alias.ColumnAlias;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -55,6 +56,11 @@ public class IsNull implements Predicate {
         return operand.aliasRefs();
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return operand.subqueries();
+    }
+
     // Predicate
 
     @Override
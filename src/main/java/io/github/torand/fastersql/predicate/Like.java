@@ -18,6 +18,7 @@ package io.github.torand.fastersql.predicate;
 import io.github.torand.fastersql.alias.ColumnAlias;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -61,6 +62,11 @@ public class Like implements Predicate {
         return left.aliasRefs();
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return left.subqueries();
+    }
+
     // Predicate
 
     @Override
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.predicate.LeftOperand;
 import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -66,6 +67,11 @@ public class Between implements Predicate {
         return concatStreams(left.aliasRefs(), lowerBound.aliasRefs(), upperBound.aliasRefs());
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return concatStreams(left.subqueries(), lowerBound.subqueries(), upperBound.subqueries());
+    }
+
     // Predicate
 
     public String negatedSql(Context context) {
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.predicate.LeftOperand;
 import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -39,6 +40,22 @@ public class Eq implements Predicate {
         this.right = requireNonNull(right, "No right operand specified");
     }
 
+    /**
+     * Gets the left operand of this predicate.
+     * @return the left operand.
+     */
+    public LeftOperand left() {
+        return left;
+    }
+
+    /**
+     * Gets the right operand of this predicate.
+     * @return the right operand.
+     */
+    public Expression right() {
+        return right;
+    }
+
     // Sql
 
     @Override
@@ -63,6 +80,11 @@ public class Eq implements Predicate {
         return Stream.concat(left.aliasRefs(), right.aliasRefs());
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(left.subqueries(), right.subqueries());
+    }
+
     // Predicate
 
     @Override
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.predicate.LeftOperand;
 import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -63,6 +64,11 @@ public class Ge implements Predicate {
         return Stream.concat(left.aliasRefs(), right.aliasRefs());
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.concat(left.subqueries(), right.subqueries());
+    }
+
     // Predicate
 
     public String negatedSql(Context context) {
@@ -20,12 +20,14 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.List;
 import java.util.stream.Stream;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.asList;
 import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -38,6 +40,14 @@ public class And implements Predicate {
         this.operands = asList(requireNonEmpty(operands, "No operands specified"));
     }
 
+    /**
+     * Gets the operands of this compound predicate.
+     * @return the operands.
+     */
+    public List<Predicate> operands() {
+        return unmodifiableList(operands);
+    }
+
     // Sql
 
     @Override
@@ -62,6 +72,11 @@ public class And implements Predicate {
         return operands.stream().flatMap(Sql::aliasRefs);
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return operands.stream().flatMap(Sql::subqueries);
+    }
+
     // Predicate
 
     @Override
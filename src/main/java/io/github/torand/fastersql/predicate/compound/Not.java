@@ -19,6 +19,7 @@ import io.github.torand.fastersql.alias.ColumnAlias;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -56,6 +57,11 @@ public class Not implements Predicate {
         return operand.aliasRefs();
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return operand.subqueries();
+    }
+
     // Predicate
 
     @Override
@@ -20,6 +20,7 @@ import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -60,6 +61,11 @@ public class Or implements Predicate {
         return operands.stream().flatMap(Sql::aliasRefs);
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return operands.stream().flatMap(Sql::subqueries);
+    }
+
     // Predicate
 
     @Override
@@ -16,6 +16,7 @@
 package io.github.torand.fastersql.relation;
 
 import io.github.torand.fastersql.statement.SelectStatement;
+import io.github.torand.fastersql.subquery.LateralSubquery;
 import io.github.torand.fastersql.subquery.TableSubquery;
 
 /**
@@ -32,4 +33,13 @@ public final class Relations {
     public static TableSubquery table(SelectStatement query) {
         return new TableSubquery(query);
     }
+
+    /**
+     * Creates a lateral subquery to be used in FROM clauses, which may reference columns of the preceding relations.
+     * @param query the query.
+     * @return the lateral subquery.
+     */
+    public static LateralSubquery lateral(SelectStatement query) {
+        return new LateralSubquery(query);
+    }
 }
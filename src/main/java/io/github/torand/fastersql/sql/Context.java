@@ -19,20 +19,41 @@ import io.github.torand.fastersql.dialect.Dialect;
 import io.github.torand.fastersql.statement.SelectStatement;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static io.github.torand.fastersql.sql.Clause.PROJECTION;
 import static io.github.torand.fastersql.sql.Command.SELECT;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * Holds the context of statement SQL builders.
+ * <p>
+ * Contexts are immutable values. Settings rarely changing during the formatting of a statement are shared by all derived contexts,
+ * outer statements are shared as a parent-linked chain, and contexts derived by switching the command or clause are reused.
+ * Hence, deriving a context is cheap, and typically allocation free, since formatting switches command and clause for every SQL fragment.
+ * </p>
  */
 public class Context {
-    private final Dialect dialect;
+    private static final int COMMAND_COUNT = Command.values().length;
+    private static final int CLAUSE_COUNT = Clause.values().length;
+
+    private final Environment environment;
     private final Command command;
     private final Clause clause;
-    private final List<SelectStatement> outerStatements;
+    private final OuterStatement outerStatement;
+
+    // Derived contexts, created on demand. Racing threads may create duplicates, which is harmless.
+    private Context[] commandContexts;
+    private Context[] clauseContexts;
 
     /**
      * Creates context with specified SQL dialect.
@@ -40,14 +61,14 @@ public class Context {
      * @return the context.
      */
     public static Context of(Dialect dialect) {
-        return new Context(dialect, null,  null, emptyList());
+        return new Context(new Environment(dialect, emptyMap(), emptyMap(), null, false), null, null, null);
     }
 
-    private Context(Dialect dialect, Command command, Clause clause, List<SelectStatement> outerStatements) {
-        this.dialect = dialect;
+    private Context(Environment environment, Command command, Clause clause, OuterStatement outerStatement) {
+        this.environment = environment;
         this.command = command;
         this.clause = clause;
-        this.outerStatements = new ArrayList<>(outerStatements);
+        this.outerStatement = outerStatement;
     }
 
     /**
@@ -56,7 +77,23 @@ public class Context {
      * @return the modified context.
      */
     public Context withCommand(Command command) {
-        return new Context(this.dialect, command, command == SELECT ? PROJECTION : null, outerStatements);
+        final Clause defaultClause = command == SELECT ? PROJECTION : null;
+        if (this.command == command && this.clause == defaultClause) {
+            return this;
+        } else if (isNull(command)) {
+            return new Context(environment, null, null, outerStatement);
+        }
+
+        if (isNull(commandContexts)) {
+            commandContexts = new Context[COMMAND_COUNT];
+        }
+
+        Context derived = commandContexts[command.ordinal()];
+        if (isNull(derived)) {
+            derived = new Context(environment, command, defaultClause, outerStatement);
+            commandContexts[command.ordinal()] = derived;
+        }
+        return derived;
     }
 
     /**
@@ -65,7 +102,22 @@ public class Context {
      * @return the modified context.
      */
     public Context withClause(Clause clause) {
-        return new Context(this.dialect, this.command, clause, outerStatements);
+        if (this.clause == clause) {
+            return this;
+        } else if (isNull(clause)) {
+            return new Context(environment, command, null, outerStatement);
+        }
+
+        if (isNull(clauseContexts)) {
+            clauseContexts = new Context[CLAUSE_COUNT];
+        }
+
+        Context derived = clauseContexts[clause.ordinal()];
+        if (isNull(derived)) {
+            derived = new Context(environment, command, clause, outerStatement);
+            clauseContexts[clause.ordinal()] = derived;
+        }
+        return derived;
     }
 
     /**
@@ -74,9 +126,58 @@ public class Context {
      * @return the modified context.
      */
     public Context withOuterStatement(SelectStatement outerStatement) {
-        List<SelectStatement> newOuterStatements = new ArrayList<>(outerStatements);
-        newOuterStatements.add(outerStatement);
-        return new Context(this.dialect, this.command, this.clause, newOuterStatements);
+        return new Context(environment, command, clause, new OuterStatement(outerStatement, this.outerStatement));
+    }
+
+    /**
+     * Sets the table names to render in place of the original table names, e.g. to target a specific shard or partition.
+     * @param tableSubstitutions the substitute table names, keyed by original table name.
+     * @return the modified context.
+     */
+    public Context withTableSubstitutions(Map<String, String> tableSubstitutions) {
+        Environment newEnvironment = new Environment(environment.dialect(), Map.copyOf(tableSubstitutions), environment.tableHints(), environment.referencedTableNames(), environment.trusted());
+        return new Context(newEnvironment, command, clause, outerStatement);
+    }
+
+    /**
+     * Sets the table hints to render after the table names of the current statement, e.g. locking hints.
+     * @param tableHints the table hints, keyed by table name.
+     * @return the modified context.
+     */
+    public Context withTableHints(Map<String, String> tableHints) {
+        if (tableHints.isEmpty() && environment.tableHints().isEmpty()) {
+            return this;
+        }
+
+        Environment newEnvironment = new Environment(environment.dialect(), environment.tableSubstitutions(), Map.copyOf(tableHints), environment.referencedTableNames(), environment.trusted());
+        return new Context(newEnvironment, command, clause, outerStatement);
+    }
+
+    /**
+     * Sets a collector of the names of all tables rendered in this context, e.g. to determine the tables a statement depends on.
+     * Table names are collected as rendered, i.e. after table substitution.
+     * @param referencedTableNames the mutable set collecting table names.
+     * @return the modified context.
+     */
+    public Context withReferencedTableNames(Set<String> referencedTableNames) {
+        Environment newEnvironment = new Environment(environment.dialect(), environment.tableSubstitutions(), environment.tableHints(), referencedTableNames, environment.trusted());
+        return new Context(newEnvironment, command, clause, outerStatement);
+    }
+
+    /**
+     * Sets whether statements formatted in this context are trusted, i.e. known to be valid, e.g. by being verified by tests.
+     * Trusted statements are formatted without validating their structure, such as whether referenced columns belong to
+     * tables specified in FROM or JOIN clauses. Invalid trusted statements may result in invalid SQL.
+     * @param trusted true if statements are trusted; false if not.
+     * @return the modified context.
+     */
+    public Context withTrusted(boolean trusted) {
+        if (trusted == environment.trusted()) {
+            return this;
+        }
+
+        Environment newEnvironment = new Environment(environment.dialect(), environment.tableSubstitutions(), environment.tableHints(), environment.referencedTableNames(), trusted);
+        return new Context(newEnvironment, command, clause, outerStatement);
     }
 
     /**
@@ -84,7 +185,7 @@ public class Context {
      * @return the SQL dialect.
      */
     public Dialect getDialect() {
-        return this.dialect;
+        return environment.dialect();
     }
 
     /**
@@ -114,10 +215,74 @@ public class Context {
     }
 
     /**
-     * Gets the current outer statements, if any.
-     * @return the outer statements.
+     * Indicates whether statements formatted in this context are trusted, hence not validated.
+     * @return true if statements are trusted; false if not.
+     */
+    public boolean isTrusted() {
+        return environment.trusted();
+    }
+
+    /**
+     * Indicates whether there are outer statements, i.e. whether the current statement is a subquery or a statement
+     * with outer statement registered using {@link #withOuterStatement(SelectStatement)}.
+     * @return true if there are outer statements; else false.
+     */
+    public boolean hasOuterStatements() {
+        return nonNull(outerStatement);
+    }
+
+    /**
+     * Streams the current outer statements, if any, innermost first, without creating a list of them.
+     * @return the outer statements, innermost first.
+     */
+    public Stream<SelectStatement> streamOuterStatements() {
+        return Stream.iterate(outerStatement, Objects::nonNull, OuterStatement::parent).map(OuterStatement::statement);
+    }
+
+    /**
+     * Gets the current outer statements, if any. The list is created on every call, use {@link #streamOuterStatements()}
+     * or {@link #hasOuterStatements()} on frequently executed paths.
+     * @return the outer statements, outermost first.
      */
     public List<SelectStatement> getOuterStatements() {
+        if (isNull(outerStatement)) {
+            return emptyList();
+        }
+
+        List<SelectStatement> outerStatements = new ArrayList<>();
+        for (OuterStatement os = outerStatement; nonNull(os); os = os.parent()) {
+            outerStatements.add(os.statement());
+        }
+        Collections.reverse(outerStatements);
         return outerStatements;
     }
+
+    /**
+     * Gets the table name to render for specified table name, taking table substitutions into account.
+     * The resolved name is added to the collector of referenced table names, if any.
+     * @param tableName the original table name.
+     * @return the substitute table name, if any; else the original table name.
+     */
+    public String resolveTableName(String tableName) {
+        String resolvedName = environment.tableSubstitutions().getOrDefault(tableName, tableName);
+        if (nonNull(environment.referencedTableNames())) {
+            environment.referencedTableNames().add(resolvedName);
+        }
+        return resolvedName;
+    }
+
+    /**
+     * Gets the table hint to render after specified table name, if any.
+     * @param tableName the original table name.
+     * @return the table hint, if any.
+     */
+    public Optional<String> getTableHint(String tableName) {
+        return Optional.ofNullable(environment.tableHints().get(tableName));
+    }
+
+    private record Environment(Dialect dialect, Map<String, String> tableSubstitutions, Map<String, String> tableHints, Set<String> referencedTableNames, boolean trusted) {
+    }
+
+    private record OuterStatement(SelectStatement statement, OuterStatement parent) {
+    }
 }
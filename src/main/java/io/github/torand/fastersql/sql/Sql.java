@@ -17,6 +17,7 @@ package io.github.torand.fastersql.sql;
 
 import io.github.torand.fastersql.alias.ColumnAlias;
 import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -55,4 +56,14 @@ public interface Sql {
     default Stream<ColumnAlias> aliasRefs() {
         return Stream.empty();
     }
+
+    /**
+     * Gets the subqueries of this fragment, including the fragment itself if it is a subquery.
+     * Subqueries nested within the subqueries are not included.
+     * For common table expression declaration purposes.
+     * @return the subqueries of this fragment.
+     */
+    default Stream<Subquery> subqueries() {
+        return Stream.empty();
+    }
 }
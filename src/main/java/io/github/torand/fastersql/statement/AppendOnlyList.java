@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Immutable list sharing its backing array with the list it was appended to.
+ * Fluent statement methods adding clause elements thereby run in amortized constant time,
+ * instead of copying all elements of all clauses on every call.
+ * <p>
+ * Elements are appended in place if the list is the longest list sharing the backing array and the array has spare capacity;
+ * else the elements are copied to a new backing array. Hence, lists derived from the same list by separate calls never
+ * observe each other's elements.
+ * </p>
+ * @param <E> the element type.
+ */
+final class AppendOnlyList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int MIN_CAPACITY = 4;
+    private static final AppendOnlyList<?> EMPTY = new AppendOnlyList<>(new Object[0], new AtomicInteger(), 0);
+
+    private final Object[] elements;
+    private final AtomicInteger usedLength;
+    private final int size;
+
+    private AppendOnlyList(Object[] elements, AtomicInteger usedLength, int size) {
+        this.elements = elements;
+        this.usedLength = usedLength;
+        this.size = size;
+    }
+
+    /**
+     * Gets an immutable list of specified elements, copying the elements unless already an append-only list.
+     * @param elements the elements, or null.
+     * @return the list; empty if elements are null.
+     * @param <E> the element type.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> AppendOnlyList<E> of(Collection<? extends E> elements) {
+        if (elements instanceof AppendOnlyList<?> list) {
+            return (AppendOnlyList<E>) list;
+        } else if (isNull(elements) || elements.isEmpty()) {
+            return (AppendOnlyList<E>) EMPTY;
+        }
+
+        Object[] copy = elements.toArray();
+        return new AppendOnlyList<>(copy, new AtomicInteger(copy.length), copy.length);
+    }
+
+    /**
+     * Gets an immutable list of the elements of specified list followed by more elements.
+     * @param list the list, or null.
+     * @param more the elements to append.
+     * @return the concatenated list.
+     * @param <E> the element type.
+     */
+    @SafeVarargs
+    static <E> List<E> concat(List<? extends E> list, E... more) {
+        return AppendOnlyList.<E>of(list).append(isNull(more) ? new Object[0] : more);
+    }
+
+    /**
+     * Gets an immutable list of the elements of specified list followed by the elements of another collection.
+     * @param list the list, or null.
+     * @param more the elements to append.
+     * @return the concatenated list.
+     * @param <E> the element type.
+     */
+    static <E> List<E> concat(List<? extends E> list, Collection<? extends E> more) {
+        return AppendOnlyList.<E>of(list).append(isNull(more) ? new Object[0] : more.toArray());
+    }
+
+    private List<E> append(Object[] more) {
+        if (more.length == 0) {
+            return this;
+        }
+
+        final int newSize = size + more.length;
+
+        // Claim the spare capacity beyond this list, unless already claimed by another list sharing the array
+        if (newSize <= elements.length && usedLength.compareAndSet(size, newSize)) {
+            System.arraycopy(more, 0, elements, size, more.length);
+            return new AppendOnlyList<>(elements, usedLength, newSize);
+        }
+
+        Object[] grown = new Object[Math.max(newSize, Math.max(MIN_CAPACITY, size * 2))];
+        System.arraycopy(elements, 0, grown, 0, size);
+        System.arraycopy(more, 0, grown, size, more.length);
+        return new AppendOnlyList<>(grown, new AtomicInteger(newSize), newSize);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+import static io.github.torand.javacommons.contract.Requires.require;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes statements asynchronously, returning {@link CompletableFuture} results.
+ * <p>
+ * By default, each execution runs on a new virtual thread if supported by the Java runtime (Java 21 or later),
+ * else on a platform thread of a pool sized to the concurrency bound. The number of concurrent executions is bounded by a semaphore, which should
+ * match the size of the connection pool behind the data source. Executions exceeding the bound wait for a permit
+ * before acquiring a connection, so they never block inside the connection pool.
+ * </p>
+ * <p>
+ * Cancelling a returned future cancels the in-flight JDBC statement, if any.
+ * </p>
+ * <p>
+ * The executor must be closed after use to shut down its threads.
+ * </p>
+ */
+public class AsyncExecutor implements AutoCloseable {
+    private final StatementExecutor statementExecutor;
+    private final Semaphore permits;
+    private final ExecutorService executorService;
+    private final boolean ownsExecutorService;
+
+    /**
+     * Creates asynchronous executor for statements to be executed by specified statement executor.
+     * @param statementExecutor the statement executor.
+     * @param maxConcurrency the maximum number of concurrent executions, typically the connection pool size.
+     * @return the asynchronous executor.
+     */
+    public static AsyncExecutor using(StatementExecutor statementExecutor, int maxConcurrency) {
+        require(() -> maxConcurrency > 0, "Max concurrency must be positive");
+        return new AsyncExecutor(statementExecutor, maxConcurrency, newTaskExecutorService(maxConcurrency), true);
+    }
+
+    /**
+     * Creates asynchronous executor for statements to be executed by specified statement executor,
+     * running executions on specified executor service. The executor service is not shut down when
+     * this executor is closed.
+     * @param statementExecutor the statement executor.
+     * @param maxConcurrency the maximum number of concurrent executions, typically the connection pool size.
+     * @param executorService the executor service.
+     * @return the asynchronous executor.
+     */
+    public static AsyncExecutor using(StatementExecutor statementExecutor, int maxConcurrency, ExecutorService executorService) {
+        return new AsyncExecutor(statementExecutor, maxConcurrency, requireNonNull(executorService, "No executor service specified"), false);
+    }
+
+    private AsyncExecutor(StatementExecutor statementExecutor, int maxConcurrency, ExecutorService executorService, boolean ownsExecutorService) {
+        require(() -> maxConcurrency > 0, "Max concurrency must be positive");
+        this.statementExecutor = requireNonNull(statementExecutor, "No statement executor specified");
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.executorService = executorService;
+        this.ownsExecutorService = ownsExecutorService;
+    }
+
+    /**
+     * Executes a query asynchronously and maps all rows of the result.
+     * @param statement the query statement.
+     * @param rowMapper the row mapper.
+     * @return the future list of mapped rows.
+     * @param <T> the type of object each row is mapped to.
+     */
+    public <T> CompletableFuture<List<T>> executeQueryAsync(PreparableStatement statement, RowMapper<T> rowMapper) {
+        requireNonNull(statement, "No statement specified");
+        requireNonNull(rowMapper, "No row mapper specified");
+        return submit(cancellation -> statementExecutor.query(statement, rowMapper, cancellation));
+    }
+
+    /**
+     * Executes a DML statement asynchronously.
+     * @param statement the DML statement.
+     * @return the future number of affected rows.
+     */
+    public CompletableFuture<Integer> executeUpdateAsync(PreparableStatement statement) {
+        requireNonNull(statement, "No statement specified");
+        return submit(cancellation -> statementExecutor.update(statement, cancellation));
+    }
+
+    /**
+     * Shuts down the threads of this executor, unless the executor service was supplied by the caller.
+     * Pending executions are allowed to complete.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private <R> CompletableFuture<R> submit(Function<CancellationHandle, R> execution) {
+        CancellationHandle cancellation = CancellationHandle.create();
+        CompletableFuture<R> future = CompletableFuture.supplyAsync(() -> {
+            // Executions cancelled while queued or waiting for a permit should not acquire a connection
+            failIfCancelled(cancellation);
+            try {
+                // Semaphore parks the thread without pinning a virtual thread to its carrier
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(new FasterSQLException("Interrupted while waiting for execution permit", e));
+            }
+
+            try {
+                failIfCancelled(cancellation);
+                return execution.apply(cancellation);
+            } finally {
+                permits.release();
+            }
+        }, executorService);
+
+        future.whenComplete((result, failure) -> {
+            if (future.isCancelled()) {
+                cancellation.cancel();
+            }
+        });
+
+        return future;
+    }
+
+    private static void failIfCancelled(CancellationHandle cancellation) {
+        if (cancellation.isCancelled()) {
+            throw new CompletionException(new FasterSQLException("Execution cancelled"));
+        }
+    }
+
+    static ExecutorService newTaskExecutorService() {
+        return newVirtualThreadExecutorService().orElseGet(Executors::newCachedThreadPool);
+    }
+
+    static ExecutorService newTaskExecutorService(int maxThreads) {
+        // Platform threads are expensive, hence never create more than can execute concurrently
+        return newVirtualThreadExecutorService().orElseGet(() -> Executors.newFixedThreadPool(maxThreads));
+    }
+
+    private static Optional<ExecutorService> newVirtualThreadExecutorService() {
+        try {
+            // Resolved reflectively, since virtual threads are not available in the baseline Java version
+            return Optional.of((ExecutorService) MethodHandles.publicLookup()
+                .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                .invoke());
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Optional.empty();
+        } catch (Throwable e) {
+            throw new FasterSQLException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    static Executor newThreadPerTaskExecutor() {
+        ThreadFactory threadFactory = newTaskThreadFactory();
+        return command -> threadFactory.newThread(command).start();
+    }
+
+    private static ThreadFactory newTaskThreadFactory() {
+        try {
+            // Resolved reflectively, since virtual threads are not available in the baseline Java version
+            Object builder = MethodHandles.publicLookup()
+                .findStatic(Thread.class, "ofVirtual", MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")))
+                .invoke();
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            return command -> {
+                Thread thread = new Thread(command);
+                thread.setDaemon(true);
+                return thread;
+            };
+        } catch (Throwable e) {
+            throw new FasterSQLException("Failed to create virtual thread factory", e);
+        }
+    }
+}
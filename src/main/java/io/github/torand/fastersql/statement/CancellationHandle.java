@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handle for cancelling in-flight statement executions from another thread.
+ * Pass the handle to a {@link StatementExecutor} execution, and invoke {@link #cancel()} to abort it.
+ * A cancelled execution fails with a {@link FasterSQLException}.
+ */
+public final class CancellationHandle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CancellationHandle.class);
+
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a cancellation handle.
+     * @return the cancellation handle.
+     */
+    public static CancellationHandle create() {
+        return new CancellationHandle();
+    }
+
+    private CancellationHandle() {
+    }
+
+    /**
+     * Cancels the executions associated with this handle, including executions started after this call.
+     */
+    public void cancel() {
+        cancelled = true;
+        statements.forEach(this::cancelSafely);
+    }
+
+    /**
+     * Indicates whether this handle has been cancelled.
+     * @return true if cancelled; else false.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void register(Statement statement) throws SQLException {
+        statements.add(statement);
+        if (cancelled) {
+            // Callers unregister statements after execution only, hence not when registration fails
+            statements.remove(statement);
+            throw new SQLException("Execution cancelled");
+        }
+    }
+
+    void unregister(Statement statement) {
+        statements.remove(statement);
+    }
+
+    private void cancelSafely(Statement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            // The statement may have completed in the meantime
+            LOGGER.debug("Failed to cancel statement", e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.model.Column;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+import static io.github.torand.javacommons.contract.Requires.require;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes DELETE and UPDATE statements repeatedly, affecting a limited number of rows per execution,
+ * until all matching rows are affected. Each chunk is executed and committed in a separate transaction,
+ * so row locks are held only briefly and the transaction log does not grow unbounded, e.g. when purging large tables.
+ * <p>
+ * The number of rows per chunk is limited by a LIMIT or TOP clause, the row number literal, or a subquery
+ * selecting the key of the affected rows, depending on the SQL dialect. The key is the row identifier pseudo column
+ * of the dialect, unless a key column is specified explicitly.
+ * </p>
+ * <p>
+ * Execution stops when a chunk affects fewer rows than the chunk size. Hence, the predicates of an UPDATE statement
+ * must exclude rows already updated, else the execution never completes.
+ * </p>
+ */
+public class ChunkedExecutor {
+    private final StatementExecutor statementExecutor;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Column keyColumn;
+    private final LongConsumer progressListener;
+
+    ChunkedExecutor(StatementExecutor statementExecutor, int chunkSize, Duration pause, Column keyColumn, LongConsumer progressListener) {
+        this.statementExecutor = requireNonNull(statementExecutor, "No statement executor specified");
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.keyColumn = keyColumn;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Specifies the time to pause between chunks, giving concurrent transactions and replication a chance to catch up.
+     * @param pause the pause duration.
+     * @return the modified executor.
+     */
+    public ChunkedExecutor withPause(Duration pause) {
+        requireNonNull(pause, "No pause specified");
+        require(() -> !pause.isNegative(), "Pause must not be negative");
+        return new ChunkedExecutor(statementExecutor, chunkSize, pause, keyColumn, progressListener);
+    }
+
+    /**
+     * Specifies the column uniquely identifying each row of the target table, used to limit the number of rows
+     * per chunk in SQL dialects without a native row limit clause or row identifier pseudo column.
+     * @param keyColumn the key column.
+     * @return the modified executor.
+     */
+    public ChunkedExecutor withKey(Column keyColumn) {
+        requireNonNull(keyColumn, "No key column specified");
+        return new ChunkedExecutor(statementExecutor, chunkSize, pause, keyColumn, progressListener);
+    }
+
+    /**
+     * Specifies a listener notified with the total number of affected rows after each chunk is committed.
+     * @param progressListener the progress listener.
+     * @return the modified executor.
+     */
+    public ChunkedExecutor withProgressListener(LongConsumer progressListener) {
+        requireNonNull(progressListener, "No progress listener specified");
+        return new ChunkedExecutor(statementExecutor, chunkSize, pause, keyColumn, progressListener);
+    }
+
+    /**
+     * Executes a DELETE statement in chunks.
+     * @param statement the DELETE statement.
+     * @return the total number of deleted rows.
+     */
+    public long execute(DeleteStatement statement) {
+        requireNonNull(statement, "No statement specified");
+        return executeChunks(statement.withRowLimit(new RowLimit(chunkSize, keyColumn)));
+    }
+
+    /**
+     * Executes an UPDATE statement in chunks. The predicates of the statement must exclude rows already updated.
+     * @param statement the UPDATE statement.
+     * @return the total number of updated rows.
+     */
+    public long execute(UpdateStatement statement) {
+        requireNonNull(statement, "No statement specified");
+        return executeChunks(statement.withRowLimit(new RowLimit(chunkSize, keyColumn)));
+    }
+
+    private long executeChunks(PreparableStatement chunkStatement) {
+        long affectedRowCount = 0;
+
+        while (true) {
+            int chunkRowCount = statementExecutor.updateCommitted(chunkStatement);
+            affectedRowCount += chunkRowCount;
+
+            if (nonNull(progressListener)) {
+                progressListener.accept(affectedRowCount);
+            }
+
+            if (chunkRowCount < chunkSize) {
+                return affectedRowCount;
+            }
+
+            pause();
+        }
+    }
+
+    private void pause() {
+        if (isNull(pause) || pause.isZero()) {
+            return;
+        }
+
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FasterSQLException("Interrupted while pausing between chunks", e);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package io.github.torand.fastersql.statement;
 import io.github.torand.fastersql.expression.Expression;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
 
 import java.util.stream.Stream;
 
@@ -52,6 +53,22 @@ class ColumnValue {
         return value.params(context);
     }
 
+    /**
+     * Gets the columns referenced by the column value expression.
+     * @return the referenced columns.
+     */
+    Stream<Column> valueColumnRefs() {
+        return value.columnRefs();
+    }
+
+    /**
+     * Gets the subqueries of the column value expression.
+     * @return the subqueries.
+     */
+    Stream<Subquery> valueSubqueries() {
+        return value.subqueries();
+    }
+
     /**
      * Formats column value expression as an SQL fragment.
      * @param context the context (incl. dialect).
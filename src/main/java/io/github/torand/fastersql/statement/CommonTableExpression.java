@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.alias.Alias;
+import io.github.torand.fastersql.alias.TableAlias;
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.hint.Hint;
+import io.github.torand.fastersql.projection.Projection;
+import io.github.torand.fastersql.relation.Relation;
+import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.subquery.Subquery;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.dialect.Capability.COMMON_TABLE_EXPRESSION;
+import static io.github.torand.fastersql.dialect.Capability.CTE_MATERIALIZED;
+import static io.github.torand.fastersql.dialect.Capability.CTE_MATERIALIZE_HINT;
+import static io.github.torand.fastersql.dialect.Capability.WITH_RECURSIVE;
+import static io.github.torand.fastersql.sql.Command.SELECT;
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Implements a common table expression, i.e. a named subquery declared by a WITH clause, to be used in FROM clauses.
+ * The subquery is declared once, even if referenced multiple times, and the database may evaluate it once.
+ * <p>
+ * The WITH clause is added to the top level SELECT statement (or set operation), declaring the common table expressions
+ * referenced by the FROM clauses of the statement and all its subqueries, including common table expressions referenced
+ * by other common table expressions. Common table expressions are not supported in subqueries of INSERT, UPDATE and
+ * DELETE statements.
+ * </p>
+ */
+public class CommonTableExpression implements Relation {
+    private final String name;
+    private final PreparableStatement query;
+    private final boolean recursive;
+    private final Boolean materialized;
+    private final TableAlias alias;
+    private final PreparableStatement declaredQuery;
+
+    CommonTableExpression(String name, PreparableStatement query, boolean recursive, Boolean materialized, TableAlias alias) {
+        this.name = requireNonBlank(name, "No name specified");
+        this.query = query;
+        this.recursive = recursive;
+        this.materialized = materialized;
+        this.alias = alias;
+
+        // The materialization hint is merged into the optimizer hints of the query, since only the first hint comment is honored
+        this.declaredQuery = nonNull(materialized) && query instanceof SelectStatement selectStatement
+            ? selectStatement.hint(new MaterializationHint(materialized))
+            : query;
+    }
+
+    /**
+     * Gets the name of the common table expression.
+     * @return the name.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Requests the database to evaluate the subquery once and store the result, rather than inlining it into the
+     * referencing query. Rendered as "MATERIALIZED" on PostgreSQL (version 12 or later) and as a "MATERIALIZE" hint on Oracle.
+     * Ignored by other SQL dialects.
+     * @return the modified common table expression.
+     */
+    public CommonTableExpression materialized() {
+        return new CommonTableExpression(name, query, recursive, Boolean.TRUE, alias);
+    }
+
+    /**
+     * Requests the database to inline the subquery into the referencing query, rather than storing the result.
+     * Rendered as "NOT MATERIALIZED" on PostgreSQL (version 12 or later) and as an "INLINE" hint on Oracle.
+     * Ignored by other SQL dialects.
+     * @return the modified common table expression.
+     */
+    public CommonTableExpression notMaterialized() {
+        return new CommonTableExpression(name, query, recursive, Boolean.FALSE, alias);
+    }
+
+    // Sql
+
+    @Override
+    public String sql(Context context) {
+        return name + (nonNull(alias) ? " " + alias.sql(context) : "");
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        return Stream.empty();
+    }
+
+    // Relation
+
+    @Override
+    public CommonTableExpression as(String alias) {
+        requireNonBlank(alias, "No alias specified");
+        return new CommonTableExpression(name, query, recursive, materialized, new TableAlias(alias));
+    }
+
+    @Override
+    public TableAlias alias() {
+        return nonNull(alias) ? alias : new TableAlias(name);
+    }
+
+    /**
+     * Gets the common table expressions this common table expression depends on, followed by itself.
+     * A reference to a recursive common table expression from within its own subquery has no dependencies.
+     * @return the common table expressions to declare.
+     */
+    Stream<CommonTableExpression> declarations() {
+        if (isNull(query)) {
+            return Stream.empty();
+        }
+
+        Stream<CommonTableExpression> dependencies = query instanceof SelectSetOpStatement setOpStatement
+            ? setOpStatement.commonTableExpressions()
+            : ((SelectStatement)query).commonTableExpressions().stream();
+
+        return Stream.concat(dependencies, Stream.of(this));
+    }
+
+    /**
+     * Gets the common table expressions referenced by specified subqueries, at any nesting level.
+     * @param subqueries the subqueries.
+     * @return the common table expressions, possibly with duplicates.
+     */
+    static Stream<CommonTableExpression> referencedBy(Stream<Subquery> subqueries) {
+        return subqueries.flatMap(subquery -> subquery.query().commonTableExpressions().stream());
+    }
+
+    /**
+     * Formats a WITH clause declaring specified common table expressions.
+     * @param context the context (incl. dialect).
+     * @param commonTableExpressions the common table expressions, possibly with duplicates.
+     * @return the formatted WITH clause, including a trailing space.
+     */
+    static String withClauseSql(Context context, Collection<CommonTableExpression> commonTableExpressions) {
+        final Dialect dialect = context.getDialect();
+        if (!dialect.supports(COMMON_TABLE_EXPRESSION)) {
+            throw new UnsupportedOperationException("%s does not support common table expressions".formatted(dialect.getProductName()));
+        }
+
+        Collection<CommonTableExpression> declarations = distinct(commonTableExpressions);
+        boolean anyRecursive = declarations.stream().anyMatch(cte -> cte.recursive);
+
+        return "with " + (anyRecursive && dialect.supports(WITH_RECURSIVE) ? "recursive " : "") + declarations.stream()
+            .map(cte -> cte.declarationSql(context))
+            .collect(joining(", ")) + " ";
+    }
+
+    static Stream<Object> withClauseParams(Context context, Collection<CommonTableExpression> commonTableExpressions) {
+        return distinct(commonTableExpressions).stream()
+            .flatMap(cte -> cte.query.params(context.withCommand(SELECT)));
+    }
+
+    private String declarationSql(Context context) {
+        final Dialect dialect = context.getDialect();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(name);
+        if (recursive) {
+            // Oracle and SQL Server require the column names of recursive common table expressions
+            sb.append(" (").append(columnNames()).append(")");
+        }
+        sb.append(" as ");
+        if (nonNull(materialized) && dialect.supports(CTE_MATERIALIZED)) {
+            sb.append(materialized ? "materialized " : "not materialized ");
+        }
+
+        return sb.append("(").append(declaredQuery.sql(context.withCommand(SELECT))).append(")").toString();
+    }
+
+    private String columnNames() {
+        Stream<Projection> projections = query instanceof SelectSetOpStatement setOpStatement
+            ? setOpStatement.projections()
+            : ((SelectStatement)query).projections();
+
+        return projections
+            .map(p -> p.alias().map(Alias::name).orElseThrow(() -> new IllegalStateException("Projections of recursive common table expression " + name + " must have aliases")))
+            .collect(joining(", "));
+    }
+
+    private static Collection<CommonTableExpression> distinct(Collection<CommonTableExpression> commonTableExpressions) {
+        Map<String, CommonTableExpression> declarations = new LinkedHashMap<>();
+        commonTableExpressions.forEach(cte -> declarations.putIfAbsent(cte.name.toUpperCase(), cte));
+        return declarations.values();
+    }
+
+    /**
+     * Implements the optimizer hint requesting a common table expression to be materialized or inlined, on SQL dialects
+     * not supporting the MATERIALIZED keyword.
+     */
+    private record MaterializationHint(boolean materialized) implements Hint {
+        @Override
+        public Optional<String> optimizerHintSql(Context context) {
+            if (!context.getDialect().supports(CTE_MATERIALIZE_HINT)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(materialized ? "materialize" : "inline");
+        }
+    }
+}
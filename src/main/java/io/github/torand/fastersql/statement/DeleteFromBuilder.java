@@ -31,6 +31,6 @@ public class DeleteFromBuilder {
      * @return the statement.
      */
     public DeleteStatement from(Table table) {
-        return new DeleteStatement(requireNonNull(table, "No table specified"), null);
+        return new DeleteStatement(requireNonNull(table, "No table specified"), null, null, null, null, null);
     }
 }
@@ -16,24 +16,43 @@
 package io.github.torand.fastersql.statement;
 
 import io.github.torand.fastersql.dialect.AnsiIsoDialect;
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.hint.Hint;
+import io.github.torand.fastersql.join.Join;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.model.Table;
 import io.github.torand.fastersql.predicate.OptionalPredicate;
 import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static io.github.torand.fastersql.dialect.Capability.DELETE_JOIN;
+import static io.github.torand.fastersql.dialect.Capability.DELETE_USING;
 import static io.github.torand.fastersql.sql.Command.DELETE;
+import static io.github.torand.fastersql.statement.Helpers.correlatedSubqueryParams;
+import static io.github.torand.fastersql.statement.Helpers.correlatedSubquerySql;
+import static io.github.torand.fastersql.statement.Helpers.joinContext;
+import static io.github.torand.fastersql.statement.Helpers.referencableTableNames;
 import static io.github.torand.fastersql.statement.Helpers.unwrapSuppliers;
+import static io.github.torand.fastersql.statement.HintRenderer.queryOptionSql;
+import static io.github.torand.fastersql.statement.HintRenderer.withOptimizerHintSql;
 import static io.github.torand.javacommons.collection.CollectionHelper.*;
+import static io.github.torand.javacommons.contract.Requires.require;
 import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -41,11 +60,32 @@ import static java.util.stream.Collectors.joining;
  */
 public class DeleteStatement implements PreparableStatement {
     private final Table fromTable;
+    private final List<Join> joins;
     private final List<Predicate> predicates;
+    private final Duration timeout;
+    private final RowLimit rowLimit;
+    private final List<Hint> hints;
 
-    DeleteStatement(Table table, Collection<Predicate> predicates) {
+    DeleteStatement(Table table, Collection<Join> joins, Collection<Predicate> predicates, Duration timeout, RowLimit rowLimit, Collection<Hint> hints) {
         this.fromTable = requireNonNull(table, "No table specified");
+        this.joins = asList(joins);
         this.predicates = asList(predicates);
+        this.timeout = timeout;
+        this.rowLimit = rowLimit;
+        this.hints = asList(hints);
+    }
+
+    /**
+     * Adds one or more JOIN clauses, making columns of the joined tables available to predicates.
+     * Only rows of the table specified by the FROM clause are deleted. The statement is formatted as DELETE ... JOIN,
+     * DELETE ... USING or with a correlated EXISTS subquery, depending on the SQL dialect.
+     * @param joins the JOIN clauses.
+     * @return the modified statement.
+     */
+    public DeleteStatement join(Join... joins) {
+        requireNonEmpty(joins, "No joins specified");
+        List<Join> concatenated = concat(this.joins, joins);
+        return new DeleteStatement(fromTable, concatenated, predicates, timeout, rowLimit, hints);
     }
 
     /**
@@ -56,7 +96,7 @@ public class DeleteStatement implements PreparableStatement {
     public DeleteStatement where(Predicate... predicates) {
         requireNonEmpty(predicates, "No predicates specified");
         List<Predicate> concatenated = concat(this.predicates, predicates);
-        return new DeleteStatement(fromTable, concatenated);
+        return new DeleteStatement(fromTable, joins, concatenated, timeout, rowLimit, hints);
     }
 
     /**
@@ -67,7 +107,7 @@ public class DeleteStatement implements PreparableStatement {
     public final DeleteStatement where(OptionalPredicate... maybePredicates) {
         requireNonEmpty(maybePredicates, "No optional predicates specified");
         List<Predicate> concatenated = concat(this.predicates, OptionalPredicate.unwrap(maybePredicates));
-        return new DeleteStatement(fromTable, concatenated);
+        return new DeleteStatement(fromTable, joins, concatenated, timeout, rowLimit, hints);
     }
 
     /**
@@ -81,50 +121,200 @@ public class DeleteStatement implements PreparableStatement {
         requireNonEmpty(predicateSuppliers, "No predicate suppliers specified");
         if (condition) {
             List<Predicate> concatenated = concat(this.predicates, unwrapSuppliers(predicateSuppliers));
-            return new DeleteStatement(fromTable, concatenated);
+            return new DeleteStatement(fromTable, joins, concatenated, timeout, rowLimit, hints);
         }
         return this;
     }
 
+    /**
+     * Sets the maximum time the database may spend executing the statement.
+     * @param timeout the timeout.
+     * @return the modified statement.
+     */
+    public DeleteStatement timeout(Duration timeout) {
+        requireNonNull(timeout, "No timeout specified");
+        require(() -> !timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+        return new DeleteStatement(fromTable, joins, predicates, timeout, rowLimit, hints);
+    }
+
+    @Override
+    public Optional<Duration> getTimeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    /**
+     * Limits the number of rows deleted by a single execution of the statement.
+     * @param rowLimit the row limit.
+     * @return the modified statement.
+     */
+    DeleteStatement withRowLimit(RowLimit rowLimit) {
+        requireNonNull(rowLimit, "No row limit specified");
+        return new DeleteStatement(fromTable, joins, predicates, timeout, rowLimit, hints);
+    }
+
+    /**
+     * Gets the predicates of the WHERE clause.
+     * @return the predicates, possibly empty.
+     */
+    List<Predicate> wherePredicates() {
+        return predicates;
+    }
+
+    /**
+     * Adds optimizer hints. Hints not supported by the SQL dialect are ignored, as are table hints.
+     * @param firstHint the first hint.
+     * @param moreHints the other hints, if any.
+     * @return the modified statement.
+     */
+    public DeleteStatement hint(Hint firstHint, Hint... moreHints) {
+        requireNonNull(firstHint, "First hint is null");
+        List<Hint> concatenated = concat(this.hints, asNonEmptyList(firstHint, moreHints));
+        return new DeleteStatement(fromTable, joins, predicates, timeout, rowLimit, concatenated);
+    }
+
     @Override
     public String sql(Context context) {
+        final Context hintContext = nonEmpty(joins) ? joinContext(context) : context.withCommand(DELETE);
+        return withOptimizerHintSql(hintContext, hints, statementSql(context)) + queryOptionSql(hintContext, hints);
+    }
+
+    private String statementSql(Context context) {
         final Context localContext = context.withCommand(DELETE);
-        validate();
+        if (!context.isTrusted()) {
+            validate();
+        }
+
+        if (nonEmpty(joins)) {
+            return joinedSql(context);
+        }
 
         StringBuilder sb = new StringBuilder();
-        sb.append("delete from ");
+        sb.append("delete ");
+        if (nonNull(rowLimit)) {
+            sb.append(rowLimit.prefixSql(localContext));
+        }
+        sb.append("from ");
         sb.append(fromTable.sql(localContext));
 
-        if (nonEmpty(predicates)) {
+        List<String> conditions = Stream.concat(
+                streamSafely(predicates).map(p -> p.sql(localContext)),
+                nonNull(rowLimit) ? rowLimit.conditionSql(localContext, fromTable, predicates).stream() : Stream.empty())
+            .toList();
+
+        if (nonEmpty(conditions)) {
             sb.append(" where ");
-            sb.append(streamSafely(predicates)
-                .map(p -> p.sql(localContext))
-                .collect(joining(" and ")));
+            sb.append(String.join(" and ", conditions));
+        }
+
+        if (nonNull(rowLimit)) {
+            sb.append(rowLimit.suffixSql(localContext));
         }
 
         return sb.toString();
     }
 
+    private String joinedSql(Context context) {
+        final Context joinContext = joinContext(context);
+        final Dialect dialect = context.getDialect();
+
+        StringBuilder sb = new StringBuilder();
+
+        if (dialect.supports(DELETE_JOIN)) {
+
+            // DELETE T FROM t T INNER JOIN x X ON T.id = X.t_id WHERE ...
+
+            sb.append("delete ").append(fromTable.alias().name());
+            sb.append(" from ").append(fromTable.sql(joinContext)).append(" ");
+            sb.append(streamSafely(joins).map(j -> j.sql(joinContext)).collect(joining(" ")));
+            appendWhere(sb, joinContext, Stream.empty());
+
+        } else if (dialect.supports(DELETE_USING) && streamSafely(joins).allMatch(Join::isInner)) {
+
+            // DELETE FROM t T USING x X WHERE T.id = X.t_id AND ...
+
+            sb.append("delete from ").append(fromTable.sql(joinContext));
+            sb.append(" using ").append(streamSafely(joins).map(j -> j.joined().sql(joinContext)).collect(joining(", ")));
+            appendWhere(sb, joinContext, streamSafely(joins).map(j -> j.conditionSql(joinContext)));
+
+        } else {
+
+            // DELETE FROM t T WHERE EXISTS (SELECT 1 FROM x X WHERE T.id = X.t_id AND ...)
+
+            sb.append("delete from ").append(fromTable.sql(joinContext));
+            sb.append(" where exists (select 1").append(correlatedSubquerySql(joinContext, joins, predicates)).append(")");
+        }
+
+        return sb.toString();
+    }
+
+    private void appendWhere(StringBuilder sb, Context joinContext, Stream<String> joinConditions) {
+        List<String> conditions = Stream.concat(joinConditions, streamSafely(predicates).map(p -> p.sql(joinContext))).toList();
+        if (nonEmpty(conditions)) {
+            sb.append(" where ").append(String.join(" and ", conditions));
+        }
+    }
+
     @Override
     public Stream<Object> params(Context context) {
+        if (nonNull(rowLimit)) {
+            final Context localContext = context.withCommand(DELETE);
+            return Stream.of(
+                    rowLimit.prefixParams(localContext),
+                    streamSafely(predicates).flatMap(p -> p.params(localContext)),
+                    rowLimit.conditionParams(localContext, fromTable, predicates),
+                    rowLimit.suffixParams(localContext))
+                .flatMap(identity());
+        }
+
+        if (nonEmpty(joins)) {
+            return joinedParams(context);
+        }
+
         return streamSafely(predicates)
             .flatMap(p -> p.params(context));
     }
 
+    private Stream<Object> joinedParams(Context context) {
+        final Context joinContext = joinContext(context);
+        final Dialect dialect = context.getDialect();
+
+        if (dialect.supports(DELETE_JOIN) || (dialect.supports(DELETE_USING) && streamSafely(joins).allMatch(Join::isInner))) {
+            return Stream.concat(
+                streamSafely(joins).flatMap(j -> j.params(joinContext)),
+                streamSafely(predicates).flatMap(p -> p.params(joinContext)));
+        } else {
+            return correlatedSubqueryParams(joinContext, joins, predicates);
+        }
+    }
+
     private void validate() {
         if (isNull(fromTable)) {
             throw new IllegalStateException("No FROM clause specified");
         }
+        if (nonNull(rowLimit)) {
+            if (nonEmpty(joins)) {
+                throw new IllegalStateException("Row limit is not supported in combination with JOIN clauses");
+            }
+            rowLimit.validate(fromTable);
+        }
 
-        validateColumnTableRelations(streamSafely(predicates).flatMap(Predicate::columnRefs));
+        Set<String> tableNames = referencableTableNames(fromTable, joins);
+        validateColumnTableRelations(streamSafely(joins).flatMap(Join::columnRefs), tableNames);
+        validateColumnTableRelations(streamSafely(predicates).flatMap(Predicate::columnRefs), tableNames);
+
+        // The WITH clause is declared by top level SELECT statements only
+        Stream<Subquery> subqueries = Stream.concat(streamSafely(joins), streamSafely(predicates)).flatMap(Sql::subqueries);
+        if (CommonTableExpression.referencedBy(subqueries).findAny().isPresent()) {
+            throw new IllegalStateException("Common table expressions are not supported in the subqueries of a DELETE statement");
+        }
     }
 
-    private void validateColumnTableRelations(Stream<Column> columns) {
+    private void validateColumnTableRelations(Stream<Column> columns, Set<String> tableNames) {
         columns
-            .filter(c -> !fromTable.name().equalsIgnoreCase(c.table().name()))
+            .filter(c -> !tableNames.contains(c.table().name().toUpperCase()))
             .findFirst()
             .ifPresent(c -> {
-                throw new IllegalStateException("Column " + c.name() + " belongs to table " + c.table().name() + ", but table is not specified in the FROM clause");
+                throw new IllegalStateException("Column " + c.name() + " belongs to table " + c.table().name() + ", but table is not specified in the FROM or JOIN clause");
             });
     }
 
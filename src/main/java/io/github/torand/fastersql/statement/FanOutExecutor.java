@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.predicate.Predicate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes the same query concurrently against several shards or partitions and merges the results (scatter-gather).
+ * Each shard is represented by a {@link StatementExecutor}, targeting a separate data source and/or substituting
+ * table names using {@link StatementExecutor#withTableSubstitution}.
+ * <p>
+ * The shard results are merged in the order given by a comparator, which must be consistent with the ORDER BY
+ * clause of the query. The LIMIT and OFFSET of the query apply to the merged result. Each shard is queried with a limit
+ * covering the global offset and limit, and shard results are read only until the global limit is reached.
+ * </p>
+ * <p>
+ * If a {@link ShardKey} is specified, queries and DML statements are executed only on the shards which may hold
+ * matching rows, as determined by the predicates on the shard key column.
+ * </p>
+ * <p>
+ * The executor must be closed after use to shut down its threads.
+ * </p>
+ */
+public class FanOutExecutor implements AutoCloseable {
+    private final List<StatementExecutor> shards;
+    private final ShardKey shardKey;
+    private final ExecutorService executorService;
+    private final boolean ownsExecutorService;
+
+    /**
+     * Creates executor for queries to be executed against specified shards.
+     * @param shards the statement executors of each shard.
+     * @return the fan-out executor.
+     */
+    public static FanOutExecutor across(List<StatementExecutor> shards) {
+        return new FanOutExecutor(shards, null, AsyncExecutor.newTaskExecutorService(), true);
+    }
+
+    /**
+     * Creates executor for queries to be executed against specified shards, running shard executions on specified
+     * executor service. The executor service is not shut down when this executor is closed.
+     * @param shards the statement executors of each shard.
+     * @param executorService the executor service.
+     * @return the fan-out executor.
+     */
+    public static FanOutExecutor across(List<StatementExecutor> shards, ExecutorService executorService) {
+        return new FanOutExecutor(shards, null, requireNonNull(executorService, "No executor service specified"), false);
+    }
+
+    /**
+     * Creates executor for statements to be executed against the shards holding matching rows, as given by specified shard key.
+     * @param shards the statement executors of each shard, in order of shard index.
+     * @param shardKey the shard key.
+     * @return the fan-out executor.
+     */
+    public static FanOutExecutor across(List<StatementExecutor> shards, ShardKey shardKey) {
+        return new FanOutExecutor(shards, requireNonNull(shardKey, "No shard key specified"), AsyncExecutor.newTaskExecutorService(), true);
+    }
+
+    /**
+     * Creates executor for statements to be executed against the shards holding matching rows, as given by specified shard key,
+     * running shard executions on specified executor service. The executor service is not shut down when this executor is closed.
+     * @param shards the statement executors of each shard, in order of shard index.
+     * @param shardKey the shard key.
+     * @param executorService the executor service.
+     * @return the fan-out executor.
+     */
+    public static FanOutExecutor across(List<StatementExecutor> shards, ShardKey shardKey, ExecutorService executorService) {
+        return new FanOutExecutor(shards, requireNonNull(shardKey, "No shard key specified"), requireNonNull(executorService, "No executor service specified"), false);
+    }
+
+    private FanOutExecutor(List<StatementExecutor> shards, ShardKey shardKey, ExecutorService executorService, boolean ownsExecutorService) {
+        requireNonEmpty(shards, "No shards specified");
+        this.shards = List.copyOf(shards);
+        this.shardKey = shardKey;
+        this.executorService = executorService;
+        this.ownsExecutorService = ownsExecutorService;
+    }
+
+    /**
+     * Executes an unordered query against all shards and concatenates the results in the order of the shards.
+     * @param statement the query statement.
+     * @param rowMapper the row mapper.
+     * @return the list of mapped rows.
+     * @param <T> the type of object each row is mapped to.
+     */
+    public <T> List<T> query(SelectStatement statement, RowMapper<T> rowMapper) {
+        requireNonNull(statement, "No statement specified");
+        if (statement.isOrdered()) {
+            throw new IllegalStateException("Statement has an ORDER BY clause, a comparator must be specified to merge the results");
+        }
+        return merge(statement, rowMapper, null);
+    }
+
+    /**
+     * Executes a query against all shards and merges the ordered results.
+     * @param statement the query statement.
+     * @param rowMapper the row mapper.
+     * @param comparator the comparator of mapped rows, consistent with the ORDER BY clause of the query.
+     * @return the list of mapped rows.
+     * @param <T> the type of object each row is mapped to.
+     */
+    public <T> List<T> query(SelectStatement statement, RowMapper<T> rowMapper, Comparator<? super T> comparator) {
+        requireNonNull(statement, "No statement specified");
+        requireNonNull(comparator, "No comparator specified");
+        return merge(statement, rowMapper, comparator);
+    }
+
+    /**
+     * Executes an UPDATE statement against all shards, or the shards holding matching rows if a shard key is specified.
+     * The statement is executed in a separate transaction per shard, hence changes are not atomic across shards.
+     * @param statement the UPDATE statement.
+     * @return the total number of affected rows.
+     */
+    public int update(UpdateStatement statement) {
+        requireNonNull(statement, "No statement specified");
+        return updateShards(statement, statement.wherePredicates());
+    }
+
+    /**
+     * Executes a DELETE statement against all shards, or the shards holding matching rows if a shard key is specified.
+     * The statement is executed in a separate transaction per shard, hence changes are not atomic across shards.
+     * @param statement the DELETE statement.
+     * @return the total number of affected rows.
+     */
+    public int update(DeleteStatement statement) {
+        requireNonNull(statement, "No statement specified");
+        return updateShards(statement, statement.wherePredicates());
+    }
+
+    /**
+     * Shuts down the threads of this executor, unless the executor service was supplied by the caller.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private <T> List<T> merge(SelectStatement statement, RowMapper<T> rowMapper, Comparator<? super T> comparator) {
+        requireNonNull(rowMapper, "No row mapper specified");
+
+        final long offset = statement.offset().orElse(0L);
+        final long limit = statement.limit().orElse(Long.MAX_VALUE);
+
+        // A shard can contribute at most offset + limit rows to the merged result
+        final Long shardLimit = statement.limit().map(l -> l + offset).orElse(null);
+
+        Map<Integer, SelectStatement> shardStatements = new TreeMap<>();
+        targetShards(statement.wherePredicates()).forEach((shard, predicates) ->
+            shardStatements.put(shard, statement.withWherePredicates(predicates).withRowRange(shardLimit, null)));
+
+        List<ResultCursor<T>> cursors = openCursors(shardStatements, rowMapper);
+        try {
+            List<T> rows = new ArrayList<>();
+            long skipped = 0;
+
+            if (nonNull(comparator)) {
+                PriorityQueue<ShardHead<T>> heads = new PriorityQueue<>(
+                    Comparator.<ShardHead<T>, T>comparing(ShardHead::row, comparator).thenComparingInt(ShardHead::shard));
+                for (int i = 0; i < cursors.size(); i++) {
+                    advance(heads, cursors, i);
+                }
+
+                while (!heads.isEmpty() && rows.size() < limit) {
+                    ShardHead<T> head = heads.poll();
+                    if (skipped < offset) {
+                        skipped++;
+                    } else {
+                        rows.add(head.row());
+                    }
+                    advance(heads, cursors, head.shard());
+                }
+            } else {
+                for (ResultCursor<T> cursor : cursors) {
+                    while (cursor.hasNext() && rows.size() < limit) {
+                        T row = cursor.next();
+                        if (skipped < offset) {
+                            skipped++;
+                        } else {
+                            rows.add(row);
+                        }
+                    }
+                }
+            }
+
+            return rows;
+        } finally {
+            closeCursors(cursors, null);
+        }
+    }
+
+    private Map<Integer, List<Predicate>> targetShards(List<Predicate> predicates) {
+        if (nonNull(shardKey)) {
+            return shardKey.route(predicates, shards.size());
+        }
+
+        Map<Integer, List<Predicate>> allShards = new TreeMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            allShards.put(shard, predicates);
+        }
+        return allShards;
+    }
+
+    private int updateShards(PreparableStatement statement, List<Predicate> predicates) {
+        Set<Integer> targetShards = targetShards(predicates).keySet();
+        if (targetShards.size() == 1) {
+            return shards.get(targetShards.iterator().next()).update(statement);
+        }
+
+        // Matching rows are found on the targeted shards only, hence the statement is executed unchanged on each of them
+        List<CompletableFuture<Integer>> futures = targetShards.stream()
+            .map(shard -> CompletableFuture.supplyAsync(() -> shards.get(shard).update(statement), executorService))
+            .toList();
+
+        int affectedRowCount = 0;
+        RuntimeException failure = null;
+        for (CompletableFuture<Integer> future : futures) {
+            try {
+                affectedRowCount += future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException re ? re : e;
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+
+        if (nonNull(failure)) {
+            throw failure;
+        }
+
+        return affectedRowCount;
+    }
+
+    private <T> List<ResultCursor<T>> openCursors(Map<Integer, SelectStatement> shardStatements, RowMapper<T> rowMapper) {
+        List<CompletableFuture<ResultCursor<T>>> futures = shardStatements.entrySet().stream()
+            .map(e -> CompletableFuture.supplyAsync(() -> shards.get(e.getKey()).openCursor(e.getValue(), rowMapper), executorService))
+            .toList();
+
+        List<ResultCursor<T>> cursors = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<ResultCursor<T>> future : futures) {
+            try {
+                cursors.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException re ? re : e;
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+
+        if (nonNull(failure)) {
+            closeCursors(cursors, failure);
+            throw failure;
+        }
+
+        return cursors;
+    }
+
+    private <T> void advance(PriorityQueue<ShardHead<T>> heads, List<ResultCursor<T>> cursors, int shard) {
+        ResultCursor<T> cursor = cursors.get(shard);
+        if (cursor.hasNext()) {
+            heads.add(new ShardHead<>(shard, cursor.next()));
+        }
+    }
+
+    private <T> void closeCursors(List<ResultCursor<T>> cursors, RuntimeException failure) {
+        RuntimeException closeFailure = failure;
+        for (ResultCursor<T> cursor : cursors) {
+            try {
+                cursor.close();
+            } catch (RuntimeException e) {
+                if (closeFailure == null) {
+                    closeFailure = e;
+                } else {
+                    closeFailure.addSuppressed(e);
+                }
+            }
+        }
+
+        if (nonNull(closeFailure) && closeFailure != failure) {
+            throw closeFailure;
+        }
+    }
+
+    private record ShardHead<T>(int shard, T row) {
+    }
+}
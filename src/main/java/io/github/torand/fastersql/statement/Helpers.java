@@ -15,14 +15,31 @@
  */
 package io.github.torand.fastersql.statement;
 
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.join.Join;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.predicate.Predicate;
+import io.github.torand.fastersql.sql.Context;
+
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static io.github.torand.fastersql.dialect.Capability.INSERT_OUTPUT;
+import static io.github.torand.fastersql.dialect.Capability.INSERT_RETURNING;
+import static io.github.torand.fastersql.sql.Clause.RESTRICTION;
+import static io.github.torand.fastersql.sql.Command.SELECT;
+import static io.github.torand.javacommons.collection.CollectionHelper.headOf;
+import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * Provides statement utility functions.
@@ -62,4 +79,103 @@ public final class Helpers {
     public static <T> Collection<T> unwrapSuppliers(Supplier<T>... suppliers) {
         return streamSafely(suppliers).map(Supplier::get).filter(Objects::nonNull).toList();
     }
+
+    /**
+     * Formats the OUTPUT clause of an INSERT statement returning values of specified columns, if supported by the SQL dialect.
+     * The clause is placed before the VALUES clause.
+     * @param context the context (incl. dialect).
+     * @param returningColumns the columns to return values of.
+     * @return the formatted SQL fragment; empty if no columns or not supported by the SQL dialect.
+     */
+    static String insertOutputSql(Context context, List<Column> returningColumns) {
+        if (nonEmpty(returningColumns) && context.getDialect().supports(INSERT_OUTPUT)) {
+            return " output " + streamSafely(returningColumns).map(c -> "inserted." + c.name()).collect(joining(", "));
+        }
+        return "";
+    }
+
+    /**
+     * Formats the RETURNING clause of an INSERT statement returning values of specified columns, if supported by the SQL dialect.
+     * The clause is placed at the end of the statement.
+     * @param context the context (incl. dialect).
+     * @param returningColumns the columns to return values of.
+     * @return the formatted SQL fragment; empty if no columns or not supported by the SQL dialect.
+     */
+    static String insertReturningSql(Context context, List<Column> returningColumns) {
+        if (nonEmpty(returningColumns) && context.getDialect().supports(INSERT_RETURNING)) {
+            return " returning " + streamSafely(returningColumns).map(Column::name).collect(joining(", "));
+        }
+        return "";
+    }
+
+    /**
+     * Indicates whether returned values are produced as the result set of the statement itself, rather than as generated keys.
+     * @param dialect the SQL dialect.
+     * @return true if returned values are produced as the result set of the statement; else false.
+     */
+    static boolean returnsResultSet(Dialect dialect) {
+        return dialect.supports(INSERT_RETURNING) || dialect.supports(INSERT_OUTPUT);
+    }
+
+    /**
+     * Creates a context rendering table aliases and alias qualified columns, as required by UPDATE and DELETE statements with joins.
+     * @param context the context (incl. dialect).
+     * @return the modified context.
+     */
+    static Context joinContext(Context context) {
+        // Tables and columns are qualified by alias only when rendered as part of a query
+        return context.withCommand(SELECT).withClause(RESTRICTION);
+    }
+
+    /**
+     * Formats the FROM and WHERE clauses of a subquery of the tables joined by an UPDATE or DELETE statement,
+     * correlated with the target table by the condition of the first join. Used when the SQL dialect has no
+     * native join syntax for the statement.
+     * @param context the join context, see {@link #joinContext(Context)}.
+     * @param joins the JOIN clauses.
+     * @param predicates the predicates of the WHERE clause.
+     * @return the formatted SQL fragment.
+     */
+    static String correlatedSubquerySql(Context context, List<Join> joins, List<Predicate> predicates) {
+        Join first = headOf(joins);
+        if (!first.isInner()) {
+            throw new UnsupportedOperationException("%s does not support outer joins in UPDATE and DELETE statements".formatted(context.getDialect().getProductName()));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(" from ").append(first.joined().sql(context));
+        streamSafely(joins).skip(1).forEach(j -> sb.append(" ").append(j.sql(context)));
+        sb.append(" where ").append(first.conditionSql(context));
+        streamSafely(predicates).forEach(p -> sb.append(" and ").append(p.sql(context)));
+
+        return sb.toString();
+    }
+
+    /**
+     * Gets the parameters of the subquery formatted by {@link #correlatedSubquerySql(Context, List, List)}.
+     * @param context the join context, see {@link #joinContext(Context)}.
+     * @param joins the JOIN clauses.
+     * @param predicates the predicates of the WHERE clause.
+     * @return the parameters.
+     */
+    static Stream<Object> correlatedSubqueryParams(Context context, List<Join> joins, List<Predicate> predicates) {
+        return Stream.of(
+                streamSafely(joins).skip(1).flatMap(j -> j.params(context)),
+                headOf(joins).params(context),
+                streamSafely(predicates).flatMap(p -> p.params(context)))
+            .flatMap(identity());
+    }
+
+    /**
+     * Gets the names of the tables an UPDATE or DELETE statement may reference columns of.
+     * @param table the target table.
+     * @param joins the JOIN clauses.
+     * @return the table names.
+     */
+    static Set<String> referencableTableNames(Table table, List<Join> joins) {
+        return Stream.concat(Stream.of(table), streamSafely(joins).map(Join::joined))
+            .map(Table::name)
+            .map(String::toUpperCase)
+            .collect(toSet());
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.hint.Hint;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.dialect.Capability.INDEX_HINTS;
+import static io.github.torand.javacommons.collection.CollectionHelper.isEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Formats optimizer hints, table hints and query options of statements in the form supported by the SQL dialect.
+ */
+final class HintRenderer {
+    private HintRenderer() {}
+
+    /**
+     * Formats the optimizer hint comment succeeding the statement command keyword.
+     * @param context the context (incl. dialect).
+     * @param hints the hints.
+     * @return the formatted SQL fragment incl. a trailing space; empty if no hints supported by the SQL dialect.
+     */
+    static String optimizerHintSql(Context context, List<Hint> hints) {
+        List<String> entries = streamSafely(hints).map(h -> h.optimizerHintSql(context)).flatMap(Optional::stream).toList();
+        return isEmpty(entries) ? "" : "/*+ " + String.join(" ", entries) + " */ ";
+    }
+
+    /**
+     * Inserts the optimizer hint comment succeeding the command keyword of a formatted DML statement.
+     * @param context the context (incl. dialect).
+     * @param hints the hints.
+     * @param sql the formatted statement, starting with its command keyword.
+     * @return the formatted statement with optimizer hints.
+     */
+    static String withOptimizerHintSql(Context context, List<Hint> hints, String sql) {
+        String hintSql = optimizerHintSql(context, hints);
+        if (hintSql.isEmpty()) {
+            return sql;
+        }
+
+        int commandEnd = sql.indexOf(' ') + 1;
+        return sql.substring(0, commandEnd) + hintSql + sql.substring(commandEnd);
+    }
+
+    /**
+     * Gets the table hints of the tables referenced by a statement, incl. locking hints, keyed by table name.
+     * @param context the context (incl. dialect).
+     * @param hints the hints.
+     * @param rowLock the row lock, if any.
+     * @param tables the supplier of the tables of the FROM and JOIN clauses, only invoked if there are hints or a row lock.
+     * @return the formatted table hints, possibly empty.
+     */
+    static Map<String, String> tableHints(Context context, List<Hint> hints, RowLock rowLock, Supplier<Stream<Table>> tables) {
+        if (isEmpty(hints) && isNull(rowLock)) {
+            return emptyMap();
+        }
+
+        final Dialect dialect = context.getDialect();
+
+        Map<String, String> tableHints = new HashMap<>();
+        tables.get().forEach(table -> {
+            List<String> entries = Stream.concat(
+                    streamSafely(hints).map(h -> h.tableHintSql(context, table)).flatMap(Optional::stream),
+                    nonNull(rowLock) ? streamSafely(rowLock.tableHints(dialect, table)) : Stream.empty())
+                .toList();
+
+            if (!isEmpty(entries)) {
+                tableHints.put(table.name(), dialect.supports(INDEX_HINTS)
+                    ? String.join(" ", entries)
+                    : "with (" + String.join(", ", entries) + ")");
+            }
+        });
+
+        return tableHints;
+    }
+
+    /**
+     * Formats the query option clause succeeding the statement.
+     * @param context the context (incl. dialect).
+     * @param hints the hints.
+     * @return the formatted SQL fragment incl. a leading space; empty if no hints supported by the SQL dialect.
+     */
+    static String queryOptionSql(Context context, List<Hint> hints) {
+        List<String> entries = streamSafely(hints).map(h -> h.queryOptionSql(context)).flatMap(Optional::stream).toList();
+        return isEmpty(entries) ? "" : " option (" + String.join(", ", entries) + ")";
+    }
+}
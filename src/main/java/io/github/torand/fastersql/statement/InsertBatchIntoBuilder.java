@@ -41,6 +41,6 @@ public class InsertBatchIntoBuilder<T> {
      * @return the statement.
      */
     public InsertBatchStatement<T> into(Table table) {
-        return new InsertBatchStatement<>(entities, requireNonNull(table, "No table specified"), null);
+        return new InsertBatchStatement<>(entities, requireNonNull(table, "No table specified"), null, null);
     }
 }
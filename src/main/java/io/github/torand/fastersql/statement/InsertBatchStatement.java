@@ -28,6 +28,9 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static io.github.torand.fastersql.sql.Command.INSERT;
+import static io.github.torand.fastersql.statement.AppendOnlyList.concat;
+import static io.github.torand.fastersql.statement.Helpers.insertOutputSql;
+import static io.github.torand.fastersql.statement.Helpers.insertReturningSql;
 import static io.github.torand.javacommons.collection.CollectionHelper.*;
 import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
@@ -43,11 +46,13 @@ public class InsertBatchStatement<T> implements PreparableStatement {
     private final Table table;
     private final List<ColumnValueExtractor<? super T>> columnValueExtractors;
     private final List<? extends T> entities;
+    private final List<Column> returningColumns;
 
-    InsertBatchStatement(Collection<? extends T> entities, Table table, Collection<ColumnValueExtractor<? super T>> columnValueExtractors) {
-        this.entities = asList(requireNonEmpty(entities, "No entities specified"));
+    InsertBatchStatement(Collection<? extends T> entities, Table table, Collection<ColumnValueExtractor<? super T>> columnValueExtractors, Collection<Column> returningColumns) {
+        this.entities = AppendOnlyList.of(requireNonEmpty(entities, "No entities specified"));
         this.table = requireNonNull(table, "No table specified");
-        this.columnValueExtractors = asList(columnValueExtractors);
+        this.columnValueExtractors = AppendOnlyList.of(columnValueExtractors);
+        this.returningColumns = AppendOnlyList.of(returningColumns);
     }
 
     /**
@@ -61,15 +66,38 @@ public class InsertBatchStatement<T> implements PreparableStatement {
         requireNonNull(valueExtractor, "No value extractor specified");
 
         List<ColumnValueExtractor<? super T>> concatenated = concat(columnValueExtractors, new ColumnValueExtractor<>(column, valueExtractor));
-        return new InsertBatchStatement<>(entities, table, concatenated);
+        return new InsertBatchStatement<>(entities, table, concatenated, returningColumns);
+    }
+
+    /**
+     * Specifies columns whose values are returned by the statement for each entity, in entity order, typically generated keys and defaults.
+     * Execute the statement using {@link StatementExecutor#executeReturning(PreparableStatement, RowMapper)} to retrieve the values.
+     * @param columns the columns to return values of.
+     * @return the modified statement.
+     */
+    public InsertBatchStatement<T> returning(Column... columns) {
+        requireNonEmpty(columns, "No columns specified");
+
+        List<Column> concatenated = concat(returningColumns, columns);
+        return new InsertBatchStatement<>(entities, table, columnValueExtractors, concatenated);
+    }
+
+    @Override
+    public List<Column> getReturningColumns() {
+        return returningColumns;
     }
 
     @Override
     public String sql(Context context) {
         final Context localContext = context.withCommand(INSERT);
-        validate();
+        if (!context.isTrusted()) {
+            validate();
+        }
 
         if (context.getDialect() instanceof OracleDialect) {
+            if (nonEmpty(returningColumns)) {
+                throw new UnsupportedOperationException("Oracle does not support returning values from batch inserts");
+            }
 
             // INSERT ALL
             //   INTO t (col1, col2, col3) VALUES ('val1_1', 'val1_2', 'val1_3')
@@ -103,10 +131,13 @@ public class InsertBatchStatement<T> implements PreparableStatement {
             return "insert into " + table.sql(context) +
                 " (" +
                 columnValueExtractors().map(cve -> cve.column().sql(localContext)).collect(joining(", ")) +
-                ") values " +
+                ")" +
+                insertOutputSql(localContext, returningColumns) +
+                " values " +
                 entities()
                     .map(e -> "(" + columnValueExtractors().map(cve -> cve.valueSql(localContext, e)).collect(joining(", ")) + ")")
-                    .collect(joining(", "));
+                    .collect(joining(", ")) +
+                insertReturningSql(localContext, returningColumns);
         }
     }
 
@@ -134,6 +165,7 @@ public class InsertBatchStatement<T> implements PreparableStatement {
             throw new IllegalStateException("No values specified");
         }
         validateColumnTableRelations(columnValueExtractors().map(ColumnValueExtractor::column));
+        validateColumnTableRelations(streamSafely(returningColumns));
     }
 
     private void validateColumnTableRelations(Stream<Column> columns) {
@@ -37,6 +37,6 @@ public class InsertIntoBuilder {
      * @return the statement.
      */
     public InsertStatement into(Table table) {
-        return new InsertStatement(requireNonNull(table, "No table specified"), null);
+        return new InsertStatement(requireNonNull(table, "No table specified"), null, null);
     }
 }
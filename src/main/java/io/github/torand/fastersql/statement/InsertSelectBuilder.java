@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.model.Table;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder of INSERT statements inserting the result of a SELECT statement into specified columns.
+ */
+public class InsertSelectBuilder {
+    private final Table table;
+    private final List<Column> columns;
+
+    InsertSelectBuilder(Table table, List<Column> columns) {
+        this.table = requireNonNull(table, "No table specified");
+        this.columns = requireNonNull(columns, "No columns specified");
+    }
+
+    /**
+     * Creates an INSERT statement inserting the rows returned by specified SELECT statement.
+     * The projections of the SELECT statement are assigned to the columns in the order specified.
+     * @param selectStatement the SELECT statement.
+     * @return the statement.
+     */
+    public InsertSelectStatement select(SelectStatement selectStatement) {
+        return new InsertSelectStatement(table, columns, requireNonNull(selectStatement, "No select statement specified"));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.AnsiIsoDialect;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.sql.Command.INSERT;
+import static io.github.torand.javacommons.collection.CollectionHelper.asList;
+import static io.github.torand.javacommons.collection.CollectionHelper.isEmpty;
+import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Implements an INSERT statement inserting the rows returned by a SELECT statement.
+ * The rows are copied entirely within the database, without passing through the client.
+ */
+public class InsertSelectStatement implements PreparableStatement {
+    private final Table table;
+    private final List<Column> columns;
+    private final SelectStatement selectStatement;
+
+    InsertSelectStatement(Table table, Collection<Column> columns, SelectStatement selectStatement) {
+        this.table = requireNonNull(table, "No table specified");
+        this.columns = asList(columns);
+        this.selectStatement = requireNonNull(selectStatement, "No select statement specified");
+    }
+
+    @Override
+    public String sql(Context context) {
+        final Context localContext = context.withCommand(INSERT);
+        if (!context.isTrusted()) {
+            validate();
+        }
+
+        return "insert into " + table.sql(context) +
+            " (" +
+            streamSafely(columns).map(c -> c.sql(localContext)).collect(joining(", ")) +
+            ") " +
+            selectStatement.sql(localContext);
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        return selectStatement.params(context.withCommand(INSERT));
+    }
+
+    private void validate() {
+        if (isEmpty(columns)) {
+            throw new IllegalStateException("No columns specified");
+        }
+
+        streamSafely(columns)
+            .filter(c -> !table.name().equals(c.table().name()))
+            .findFirst()
+            .ifPresent(c -> {
+                throw new IllegalStateException("Column " + c.name() + " belongs to table " + c.table().name() + ", not the table specified by the INTO clause");
+            });
+
+        // The WITH clause of the SELECT statement is declared by top level statements only
+        if (nonEmpty(selectStatement.commonTableExpressions())) {
+            throw new IllegalStateException("Common table expressions are not supported in the SELECT statement of an INSERT statement");
+        }
+
+        long projCount = selectStatement.projections().count();
+        if (projCount != columns.size()) {
+            throw new IllegalStateException("INSERT statement has %d columns, but the SELECT statement has %d projections".formatted(columns.size(), projCount));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toString(new AnsiIsoDialect());
+    }
+}
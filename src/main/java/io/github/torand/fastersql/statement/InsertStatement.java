@@ -28,7 +28,11 @@ import java.util.stream.Stream;
 
 import static io.github.torand.fastersql.constant.Constants.$;
 import static io.github.torand.fastersql.sql.Command.INSERT;
+import static io.github.torand.fastersql.statement.AppendOnlyList.concat;
+import static io.github.torand.fastersql.statement.Helpers.insertOutputSql;
+import static io.github.torand.fastersql.statement.Helpers.insertReturningSql;
 import static io.github.torand.javacommons.collection.CollectionHelper.*;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
@@ -40,10 +44,12 @@ import static java.util.stream.Collectors.joining;
 public class InsertStatement implements PreparableStatement {
     private final Table table;
     private final List<ColumnValue> columnValues;
+    private final List<Column> returningColumns;
 
-    InsertStatement(Table table, Collection<ColumnValue> columnValues) {
+    InsertStatement(Table table, Collection<ColumnValue> columnValues, Collection<Column> returningColumns) {
         this.table = requireNonNull(table, "No table specified");
-        this.columnValues = asList(columnValues);
+        this.columnValues = AppendOnlyList.of(columnValues);
+        this.returningColumns = AppendOnlyList.of(returningColumns);
     }
 
     /**
@@ -57,7 +63,7 @@ public class InsertStatement implements PreparableStatement {
         requireNonNull(value, "No expression specified");
 
         List<ColumnValue> concatenated = concat(columnValues, new ColumnValue(column, value));
-        return new InsertStatement(table, concatenated);
+        return new InsertStatement(table, concatenated, returningColumns);
     }
 
     /**
@@ -70,7 +76,7 @@ public class InsertStatement implements PreparableStatement {
         requireNonNull(column, "No column specified");
 
         List<ColumnValue> concatenated = concat(columnValues, new ColumnValue(column, $(value)));
-        return new InsertStatement(table, concatenated);
+        return new InsertStatement(table, concatenated, returningColumns);
     }
 
     /**
@@ -86,23 +92,64 @@ public class InsertStatement implements PreparableStatement {
 
         if (maybeValue.isPresent()) {
             List<ColumnValue> concatenated = concat(columnValues, new ColumnValue(column, $(maybeValue.get())));
-            return new InsertStatement(table, concatenated);
+            return new InsertStatement(table, concatenated, returningColumns);
         } else {
             return this;
         }
     }
 
+    /**
+     * Specifies the columns to insert the rows of a SELECT statement into, see {@link InsertSelectBuilder#select(SelectStatement)}.
+     * Rows are copied entirely within the database, e.g. when archiving or transforming data between tables.
+     * @param columns the columns to insert into.
+     * @return the statement builder.
+     */
+    public InsertSelectBuilder columns(Column... columns) {
+        requireNonEmpty(columns, "No columns specified");
+        if (nonEmpty(columnValues)) {
+            throw new IllegalStateException("Columns can't be combined with values");
+        }
+        if (nonEmpty(returningColumns)) {
+            throw new IllegalStateException("Columns can't be combined with returning columns");
+        }
+
+        return new InsertSelectBuilder(table, List.of(columns));
+    }
+
+    /**
+     * Specifies columns whose values are returned by the statement, typically generated keys and defaults.
+     * Execute the statement using {@link StatementExecutor#executeReturning(PreparableStatement, RowMapper)} to retrieve the values.
+     * @param columns the columns to return values of.
+     * @return the modified statement.
+     */
+    public InsertStatement returning(Column... columns) {
+        requireNonEmpty(columns, "No columns specified");
+
+        List<Column> concatenated = concat(returningColumns, columns);
+        return new InsertStatement(table, columnValues, concatenated);
+    }
+
+    @Override
+    public List<Column> getReturningColumns() {
+        return returningColumns;
+    }
+
     @Override
     public String sql(Context context) {
         final Context localContext = context.withCommand(INSERT);
-        validate();
+        if (!context.isTrusted()) {
+            validate();
+        }
 
         return "insert into " + table.sql(context) +
             " (" +
             streamSafely(columnValues).map(cv -> cv.column().sql(localContext)).collect(joining(", ")) +
-            ") values (" +
+            ")" +
+            insertOutputSql(localContext, returningColumns) +
+            " values (" +
             streamSafely(columnValues).map(cv -> cv.valueSql(localContext)).collect(joining(", ")) +
-            ")";
+            ")" +
+            insertReturningSql(localContext, returningColumns);
     }
 
     @Override
@@ -120,6 +167,12 @@ public class InsertStatement implements PreparableStatement {
             throw new IllegalStateException("No values specified");
         }
         validateColumnTableRelations(streamSafely(columnValues).map(ColumnValue::column));
+        validateColumnTableRelations(streamSafely(returningColumns));
+
+        // The WITH clause is declared by top level SELECT statements only
+        if (CommonTableExpression.referencedBy(streamSafely(columnValues).flatMap(ColumnValue::valueSubqueries)).findAny().isPresent()) {
+            throw new IllegalStateException("Common table expressions are not supported in the subqueries of an INSERT statement");
+        }
     }
 
     private void validateColumnTableRelations(Stream<Column> columns) {
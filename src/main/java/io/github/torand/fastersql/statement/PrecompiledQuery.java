@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.Capability;
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.sql.Context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implements a query whose SQL is formatted once per SQL dialect, typically at application startup, rather than on every execution.
+ * Executing a precompiled query binds parameter values to the formatted SQL, without formatting the underlying SELECT statement again.
+ * <p>
+ * Values varying between executions are specified as named parameters in the underlying statement, and bound before execution:
+ * </p>
+ * <pre>{@code
+ * static final PrecompiledQuery PRODUCTS_BY_CATEGORY = PrecompiledQuery.compile(
+ *     select(PRODUCT.NAME).from(PRODUCT).where(PRODUCT.CATEGORY.eq(parameter("category"))),
+ *     new PostgreSqlDialect());
+ *
+ * executor.query(PRODUCTS_BY_CATEGORY.bind("category", "LAMP"), rs -> rs.getString("PR_NAME"));
+ * }</pre>
+ * <p>
+ * The SQL of dialects not specified when compiling is formatted on first use. Statements executed with table substitutions
+ * affecting the query are formatted on every execution.
+ * </p>
+ */
+public final class PrecompiledQuery implements PreparableStatement {
+    private final SelectStatement query;
+    private final ConcurrentMap<DialectKey, Template> templates;
+    private final AtomicReference<LastTemplate> lastTemplate;
+    private final Map<String, Object> bindings;
+
+    /**
+     * Creates a precompiled query, formatting the SQL of specified query for specified dialects.
+     * The query is validated once, when formatted.
+     * @param query the query.
+     * @param firstDialect the first SQL dialect.
+     * @param moreDialects the other SQL dialects, if any.
+     * @return the precompiled query.
+     */
+    public static PrecompiledQuery compile(SelectStatement query, Dialect firstDialect, Dialect... moreDialects) {
+        requireNonNull(query, "No query specified");
+        requireNonNull(firstDialect, "First dialect is null");
+
+        PrecompiledQuery precompiled = new PrecompiledQuery(query, new ConcurrentHashMap<>(), new AtomicReference<>(), emptyMap());
+        Stream.concat(Stream.of(firstDialect), streamSafely(moreDialects)).forEach(precompiled::template);
+        return precompiled;
+    }
+
+    /**
+     * Creates a named parameter, to be specified as a value in the query of a precompiled query, and bound before execution.
+     * @param name the parameter name.
+     * @return the parameter.
+     */
+    public static Parameter parameter(String name) {
+        requireNonBlank(name, "No parameter name specified");
+        return new Parameter(name);
+    }
+
+    private PrecompiledQuery(SelectStatement query, ConcurrentMap<DialectKey, Template> templates, AtomicReference<LastTemplate> lastTemplate, Map<String, Object> bindings) {
+        this.query = query;
+        this.templates = templates;
+        this.lastTemplate = lastTemplate;
+        this.bindings = bindings;
+    }
+
+    /**
+     * Binds a value to the named parameter of the query.
+     * @param name the parameter name.
+     * @param value the parameter value.
+     * @return the modified precompiled query.
+     */
+    public PrecompiledQuery bind(String name, Object value) {
+        requireNonBlank(name, "No parameter name specified");
+        Map<String, Object> newBindings = new HashMap<>(bindings);
+        newBindings.put(name, value);
+        return new PrecompiledQuery(query, templates, lastTemplate, unmodifiableMap(newBindings));
+    }
+
+    @Override
+    public Optional<Duration> getTimeout() {
+        return query.getTimeout();
+    }
+
+    SelectStatement query() {
+        return query;
+    }
+
+    @Override
+    public String sql(Context context) {
+        Template template = template(context.getDialect());
+        return template.isApplicable(context) ? template.sql() : query.sql(context);
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        Template template = template(context.getDialect());
+        List<Object> params = template.isApplicable(context) ? template.params() : query.params(context).toList();
+        return params.stream().map(this::bindParam);
+    }
+
+    private Template template(Dialect dialect) {
+        // Dialects are immutable, and typically one instance is used per application, hence avoid computing the key
+        LastTemplate last = lastTemplate.get();
+        if (nonNull(last) && last.dialect() == dialect) {
+            return last.template();
+        }
+
+        Template template = templates.computeIfAbsent(DialectKey.of(dialect), key -> {
+            Set<String> tableNames = new LinkedHashSet<>();
+            Context context = Context.of(dialect).withReferencedTableNames(tableNames);
+            String sql = query.sql(context);
+            List<Object> params = new ArrayList<>();
+            query.params(context).forEach(params::add);
+            return new Template(sql, params, List.copyOf(tableNames));
+        });
+
+        lastTemplate.set(new LastTemplate(dialect, template));
+        return template;
+    }
+
+    private Object bindParam(Object param) {
+        if (param instanceof Parameter parameter) {
+            if (!bindings.containsKey(parameter.name())) {
+                throw new IllegalStateException("Parameter " + parameter.name() + " is not bound");
+            }
+            return bindings.get(parameter.name());
+        }
+        return param;
+    }
+
+    @Override
+    public String toString() {
+        return query.toString();
+    }
+
+    /**
+     * Represents a named parameter of a precompiled query.
+     * @param name the parameter name.
+     */
+    public record Parameter(String name) {
+    }
+
+    /**
+     * Identifies a dialect by type and capabilities, since the formatted SQL depends on these only.
+     */
+    private record DialectKey(Class<? extends Dialect> type, Set<Capability> capabilities) {
+        static DialectKey of(Dialect dialect) {
+            Set<Capability> capabilities = EnumSet.noneOf(Capability.class);
+            for (Capability capability : Capability.values()) {
+                if (dialect.supports(capability)) {
+                    capabilities.add(capability);
+                }
+            }
+            return new DialectKey(dialect.getClass(), capabilities);
+        }
+    }
+
+    /**
+     * The template most recently used, with the dialect instance it was looked up by.
+     */
+    private record LastTemplate(Dialect dialect, Template template) {
+    }
+
+    /**
+     * The formatted SQL and parameters of the query, including unbound parameters, formatted without table substitutions.
+     */
+    private record Template(String sql, List<Object> params, List<String> tableNames) {
+        boolean isApplicable(Context context) {
+            if (isNull(context.getCommand()) && !context.hasOuterStatements()) {
+                // Resolving the table names collects them, if requested by the context
+                return tableNames.stream().allMatch(name -> name.equals(context.resolveTableName(name)));
+            }
+            return false;
+        }
+    }
+}
@@ -16,13 +16,18 @@
 package io.github.torand.fastersql.statement;
 
 import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static io.github.torand.javacommons.lang.StringHelper.isBlank;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -30,6 +35,22 @@ import static java.util.stream.Collectors.joining;
  */
 public interface PreparableStatement extends Sql {
 
+    /**
+     * Gets the maximum time the database may spend executing this statement, if specified.
+     * @return the timeout, if specified.
+     */
+    default Optional<Duration> getTimeout() {
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the columns whose values are returned by this statement, if any.
+     * @return the returned columns; empty if no values are returned.
+     */
+    default List<Column> getReturningColumns() {
+        return emptyList();
+    }
+
     /**
      * Gets the SQL of specified dialect for this statement.
      * @param dialect the SQL dialect.
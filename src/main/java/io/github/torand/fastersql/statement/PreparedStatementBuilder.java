@@ -17,6 +17,8 @@ package io.github.torand.fastersql.statement;
 
 import io.github.torand.fastersql.dialect.Dialect;
 import io.github.torand.fastersql.dialect.DialectResolver;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.model.Table;
 import io.github.torand.fastersql.sql.Context;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,9 +27,17 @@ import java.io.InputStream;
 import java.net.URI;
 import java.sql.*;
 import java.time.*;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
 /**
  * Builder for creating PreparedStatement with a Connection.
  */
@@ -35,6 +45,9 @@ public class PreparedStatementBuilder {
     private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementBuilder.class);
     private final Connection connection;
     private final Dialect dialect;
+    private final Map<String, String> tableSubstitutions;
+    private final Set<String> referencedTableNames;
+    private final boolean trusted;
 
     /**
      * Creates builder for statements to be executed on specified connection.
@@ -43,7 +56,7 @@ public class PreparedStatementBuilder {
      * @return the statement builder
      */
     public static PreparedStatementBuilder using(Connection connection) {
-        return new PreparedStatementBuilder(connection, DialectResolver.fromConnection(connection));
+        return new PreparedStatementBuilder(connection, DialectResolver.fromConnection(connection), emptyMap(), null, false);
     }
 
     /**
@@ -54,12 +67,54 @@ public class PreparedStatementBuilder {
      * @return the statement builder.
      */
     public static PreparedStatementBuilder using(Connection connection, Dialect dialect) {
-        return new PreparedStatementBuilder(connection, dialect);
+        return new PreparedStatementBuilder(connection, dialect, emptyMap(), null, false);
     }
 
-    private PreparedStatementBuilder(Connection connection, Dialect dialect) {
+    private PreparedStatementBuilder(Connection connection, Dialect dialect, Map<String, String> tableSubstitutions, Set<String> referencedTableNames, boolean trusted) {
         this.connection = connection;
         this.dialect = dialect;
+        this.tableSubstitutions = tableSubstitutions;
+        this.referencedTableNames = referencedTableNames;
+        this.trusted = trusted;
+    }
+
+    /**
+     * Specifies a table name to render in place of the name of specified table, e.g. to target a specific shard or partition.
+     * @param table the table to substitute.
+     * @param substituteName the substitute table name.
+     * @return the modified statement builder.
+     */
+    public PreparedStatementBuilder withTableSubstitution(Table table, String substituteName) {
+        requireNonNull(table, "No table specified");
+        requireNonBlank(substituteName, "No substitute name specified");
+        return new PreparedStatementBuilder(connection, dialect, withSubstitution(tableSubstitutions, table, substituteName), referencedTableNames, trusted);
+    }
+
+    /**
+     * Specifies table names to render in place of the original table names.
+     * @param tableSubstitutions the substitute table names, keyed by original table name.
+     * @return the modified statement builder.
+     */
+    PreparedStatementBuilder withTableSubstitutions(Map<String, String> tableSubstitutions) {
+        return new PreparedStatementBuilder(connection, dialect, tableSubstitutions, referencedTableNames, trusted);
+    }
+
+    /**
+     * Specifies a collector of the names of all tables referenced by the statements prepared by this builder.
+     * @param referencedTableNames the mutable set collecting table names.
+     * @return the modified statement builder.
+     */
+    PreparedStatementBuilder withReferencedTableNames(Set<String> referencedTableNames) {
+        return new PreparedStatementBuilder(connection, dialect, tableSubstitutions, referencedTableNames, trusted);
+    }
+
+    /**
+     * Specifies whether the statements prepared by this builder are trusted, hence not validated.
+     * @param trusted true if statements are trusted; false if not.
+     * @return the modified statement builder.
+     */
+    PreparedStatementBuilder withTrusted(boolean trusted) {
+        return new PreparedStatementBuilder(connection, dialect, tableSubstitutions, referencedTableNames, trusted);
     }
 
     /**
@@ -72,13 +127,59 @@ public class PreparedStatementBuilder {
     public PreparedStatement prepare(PreparableStatement statement) throws SQLException {
         LOGGER.debug("Preparing SQL statement (ANSI/ISO SQL): {}", statement);
 
-        Context context = Context.of(dialect);
+        Context context = context();
 
         String sql = statement.sql(context);
         LOGGER.debug("Generated {} SQL statement: {}", context.getDialect().getProductName(), sql);
-        List<Object> params = statement.params(context).toList();
 
-        PreparedStatement stmt = connection.prepareStatement(sql);
+        return prepare(statement, sql, statement.params(context).toList());
+    }
+
+    /**
+     * Creates JDBC prepared statement from SQL and parameters already formatted from the specified preparable statement,
+     * ready for execution.
+     * @param statement the preparable statement.
+     * @param sql the formatted SQL statement.
+     * @param params the statement parameters.
+     * @return the prepared statement.
+     * @throws SQLException if database access error occurs or statement parameter assignment fails.
+     */
+    PreparedStatement prepare(PreparableStatement statement, String sql, List<Object> params) throws SQLException {
+        PreparedStatement stmt = prepareStatement(sql, statement.getReturningColumns());
+        setParameters(stmt, params);
+
+        if (statement.getTimeout().isPresent()) {
+            stmt.setQueryTimeout(toTimeoutSeconds(statement.getTimeout().get()));
+        }
+
+        return stmt;
+    }
+
+    /**
+     * Formats specified statement as SQL in the dialect of this builder.
+     * @param statement the preparable statement.
+     * @return the formatted SQL statement.
+     */
+    String sql(PreparableStatement statement) {
+        return statement.sql(context());
+    }
+
+    /**
+     * Assigns the parameters of specified statement to a JDBC prepared statement of the same SQL.
+     * @param stmt the prepared statement.
+     * @param statement the preparable statement.
+     * @throws SQLException if statement parameter assignment fails.
+     */
+    void setParameters(PreparedStatement stmt, PreparableStatement statement) throws SQLException {
+        setParameters(stmt, statement.params(context()).toList());
+    }
+
+    private Context context() {
+        Context context = Context.of(dialect).withTableSubstitutions(tableSubstitutions).withTrusted(trusted);
+        return nonNull(referencedTableNames) ? context.withReferencedTableNames(referencedTableNames) : context;
+    }
+
+    private static void setParameters(PreparedStatement stmt, List<Object> params) throws SQLException {
         int i = 1;
         for (Object param : params) {
             if (param instanceof Instant instant) {
@@ -105,7 +206,27 @@ public class PreparedStatementBuilder {
 
             i++;
         }
+    }
 
-        return stmt;
+    private PreparedStatement prepareStatement(String sql, List<Column> returningColumns) throws SQLException {
+        if (returningColumns.isEmpty() || Helpers.returnsResultSet(dialect)) {
+            return connection.prepareStatement(sql);
+        }
+
+        // Returned values are retrieved as generated keys after execution
+        String[] columnNames = returningColumns.stream().map(Column::name).toArray(String[]::new);
+        return connection.prepareStatement(sql, columnNames);
+    }
+
+    private static int toTimeoutSeconds(Duration timeout) {
+        // JDBC query timeout has second resolution, and zero means no timeout
+        long seconds = timeout.toSeconds() + (timeout.toNanosPart() > 0 ? 1 : 0);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, seconds));
+    }
+
+    static Map<String, String> withSubstitution(Map<String, String> tableSubstitutions, Table table, String substituteName) {
+        Map<String, String> newTableSubstitutions = new HashMap<>(tableSubstitutions);
+        newTableSubstitutions.put(table.name(), substituteName);
+        return newTableSubstitutions;
     }
 }
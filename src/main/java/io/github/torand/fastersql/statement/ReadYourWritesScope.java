@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Read-your-writes scope of the current thread, typically spanning a transaction or unit of work.
+ * Once a DML statement has been executed by a {@link StatementExecutor} within the scope, subsequent queries of the
+ * thread are routed to the primary data source instead of the read replicas, until the scope is closed.
+ * Open a scope using {@link StatementExecutor#readYourWrites()}, preferably in a try-with-resources block.
+ * <p>
+ * Scopes may be nested; a write within a nested scope applies to the enclosing scope as well.
+ * </p>
+ */
+public final class ReadYourWritesScope implements AutoCloseable {
+    private static final ThreadLocal<ReadYourWritesScope> CURRENT = new ThreadLocal<>();
+
+    private final ReadYourWritesScope parent;
+    private final Thread owner;
+    private boolean written;
+    private boolean closed;
+
+    static ReadYourWritesScope open() {
+        ReadYourWritesScope scope = new ReadYourWritesScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    private ReadYourWritesScope(ReadYourWritesScope parent) {
+        this.parent = parent;
+        this.owner = Thread.currentThread();
+        this.written = nonNull(parent) && parent.written;
+    }
+
+    /**
+     * Indicates whether a DML statement has been executed within this scope.
+     * @return true if written; else false.
+     */
+    public boolean isWritten() {
+        return written;
+    }
+
+    /**
+     * Closes this scope, making the enclosing scope, if any, current again.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        if (owner != Thread.currentThread() || CURRENT.get() != this) {
+            throw new IllegalStateException("Read-your-writes scope must be closed by its own thread, in reverse order of opening");
+        }
+
+        closed = true;
+        if (isNull(parent)) {
+            CURRENT.remove();
+        } else {
+            parent.written |= written;
+            CURRENT.set(parent);
+        }
+    }
+
+    static void markWritten() {
+        ReadYourWritesScope scope = CURRENT.get();
+        if (nonNull(scope)) {
+            scope.written = true;
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        ReadYourWritesScope scope = CURRENT.get();
+        return nonNull(scope) && scope.written;
+    }
+}
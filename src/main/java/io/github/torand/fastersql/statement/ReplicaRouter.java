@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Distributes connections of read-only queries across read replicas.
+ */
+class ReplicaRouter {
+    private final List<DataSource> replicas;
+    private final ReplicaSelection selection;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicIntegerArray outstanding;
+
+    ReplicaRouter(List<DataSource> replicas, ReplicaSelection selection) {
+        requireNonEmpty(replicas, "No replicas specified");
+        this.replicas = List.copyOf(replicas);
+        this.selection = requireNonNull(selection, "No replica selection specified");
+        this.outstanding = new AtomicIntegerArray(replicas.size());
+    }
+
+    Connection getConnection() throws SQLException {
+        if (selection == ReplicaSelection.ROUND_ROBIN) {
+            return replicas.get(Math.floorMod(nextIndex.getAndIncrement(), replicas.size())).getConnection();
+        }
+
+        int index = leastOutstandingIndex();
+        outstanding.incrementAndGet(index);
+        try {
+            return trackRelease(replicas.get(index).getConnection(), index);
+        } catch (SQLException | RuntimeException e) {
+            outstanding.decrementAndGet(index);
+            throw e;
+        }
+    }
+
+    private int leastOutstandingIndex() {
+        // Start at a rotating offset, to spread load evenly among idle replicas
+        int offset = Math.floorMod(nextIndex.getAndIncrement(), replicas.size());
+        int bestIndex = offset;
+        for (int i = 1; i < replicas.size(); i++) {
+            int index = (offset + i) % replicas.size();
+            if (outstanding.get(index) < outstanding.get(bestIndex)) {
+                bestIndex = index;
+            }
+        }
+        return bestIndex;
+    }
+
+    private Connection trackRelease(Connection connection, int index) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                outstanding.decrementAndGet(index);
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.model.Table;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.github.torand.javacommons.contract.Requires.require;
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * In-memory cache of query results, enabled for a {@link StatementExecutor} using {@link StatementExecutor#withResultCache(ResultCache)}.
+ * Results are cached per SQL, parameter values and row mapper instance, and evicted when expired or when the cache
+ * exceeds its maximum size (least recently used first).
+ * <p>
+ * DML statements executed by a caching executor invalidate all cached results of queries referencing the affected tables.
+ * Changes made by other means, e.g. by other applications, are not detected and become visible when cached results expire,
+ * or when invalidated explicitly using {@link #invalidate(Table)}.
+ * </p>
+ * <p>
+ * The cache is thread safe, and may be shared by several executors of the same database.
+ * </p>
+ */
+public final class ResultCache {
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final Map<Key, Entry> entries;
+    private long generation;
+
+    /**
+     * Creates a result cache.
+     * @param maxEntries the maximum number of cached query results.
+     * @param timeToLive the duration a query result is cached.
+     * @return the result cache.
+     */
+    public static ResultCache create(int maxEntries, Duration timeToLive) {
+        require(() -> maxEntries > 0, "Max entries must be positive");
+        requireNonNull(timeToLive, "No time to live specified");
+        require(() -> !timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+        return new ResultCache(maxEntries, timeToLive);
+    }
+
+    private ResultCache(int maxEntries, Duration timeToLive) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > ResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Invalidates the cached results of all queries referencing specified table.
+     * Results are cached per table name as rendered, i.e. after table substitution. For tables substituted by the executor,
+     * use {@link #invalidate(String)} with the substitute name, or {@link StatementExecutor#invalidateCachedResults(Table)}.
+     * @param table the table.
+     */
+    public void invalidate(Table table) {
+        requireNonNull(table, "No table specified");
+        invalidate(Set.of(table.name()));
+    }
+
+    /**
+     * Invalidates the cached results of all queries referencing a table by specified name, as rendered in the SQL of
+     * the queries, i.e. the substitute name for tables substituted using {@link StatementExecutor#withTableSubstitution(Table, String)}.
+     * @param resolvedTableName the table name as rendered.
+     */
+    public void invalidate(String resolvedTableName) {
+        requireNonBlank(resolvedTableName, "No table name specified");
+        invalidate(Set.of(resolvedTableName));
+    }
+
+    /**
+     * Invalidates all cached results.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        generation++;
+    }
+
+    /**
+     * Gets the number of cached results, including expired results not yet evicted.
+     * @return the number of cached results.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized void invalidate(Set<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return;
+        }
+
+        entries.values().removeIf(entry -> !Collections.disjoint(entry.tableNames(), tableNames));
+        generation++;
+    }
+
+    synchronized long generation() {
+        return generation;
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized <T> Optional<List<T>> get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        if (System.nanoTime() - entry.createdNanos() > timeToLiveNanos) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+
+        // The row mapper is part of the key, hence the rows are of the requested type
+        return Optional.of(new ArrayList<>((List<T>) entry.rows()));
+    }
+
+    synchronized void put(Key key, Set<String> tableNames, List<?> rows, long expectedGeneration) {
+        // Skip results possibly read before an invalidation of their tables
+        if (generation == expectedGeneration) {
+            entries.put(key, new Entry(Set.copyOf(tableNames), Collections.unmodifiableList(new ArrayList<>(rows)), System.nanoTime()));
+        }
+    }
+
+    record Key(String sql, List<Object> params, RowMapper<?> rowMapper) {
+    }
+
+    private record Entry(Set<String> tableNames, List<?> rows, long createdNanos) {
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Iterates the rows of an open result set, mapping one row at a time.
+ * Owns the result set, the statement and the connection, which are all closed when the cursor is closed.
+ * @param <T> the type of object each row is mapped to.
+ */
+class ResultCursor<T> implements Iterator<T>, AutoCloseable {
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final RowMapper<T> rowMapper;
+    private final boolean restoreAutoCommit;
+
+    private Boolean hasNext;
+    private boolean closed;
+
+    ResultCursor(Connection connection, PreparedStatement statement, ResultSet resultSet, RowMapper<T> rowMapper, boolean restoreAutoCommit) {
+        this.connection = requireNonNull(connection, "No connection specified");
+        this.statement = requireNonNull(statement, "No statement specified");
+        this.resultSet = requireNonNull(resultSet, "No result set specified");
+        this.rowMapper = requireNonNull(rowMapper, "No row mapper specified");
+        this.restoreAutoCommit = restoreAutoCommit;
+    }
+
+    /**
+     * Gets a sequential stream of the mapped rows. Closing the stream closes this cursor.
+     * @return the stream of mapped rows.
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+            .onClose(this::close);
+    }
+
+    /**
+     * Gets the JDBC statement producing the rows of this cursor.
+     * @return the JDBC statement.
+     */
+    PreparedStatement statement() {
+        return statement;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (isNull(hasNext)) {
+            try {
+                hasNext = resultSet.next();
+            } catch (SQLException e) {
+                throw new FasterSQLException("Failed to fetch next row", e);
+            }
+        }
+
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows");
+        }
+
+        hasNext = null;
+        try {
+            return rowMapper.map(resultSet);
+        } catch (SQLException e) {
+            throw new FasterSQLException("Failed to map row", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        SQLException failure = null;
+        failure = closeSafely(resultSet::close, failure);
+        failure = closeSafely(statement::close, failure);
+        if (restoreAutoCommit) {
+            // Ends the transaction the cursor was fetched within
+            failure = closeSafely(() -> connection.setAutoCommit(true), failure);
+        }
+        failure = closeSafely(connection::close, failure);
+
+        if (nonNull(failure)) {
+            throw new FasterSQLException("Failed to release result set resources", failure);
+        }
+    }
+
+    private SQLException closeSafely(SqlAction action, SQLException failure) {
+        try {
+            action.run();
+            return failure;
+        } catch (SQLException e) {
+            if (nonNull(failure)) {
+                failure.addSuppressed(e);
+                return failure;
+            }
+            return e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlAction {
+        void run() throws SQLException;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Publishes the mapped rows of a query to reactive subscribers.
+ * The query is executed once per subscription, when the subscriber first signals demand.
+ * Rows are read from the result set only as requested by the subscriber, on a thread of the specified executor.
+ * @param <T> the type of object each row is mapped to.
+ */
+class ResultPublisher<T> implements Flow.Publisher<T> {
+    private final StatementExecutor statementExecutor;
+    private final PreparableStatement statement;
+    private final RowMapper<T> rowMapper;
+    private final Executor executor;
+
+    ResultPublisher(StatementExecutor statementExecutor, PreparableStatement statement, RowMapper<T> rowMapper, Executor executor) {
+        this.statementExecutor = requireNonNull(statementExecutor, "No statement executor specified");
+        this.statement = requireNonNull(statement, "No statement specified");
+        this.rowMapper = requireNonNull(rowMapper, "No row mapper specified");
+        this.executor = requireNonNull(executor, "No executor specified");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "No subscriber specified");
+        subscriber.onSubscribe(new ResultSubscription(subscriber));
+    }
+
+    private class ResultSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        private volatile ResultCursor<T> cursor;
+        private volatile boolean cancelled;
+        private volatile RuntimeException requestFailure;
+        private boolean done;
+
+        ResultSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Signalled by the drain thread, to keep subscriber signals serialized
+                requestFailure = new IllegalArgumentException("Requested number of rows must be positive, got " + n);
+            } else {
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            // Aborts a fetch currently blocking the drain thread
+            ResultCursor<T> openCursor = cursor;
+            if (nonNull(openCursor)) {
+                try {
+                    openCursor.statement().cancel();
+                } catch (SQLException e) {
+                    // The statement is closed by the drain thread regardless
+                }
+            }
+
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    cancelled = true;
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    drainAvailable();
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainAvailable() {
+            try {
+                if (cancelled) {
+                    release();
+                    return;
+                }
+
+                if (nonNull(requestFailure)) {
+                    throw requestFailure;
+                }
+
+                if (isNull(cursor)) {
+                    cursor = statementExecutor.openCursor(statement, rowMapper);
+                }
+
+                while (demand.get() > 0 && !cancelled) {
+                    if (!cursor.hasNext()) {
+                        release();
+                        subscriber.onComplete();
+                        return;
+                    }
+
+                    T row = cursor.next();
+                    demand.decrementAndGet();
+                    subscriber.onNext(row);
+                }
+
+                if (cancelled) {
+                    release();
+                }
+            } catch (RuntimeException e) {
+                boolean notify = !cancelled;
+                releaseSafely(e);
+                if (notify) {
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private void release() {
+            done = true;
+            if (nonNull(cursor)) {
+                cursor.close();
+            }
+        }
+
+        private void releaseSafely(RuntimeException failure) {
+            try {
+                release();
+            } catch (RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+}
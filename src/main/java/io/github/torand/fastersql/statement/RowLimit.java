@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.predicate.Predicate;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.dialect.Capability.DML_LIMIT;
+import static io.github.torand.fastersql.dialect.Capability.DML_ROWNUM;
+import static io.github.torand.fastersql.dialect.Capability.DML_TOP;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
+import static java.util.Objects.nonNull;
+
+/**
+ * Limits the number of rows affected by a DELETE or UPDATE statement, in the form supported by the SQL dialect.
+ * Dialects without a native row limit clause are limited by a subquery selecting the key of the affected rows.
+ */
+final class RowLimit {
+    private final long count;
+    private final Column keyColumn;
+
+    /**
+     * Creates a row limit.
+     * @param count the maximum number of affected rows.
+     * @param keyColumn the column uniquely identifying each row, or null to use the row identifier pseudo column of the SQL dialect.
+     */
+    RowLimit(long count, Column keyColumn) {
+        this.count = count;
+        this.keyColumn = keyColumn;
+    }
+
+    /**
+     * Formats the row limit preceding the target table, if supported by the SQL dialect.
+     * @param context the context (incl. dialect).
+     * @return the formatted SQL fragment, possibly empty.
+     */
+    String prefixSql(Context context) {
+        return context.getDialect().supports(DML_TOP) ? "top (?) " : "";
+    }
+
+    Stream<Object> prefixParams(Context context) {
+        return context.getDialect().supports(DML_TOP) ? Stream.of(count) : Stream.empty();
+    }
+
+    /**
+     * Formats the row limit as a WHERE clause condition, if required by the SQL dialect.
+     * @param context the context (incl. dialect).
+     * @param table the target table.
+     * @param predicates the predicates of the WHERE clause.
+     * @return the formatted condition, if required.
+     */
+    Optional<String> conditionSql(Context context, Table table, List<Predicate> predicates) {
+        final Dialect dialect = context.getDialect();
+
+        if (dialect.supports(DML_LIMIT) || dialect.supports(DML_TOP)) {
+            return Optional.empty();
+        } else if (dialect.supports(DML_ROWNUM)) {
+
+            // DELETE FROM t WHERE ... AND ROWNUM <= ?
+
+            return dialect.formatRowNumLiteral().map(rowNum -> rowNum + " <= ?");
+        } else {
+
+            // DELETE FROM t WHERE key IN (SELECT T.key FROM t T WHERE ... LIMIT ?)
+
+            return Optional.of(keySubqueryPredicate(dialect, table, predicates).sql(context));
+        }
+    }
+
+    Stream<Object> conditionParams(Context context, Table table, List<Predicate> predicates) {
+        final Dialect dialect = context.getDialect();
+
+        if (dialect.supports(DML_LIMIT) || dialect.supports(DML_TOP)) {
+            return Stream.empty();
+        } else if (dialect.supports(DML_ROWNUM)) {
+            return Stream.of(count);
+        } else {
+            return keySubqueryPredicate(dialect, table, predicates).params(context);
+        }
+    }
+
+    /**
+     * Formats the row limit succeeding the WHERE clause, if supported by the SQL dialect.
+     * @param context the context (incl. dialect).
+     * @return the formatted SQL fragment, possibly empty.
+     */
+    String suffixSql(Context context) {
+        return context.getDialect().supports(DML_LIMIT) ? " limit ?" : "";
+    }
+
+    Stream<Object> suffixParams(Context context) {
+        return context.getDialect().supports(DML_LIMIT) ? Stream.of(count) : Stream.empty();
+    }
+
+    /**
+     * Validates the row limit.
+     * @param table the target table.
+     */
+    void validate(Table table) {
+        if (nonNull(keyColumn) && !table.name().equalsIgnoreCase(keyColumn.table().name())) {
+            throw new IllegalStateException("Key column " + keyColumn.name() + " belongs to table " + keyColumn.table().name() + ", not the target table " + table.name());
+        }
+    }
+
+    private Predicate keySubqueryPredicate(Dialect dialect, Table table, List<Predicate> predicates) {
+        final Column key = nonNull(keyColumn) ? keyColumn : dialect.getRowIdColumnName()
+            .map(name -> new Column(table, name))
+            .orElseThrow(() -> new UnsupportedOperationException("%s does not support row limits without a key column".formatted(dialect.getProductName())));
+
+        SelectStatement keyQuery = select(key).from(table);
+        if (nonEmpty(predicates)) {
+            keyQuery = keyQuery.where(predicates.toArray(Predicate[]::new));
+        }
+
+        return key.in(keyQuery.limit(count));
+    }
+}
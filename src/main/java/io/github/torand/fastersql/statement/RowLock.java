@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.time.Duration;
+import java.util.List;
+
+import static io.github.torand.fastersql.dialect.Capability.LOCKING_TABLE_HINTS;
+import static io.github.torand.fastersql.dialect.Capability.SELECT_FOR_UPDATE;
+import static io.github.torand.fastersql.dialect.Capability.SELECT_FOR_UPDATE_NOWAIT;
+import static io.github.torand.fastersql.dialect.Capability.SELECT_FOR_UPDATE_OF;
+import static io.github.torand.fastersql.dialect.Capability.SELECT_FOR_UPDATE_SKIP_LOCKED;
+import static io.github.torand.fastersql.dialect.Capability.SELECT_FOR_UPDATE_WAIT;
+import static io.github.torand.javacommons.collection.CollectionHelper.asList;
+import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Locks the rows fetched by a SELECT statement, in the form supported by the SQL dialect.
+ * Formatted as a FOR UPDATE clause, or as locking table hints on SQL Server.
+ */
+final class RowLock {
+    private enum WaitMode { WAIT, NOWAIT, SKIP_LOCKED }
+
+    private final List<Table> ofTables;
+    private final WaitMode waitMode;
+    private final Duration waitTimeout;
+
+    /**
+     * Creates a row lock, waiting for rows locked by other transactions.
+     */
+    RowLock() {
+        this(null, WaitMode.WAIT, null);
+    }
+
+    private RowLock(List<Table> ofTables, WaitMode waitMode, Duration waitTimeout) {
+        this.ofTables = asList(ofTables);
+        this.waitMode = waitMode;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Restricts the row lock to the rows of specified tables.
+     * @param tables the tables.
+     * @return the modified row lock.
+     */
+    RowLock of(List<Table> tables) {
+        return new RowLock(tables, waitMode, waitTimeout);
+    }
+
+    /**
+     * Specifies that rows locked by other transactions fail the statement immediately.
+     * @return the modified row lock.
+     */
+    RowLock noWait() {
+        return new RowLock(ofTables, WaitMode.NOWAIT, null);
+    }
+
+    /**
+     * Specifies that rows locked by other transactions are skipped.
+     * @return the modified row lock.
+     */
+    RowLock skipLocked() {
+        return new RowLock(ofTables, WaitMode.SKIP_LOCKED, null);
+    }
+
+    /**
+     * Specifies the maximum time to wait for rows locked by other transactions.
+     * @param timeout the timeout.
+     * @return the modified row lock.
+     */
+    RowLock waitFor(Duration timeout) {
+        return new RowLock(ofTables, WaitMode.WAIT, timeout);
+    }
+
+    /**
+     * Indicates whether the row lock is restricted to the rows of specific tables.
+     * @return true if restricted to specific tables; else false.
+     */
+    boolean hasOfTables() {
+        return nonEmpty(ofTables);
+    }
+
+    /**
+     * Formats the FOR UPDATE clause succeeding the statement, if supported by the SQL dialect.
+     * @param context the context (incl. dialect).
+     * @return the formatted SQL fragment, possibly empty.
+     */
+    String suffixSql(Context context) {
+        final Dialect dialect = context.getDialect();
+        if (!dialect.supports(SELECT_FOR_UPDATE)) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(" for update");
+        if (hasOfTables()) {
+            sb.append(" of ").append(streamSafely(ofTables).map(t -> t.alias().sql(context)).collect(joining(", ")));
+        }
+        if (waitMode == WaitMode.NOWAIT) {
+            sb.append(" nowait");
+        } else if (waitMode == WaitMode.SKIP_LOCKED) {
+            sb.append(" skip locked");
+        } else if (nonNull(waitTimeout)) {
+            sb.append(" wait ").append(waitSeconds());
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Gets the locking table hints of specified table, if supported by the SQL dialect.
+     * @param dialect the SQL dialect.
+     * @param table a table of the FROM or JOIN clauses of the statement.
+     * @return the table hints, possibly empty.
+     */
+    List<String> tableHints(Dialect dialect, Table table) {
+        if (dialect.supports(SELECT_FOR_UPDATE) || !dialect.supports(LOCKING_TABLE_HINTS)) {
+            return emptyList();
+        }
+        if (hasOfTables() && streamSafely(ofTables).noneMatch(t -> t.name().equals(table.name()))) {
+            return emptyList();
+        }
+
+        return switch (waitMode) {
+            case NOWAIT -> List.of("updlock", "rowlock", "nowait");
+            case SKIP_LOCKED -> List.of("updlock", "rowlock", "readpast");
+            case WAIT -> List.of("updlock", "rowlock");
+        };
+    }
+
+    /**
+     * Validates the row lock against the capabilities of the SQL dialect.
+     * @param dialect the SQL dialect.
+     */
+    void validate(Dialect dialect) {
+        final boolean tableHints = !dialect.supports(SELECT_FOR_UPDATE) && dialect.supports(LOCKING_TABLE_HINTS);
+
+        if (!dialect.supports(SELECT_FOR_UPDATE) && !tableHints) {
+            throw new UnsupportedOperationException("%s does not support the SELECT ... FOR UPDATE clause".formatted(dialect.getProductName()));
+        }
+        if (hasOfTables() && !dialect.supports(SELECT_FOR_UPDATE_OF) && !tableHints) {
+            throw new UnsupportedOperationException("%s does not support the SELECT ... FOR UPDATE OF clause".formatted(dialect.getProductName()));
+        }
+        if (waitMode == WaitMode.NOWAIT && !dialect.supports(SELECT_FOR_UPDATE_NOWAIT) && !tableHints) {
+            throw new UnsupportedOperationException("%s does not support the SELECT ... FOR UPDATE NOWAIT clause".formatted(dialect.getProductName()));
+        }
+        if (waitMode == WaitMode.SKIP_LOCKED && !dialect.supports(SELECT_FOR_UPDATE_SKIP_LOCKED) && !tableHints) {
+            throw new UnsupportedOperationException("%s does not support the SELECT ... FOR UPDATE SKIP LOCKED clause".formatted(dialect.getProductName()));
+        }
+        if (nonNull(waitTimeout) && !dialect.supports(SELECT_FOR_UPDATE_WAIT)) {
+            throw new UnsupportedOperationException("%s does not support the SELECT ... FOR UPDATE WAIT clause".formatted(dialect.getProductName()));
+        }
+    }
+
+    private long waitSeconds() {
+        // Rounded up, since some dialects accept whole seconds only
+        return waitTimeout.plusMillis(999).toSeconds();
+    }
+}
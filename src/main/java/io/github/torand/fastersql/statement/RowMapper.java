@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a result set to an object.
+ * @param <T> the type of object each row is mapped to.
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Maps the current row of specified result set to an object.
+     * Implementations should not advance the result set cursor.
+     * @param resultSet the result set positioned at the row to map.
+     * @return the mapped object.
+     * @throws SQLException if reading a column value fails.
+     */
+    T map(ResultSet resultSet) throws SQLException;
+}
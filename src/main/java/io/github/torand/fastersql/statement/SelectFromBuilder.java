@@ -59,6 +59,6 @@ public class SelectFromBuilder {
     public SelectStatement from(Relation firstRelation, Relation... moreRelations) {
         requireNonNull(firstRelation, "First relation is null");
         List<Relation> relations = asNonEmptyList(firstRelation, moreRelations);
-        return new SelectStatement(projections, relations, null, null, null, null, null, distinct, null, null, false);
+        return new SelectStatement(projections, relations, null, null, null, null, null, distinct, null, null, null, null, null);
     }
 }
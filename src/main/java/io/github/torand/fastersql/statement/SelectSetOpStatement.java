@@ -37,6 +37,7 @@ import static io.github.torand.fastersql.sql.Command.SELECT_SET_OP;
 import static io.github.torand.javacommons.collection.CollectionHelper.*;
 import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Objects.isNull;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toSet;
 
@@ -138,14 +139,24 @@ public class SelectSetOpStatement implements PreparableStatement {
     public String sql(Context context) {
         final Context localContext = context.withCommand(SELECT_SET_OP);
 
-        validate();
+        if (!context.isTrusted()) {
+            validate();
+        }
 
         StringBuilder sb = new StringBuilder();
+        if (isNull(context.getCommand())) {
+            // Common table expressions of all operands are declared by a single WITH clause preceding the first operand
+            List<CommonTableExpression> commonTableExpressions = commonTableExpressions().toList();
+            if (nonEmpty(commonTableExpressions)) {
+                sb.append(CommonTableExpression.withClauseSql(context, commonTableExpressions));
+            }
+        }
+
         if (localContext.getDialect().supports(SET_OPERATION_PARENTHESES)) {
             sb.append("(");
         }
 
-        sb.append(selectStatement.sql(context));
+        sb.append(selectStatement.sql(context, false));
 
         if (localContext.getDialect().supports(SET_OPERATION_PARENTHESES)) {
             sb.append(")");
@@ -171,12 +182,33 @@ public class SelectSetOpStatement implements PreparableStatement {
     public Stream<Object> params(Context context) {
         List<Object> params = new LinkedList<>();
 
-        selectStatement.params(context).forEach(params::add);
-        streamSafely(setOperations).flatMap(so -> so.params(context)).forEach(params::add);
+        if (isNull(context.getCommand())) {
+            List<CommonTableExpression> commonTableExpressions = commonTableExpressions().toList();
+            if (nonEmpty(commonTableExpressions)) {
+                CommonTableExpression.withClauseParams(context, commonTableExpressions).forEach(params::add);
+            }
+        }
+
+        selectStatement.params(context, false).forEach(params::add);
+        streamSafely(setOperations).flatMap(so -> so.params(context.withCommand(SELECT_SET_OP))).forEach(params::add);
 
         return params.stream();
     }
 
+    Stream<Projection> projections() {
+        return selectStatement.projections();
+    }
+
+    /**
+     * Gets the common table expressions referenced by the FROM clauses of the operand statements and of their subqueries.
+     * @return the common table expressions, possibly with duplicates.
+     */
+    Stream<CommonTableExpression> commonTableExpressions() {
+        return Stream.concat(
+            selectStatement.commonTableExpressions().stream(),
+            streamSafely(setOperations).flatMap(so -> so.operand().commonTableExpressions().stream()));
+    }
+
     private void validate() {
         ToLongFunction<SelectStatement> projCount = st -> st.projections().count();
         ToLongFunction<SetOperation> setOpProjCount = so -> projCount.applyAsLong(so.operand());
@@ -21,6 +21,7 @@ import io.github.torand.fastersql.dialect.AnsiIsoDialect;
 import io.github.torand.fastersql.dialect.Dialect;
 import io.github.torand.fastersql.expression.Expression;
 import io.github.torand.fastersql.function.aggregate.AggregateFunction;
+import io.github.torand.fastersql.hint.Hint;
 import io.github.torand.fastersql.join.Join;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.model.Table;
@@ -33,17 +34,18 @@ import io.github.torand.fastersql.setoperation.SetOperation;
 import io.github.torand.fastersql.setoperation.SetOperator;
 import io.github.torand.fastersql.sql.Context;
 import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.LateralSubquery;
 import io.github.torand.fastersql.subquery.Subquery;
 import io.github.torand.javacommons.collection.CollectionHelper;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static io.github.torand.fastersql.dialect.Capability.LIMIT_OFFSET;
-import static io.github.torand.fastersql.dialect.Capability.SELECT_FOR_UPDATE;
 import static io.github.torand.fastersql.sql.Command.SELECT;
+import static io.github.torand.fastersql.statement.AppendOnlyList.concat;
 import static io.github.torand.fastersql.statement.Helpers.unwrapSuppliers;
 import static io.github.torand.javacommons.collection.CollectionHelper.*;
 import static io.github.torand.javacommons.contract.Requires.require;
@@ -51,8 +53,10 @@ import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
 import static io.github.torand.javacommons.functional.Functions.castTo;
 import static io.github.torand.javacommons.functional.Optionals.mapSafely;
 import static io.github.torand.javacommons.functional.Predicates.instanceOf;
+import static io.github.torand.javacommons.stream.StreamHelper.concatStreams;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
 import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Predicate.not;
@@ -73,20 +77,33 @@ public class SelectStatement implements PreparableStatement {
     private final boolean distinct;
     private final Long limit;
     private final Long offset;
-    private final boolean forUpdate;
-
-    SelectStatement(List<Projection> projections, List<Relation> relations, List<Join> joins, List<Predicate> wherePredicates, List<Column> groups, List<Predicate> havingPredicates, List<Order> orders, boolean distinct, Long limit, Long offset, boolean forUpdate) {
-        this.projections = asList(projections);
-        this.relations = asList(relations);
-        this.joins = asList(joins);
-        this.wherePredicates = asList(wherePredicates);
-        this.groups = asList(groups);
-        this.havingPredicates = asList(havingPredicates);
-        this.orders = asList(orders);
+    private final RowLock rowLock;
+    private final Duration timeout;
+    private final List<Hint> hints;
+
+    // Whether validated as a top level statement, referencing its own tables only, see validate(Context, boolean)
+    private volatile boolean validatedAsTopLevel;
+
+    // Referencable table names of the most recent successful validation as a subquery, see validate(Context, boolean)
+    private volatile Set<String> validatedTableNames;
+
+    // Common table expressions referenced by this statement and its subqueries, see commonTableExpressions()
+    private volatile List<CommonTableExpression> commonTableExpressions;
+
+    SelectStatement(List<Projection> projections, List<Relation> relations, List<Join> joins, List<Predicate> wherePredicates, List<Column> groups, List<Predicate> havingPredicates, List<Order> orders, boolean distinct, Long limit, Long offset, RowLock rowLock, Duration timeout, List<Hint> hints) {
+        this.projections = AppendOnlyList.of(projections);
+        this.relations = AppendOnlyList.of(relations);
+        this.joins = AppendOnlyList.of(joins);
+        this.wherePredicates = AppendOnlyList.of(wherePredicates);
+        this.groups = AppendOnlyList.of(groups);
+        this.havingPredicates = AppendOnlyList.of(havingPredicates);
+        this.orders = AppendOnlyList.of(orders);
         this.distinct = distinct;
         this.limit = limit;
         this.offset = offset;
-        this.forUpdate = forUpdate;
+        this.rowLock = rowLock;
+        this.timeout = timeout;
+        this.hints = AppendOnlyList.of(hints);
     }
 
     /**
@@ -96,10 +113,10 @@ public class SelectStatement implements PreparableStatement {
      */
     public SelectStatement join(Join... joins) {
         requireNonEmpty(joins, "No joins specified");
-        require(() -> streamSafely(relations).noneMatch(instanceOf(Subquery.class)), "Can't combine a subquery FROM clause with joins");
+        require(() -> streamSafely(relations).noneMatch(SelectStatement::isJoinedSubquery), "Can't combine a subquery FROM clause with joins");
 
         List<Join> concatenated = concat(this.joins, joins);
-        return new SelectStatement(projections, relations, concatenated, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, forUpdate);
+        return new SelectStatement(projections, relations, concatenated, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -141,10 +158,10 @@ public class SelectStatement implements PreparableStatement {
     @SafeVarargs
     public final SelectStatement joinIf(boolean condition, Supplier<Join>... joinSuppliers) {
         requireNonEmpty(joinSuppliers, "No join suppliers specified");
-        require(() -> streamSafely(relations).noneMatch(instanceOf(Subquery.class)), "Can't combine a subquery FROM clause with joins");
+        require(() -> streamSafely(relations).noneMatch(SelectStatement::isJoinedSubquery), "Can't combine a subquery FROM clause with joins");
         if (condition) {
             List<Join> concatenated = concat(this.joins, unwrapSuppliers(joinSuppliers));
-            return new SelectStatement(projections, relations, concatenated, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, forUpdate);
+            return new SelectStatement(projections, relations, concatenated, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
         } else {
             return this;
         }
@@ -159,7 +176,7 @@ public class SelectStatement implements PreparableStatement {
         requireNonEmpty(predicates, "No WHERE predicates specified");
 
         List<Predicate> concatenated = concat(this.wherePredicates, predicates);
-        return new SelectStatement(projections, relations, joins, concatenated, groups, havingPredicates, orders, distinct, limit, offset, forUpdate);
+        return new SelectStatement(projections, relations, joins, concatenated, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -171,7 +188,7 @@ public class SelectStatement implements PreparableStatement {
         requireNonEmpty(maybePredicates, "No optional WHERE predicates specified");
 
         List<Predicate> concatenated = concat(this.wherePredicates, OptionalPredicate.unwrap(maybePredicates));
-        return new SelectStatement(projections, relations, joins, concatenated, groups, havingPredicates, orders, distinct, limit, offset, forUpdate);
+        return new SelectStatement(projections, relations, joins, concatenated, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -185,7 +202,7 @@ public class SelectStatement implements PreparableStatement {
         requireNonEmpty(predicateSuppliers, "No WHERE predicate suppliers specified");
         if (condition) {
             List<Predicate> concatenated = concat(this.wherePredicates, unwrapSuppliers(predicateSuppliers));
-            return new SelectStatement(projections, relations, joins, concatenated, groups, havingPredicates, orders, distinct, limit, offset, forUpdate);
+            return new SelectStatement(projections, relations, joins, concatenated, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
         } else {
             return this;
         }
@@ -200,7 +217,7 @@ public class SelectStatement implements PreparableStatement {
         requireNonEmpty(groups, "No groups specified");
 
         List<Column> concatenated = concat(this.groups, groups);
-        return new SelectStatement(projections, relations, joins, wherePredicates, concatenated, havingPredicates, orders, distinct, limit, offset, forUpdate);
+        return new SelectStatement(projections, relations, joins, wherePredicates, concatenated, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -212,7 +229,7 @@ public class SelectStatement implements PreparableStatement {
         requireNonEmpty(predicates, "No HAVING predicates specified");
 
         List<Predicate> concatenated = concat(this.havingPredicates, predicates);
-        return new SelectStatement(projections, relations, joins, wherePredicates, groups, concatenated, orders, distinct, limit, offset, forUpdate);
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, concatenated, orders, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -224,7 +241,7 @@ public class SelectStatement implements PreparableStatement {
         requireNonEmpty(maybePredicates, "No optional HAVING predicates specified");
 
         List<Predicate> concatenated = concat(this.havingPredicates, OptionalPredicate.unwrap(maybePredicates));
-        return new SelectStatement(projections, relations, joins, wherePredicates, groups, concatenated, orders, distinct, limit, offset, forUpdate);
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, concatenated, orders, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -238,7 +255,7 @@ public class SelectStatement implements PreparableStatement {
         requireNonEmpty(predicateSuppliers, "No HAVING predicate suppliers specified");
         if (condition) {
             List<Predicate> concatenated = concat(this.havingPredicates, unwrapSuppliers(predicateSuppliers));
-            return new SelectStatement(projections, relations, joins, wherePredicates, groups, concatenated, orders, distinct, limit, offset, forUpdate);
+            return new SelectStatement(projections, relations, joins, wherePredicates, groups, concatenated, orders, distinct, limit, offset, rowLock, timeout, hints);
         } else {
             return this;
         }
@@ -252,7 +269,7 @@ public class SelectStatement implements PreparableStatement {
     public SelectStatement orderBy(Order... orders) {
         requireNonEmpty(orders, "No orders specified");
         List<Order> concatenated = concat(this.orders, orders);
-        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, concatenated, distinct, limit, offset, forUpdate);
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, concatenated, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -261,7 +278,7 @@ public class SelectStatement implements PreparableStatement {
      * @return the modified statement.
      */
     public SelectStatement limit(long limit) {
-        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, forUpdate);
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -270,7 +287,7 @@ public class SelectStatement implements PreparableStatement {
      * @return the modified statement.
      */
     public SelectStatement offset(long offset) {
-        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, forUpdate);
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -278,7 +295,102 @@ public class SelectStatement implements PreparableStatement {
      * @return the modified statement.
      */
     public SelectStatement forUpdate() {
-        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, true);
+        return withRowLock(lockOrDefault());
+    }
+
+    /**
+     * Adds a FOR UPDATE OF clause, locking the rows of specified tables only.
+     * @param firstTable the first table to lock rows of.
+     * @param moreTables the other tables to lock rows of, if any.
+     * @return the modified statement.
+     */
+    public SelectStatement forUpdateOf(Table firstTable, Table... moreTables) {
+        requireNonNull(firstTable, "No table specified");
+        return withRowLock(lockOrDefault().of(asNonEmptyList(firstTable, moreTables)));
+    }
+
+    /**
+     * Specifies that rows locked by other transactions are skipped, i.e. a FOR UPDATE SKIP LOCKED clause.
+     * Adds a FOR UPDATE clause if not already specified.
+     * Typically used by competing consumers of a job queue table.
+     * @return the modified statement.
+     */
+    public SelectStatement skipLocked() {
+        return withRowLock(lockOrDefault().skipLocked());
+    }
+
+    /**
+     * Specifies that rows locked by other transactions fail the statement immediately, i.e. a FOR UPDATE NOWAIT clause.
+     * Adds a FOR UPDATE clause if not already specified.
+     * @return the modified statement.
+     */
+    public SelectStatement noWait() {
+        return withRowLock(lockOrDefault().noWait());
+    }
+
+    /**
+     * Specifies the maximum time to wait for rows locked by other transactions, i.e. a FOR UPDATE WAIT clause.
+     * The timeout is rounded up to whole seconds.
+     * Adds a FOR UPDATE clause if not already specified.
+     * @param timeout the lock wait timeout.
+     * @return the modified statement.
+     */
+    public SelectStatement waitFor(Duration timeout) {
+        requireNonNull(timeout, "No timeout specified");
+        require(() -> !timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+        return withRowLock(lockOrDefault().waitFor(timeout));
+    }
+
+    private RowLock lockOrDefault() {
+        return nonNull(rowLock) ? rowLock : new RowLock();
+    }
+
+    private SelectStatement withRowLock(RowLock rowLock) {
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
+    }
+
+    /**
+     * Sets the maximum time the database may spend executing the statement.
+     * @param timeout the timeout.
+     * @return the modified statement.
+     */
+    public SelectStatement timeout(Duration timeout) {
+        requireNonNull(timeout, "No timeout specified");
+        require(() -> !timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
+    }
+
+    @Override
+    public Optional<Duration> getTimeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    Optional<Long> limit() {
+        return Optional.ofNullable(limit);
+    }
+
+    Optional<Long> offset() {
+        return Optional.ofNullable(offset);
+    }
+
+    boolean isOrdered() {
+        return nonEmpty(orders);
+    }
+
+    boolean isLocking() {
+        return nonNull(rowLock);
+    }
+
+    List<Predicate> wherePredicates() {
+        return wherePredicates;
+    }
+
+    SelectStatement withWherePredicates(List<Predicate> wherePredicates) {
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
+    }
+
+    SelectStatement withRowRange(Long limit, Long offset) {
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, hints);
     }
 
     /**
@@ -343,18 +455,58 @@ public class SelectStatement implements PreparableStatement {
         return new SelectSetOpStatement(this, asList(setOperation), emptyList());
     }
 
+    /**
+     * Adds optimizer or index hints. Hints not supported by the SQL dialect are ignored.
+     * @param firstHint the first hint.
+     * @param moreHints the other hints, if any.
+     * @return the modified statement.
+     */
+    public SelectStatement hint(Hint firstHint, Hint... moreHints) {
+        requireNonNull(firstHint, "First hint is null");
+        List<Hint> concatenated = concat(this.hints, asNonEmptyList(firstHint, moreHints));
+        return new SelectStatement(projections, relations, joins, wherePredicates, groups, havingPredicates, orders, distinct, limit, offset, rowLock, timeout, concatenated);
+    }
+
     @Override
     public String sql(Context context) {
+        // Common table expressions are declared by the top level statement only
+        return sql(context, isNull(context.getCommand()));
+    }
+
+    /**
+     * Formats statement as SQL, optionally preceded by a WITH clause declaring the referenced common table expressions.
+     * A set operation declares the common table expressions of all its operands, instead of its first operand.
+     * @param context the context (incl. dialect).
+     * @param withClause whether to add the WITH clause.
+     * @return the formatted SQL.
+     */
+    String sql(Context context, boolean withClause) {
         final Context localContext = context
             .withCommand(SELECT)
-            .withOuterStatement(this);
+            .withOuterStatement(this)
+            .withTableHints(HintRenderer.tableHints(context, hints, rowLock, this::referencedTables));
 
         final Dialect dialect = localContext.getDialect();
 
-        validate(localContext);
+        validate(localContext, !context.hasOuterStatements());
 
         StringBuilder sb = new StringBuilder();
+        if (withClause) {
+            List<CommonTableExpression> commonTableExpressions = commonTableExpressions();
+            if (nonEmpty(commonTableExpressions)) {
+                sb.append(CommonTableExpression.withClauseSql(context, commonTableExpressions));
+            }
+        }
+
         sb.append("select ");
+        if (nonNull(timeout) && isNull(context.getCommand())) {
+            // Optimizer hints apply to the top level statement only
+            Optional<String> timeoutHint = dialect.formatQueryTimeoutHint(timeout);
+            if (timeoutHint.isPresent()) {
+                sb.append(timeoutHint.get()).append(" ");
+            }
+        }
+        sb.append(HintRenderer.optimizerHintSql(localContext, hints));
         if (distinct) {
             sb.append("distinct ");
         }
@@ -370,6 +522,7 @@ public class SelectStatement implements PreparableStatement {
 
         sb.append(streamSafely(relations)
             .filter(not(joinedTables::contains))
+            .filter(not(instanceOf(LateralSubquery.class)))
             .map(t -> t.sql(localContext))
             .collect(joining(", ")));
 
@@ -380,6 +533,12 @@ public class SelectStatement implements PreparableStatement {
                 .collect(joining(" ")));
         }
 
+        // Lateral subqueries may reference all preceding relations and joined tables
+        streamSafely(relations)
+            .filter(instanceOf(LateralSubquery.class))
+            .map(r -> " " + r.sql(localContext))
+            .forEach(sb::append);
+
         if (nonEmpty(wherePredicates)) {
             sb.append(" where ");
             sb.append(streamSafely(wherePredicates)
@@ -410,8 +569,13 @@ public class SelectStatement implements PreparableStatement {
 
         sb = addLimitOffsetSql(dialect, sb);
 
-        if (forUpdate) {
-            sb.append(" for update");
+        if (nonNull(rowLock)) {
+            sb.append(rowLock.suffixSql(localContext));
+        }
+
+        if (isNull(context.getCommand())) {
+            // Query options apply to the top level statement only
+            sb.append(HintRenderer.queryOptionSql(localContext, hints));
         }
 
         return sb.toString();
@@ -421,6 +585,34 @@ public class SelectStatement implements PreparableStatement {
         return streamSafely(projections);
     }
 
+    /**
+     * Gets the common table expressions referenced by the FROM clause of this statement and of its subqueries in any clause.
+     * @return the common table expressions, possibly with duplicates.
+     */
+    List<CommonTableExpression> commonTableExpressions() {
+        // The common table expressions are resolved once, since the statement is immutable
+        List<CommonTableExpression> resolved = commonTableExpressions;
+        if (isNull(resolved)) {
+            Stream<CommonTableExpression> declared = streamSafely(relations)
+                .filter(instanceOf(CommonTableExpression.class))
+                .map(castTo(CommonTableExpression.class))
+                .flatMap(CommonTableExpression::declarations);
+
+            Stream<CommonTableExpression> nested = CommonTableExpression.referencedBy(concatStreams(
+                streamSafely(projections),
+                streamSafely(relations),
+                streamSafely(joins),
+                streamSafely(wherePredicates),
+                streamSafely(havingPredicates),
+                streamSafely(orders))
+                .flatMap(Sql::subqueries));
+
+            resolved = Stream.concat(declared, nested).toList();
+            commonTableExpressions = resolved;
+        }
+        return resolved;
+    }
+
     private Long rowFrom() {
         return mapSafely(offset, o -> o + 1);
     }
@@ -472,12 +664,35 @@ public class SelectStatement implements PreparableStatement {
 
     @Override
     public Stream<Object> params(Context context) {
+        return params(context, isNull(context.getCommand()));
+    }
+
+    /**
+     * Gets the statement parameters, optionally preceded by the parameters of the WITH clause.
+     * @param context the context (incl. dialect).
+     * @param withClause whether to include the parameters of the WITH clause.
+     * @return the statement parameters.
+     * @see #sql(Context, boolean)
+     */
+    Stream<Object> params(Context context, boolean withClause) {
         List<Object> params = new LinkedList<>();
 
-        streamSafely(projections).flatMap(p -> p.params(context)).forEach(params::add);
-        streamSafely(relations).flatMap(r -> r.params(context)).forEach(params::add);
-        streamSafely(wherePredicates).flatMap(p -> p.params(context)).forEach(params::add);
-        streamSafely(havingPredicates).flatMap(p -> p.params(context)).forEach(params::add);
+        if (withClause) {
+            List<CommonTableExpression> commonTableExpressions = commonTableExpressions();
+            if (nonEmpty(commonTableExpressions)) {
+                CommonTableExpression.withClauseParams(context, commonTableExpressions).forEach(params::add);
+            }
+        }
+
+        // Subqueries are nested in this statement, hence not top level statements declaring common table expressions
+        final Context localContext = context.withCommand(SELECT);
+
+        streamSafely(projections).flatMap(p -> p.params(localContext)).forEach(params::add);
+        streamSafely(relations).filter(not(instanceOf(LateralSubquery.class))).flatMap(r -> r.params(localContext)).forEach(params::add);
+        streamSafely(joins).flatMap(j -> j.params(localContext)).forEach(params::add);
+        streamSafely(relations).filter(instanceOf(LateralSubquery.class)).flatMap(r -> r.params(localContext)).forEach(params::add);
+        streamSafely(wherePredicates).flatMap(p -> p.params(localContext)).forEach(params::add);
+        streamSafely(havingPredicates).flatMap(p -> p.params(localContext)).forEach(params::add);
 
         addLimitOffsetParams(context.getDialect(), params);
 
@@ -501,19 +716,46 @@ public class SelectStatement implements PreparableStatement {
         }
     }
 
-    private void validate(Context context) {
+    private void validate(Context context, boolean topLevel) {
+        if (!context.isTrusted()) {
+            // The validity of the statement depends on the tables it can reference only, since the statement is immutable.
+            // A top level statement can reference its own tables only, hence is validated once.
+            if (topLevel) {
+                if (!validatedAsTopLevel) {
+                    validateStructure(referencableTableNames(context));
+                    validatedAsTopLevel = true;
+                }
+            } else {
+                Set<String> referencableTableNames = referencableTableNames(context);
+                if (!referencableTableNames.equals(validatedTableNames)) {
+                    validateStructure(referencableTableNames);
+                    validatedTableNames = referencableTableNames;
+                }
+            }
+        }
+
+        if (nonNull(rowLock)) {
+            rowLock.validate(context.getDialect());
+        }
+    }
+
+    private void validateStructure(Set<String> referencableTableNames) {
         if (isEmpty(relations)) {
             throw new IllegalStateException("No FROM clause specified");
         }
 
+        if (headOf(relations) instanceof LateralSubquery) {
+            throw new IllegalStateException("A lateral subquery can't be the first relation of the FROM clause");
+        }
+
         Stream<Column> projectedColumns = streamSafely(projections)
             .filter(instanceOf(Expression.class))
             .map(castTo(Expression.class))
             .flatMap(Expression::columnRefs);
-        validateColumnTableRelations(context, projectedColumns);
+        validateColumnTableRelations(referencableTableNames, projectedColumns);
 
         if (nonEmpty(joins)) {
-            validateColumnTableRelations(context, streamSafely(joins).flatMap(Join::columnRefs));
+            validateColumnTableRelations(referencableTableNames, streamSafely(joins).flatMap(Join::columnRefs));
         }
 
         if (nonEmpty(orders)) {
@@ -533,16 +775,12 @@ public class SelectStatement implements PreparableStatement {
                 });
         }
 
-        validateColumnTableRelations(context, streamSafely(wherePredicates).flatMap(Predicate::columnRefs));
-        validateColumnTableRelations(context, streamSafely(groups));
-        validateColumnTableRelations(context, streamSafely(havingPredicates).flatMap(Predicate::columnRefs));
-        validateColumnTableRelations(context, streamSafely(orders).flatMap(Order::columnRefs));
-
-        if (forUpdate) {
-            if (!context.getDialect().supports(SELECT_FOR_UPDATE)) {
-                throw new UnsupportedOperationException("%s does not support the SELECT ... FOR UPDATE clause".formatted(getDialectRef(context.getDialect())));
-            }
+        validateColumnTableRelations(referencableTableNames, streamSafely(wherePredicates).flatMap(Predicate::columnRefs));
+        validateColumnTableRelations(referencableTableNames, streamSafely(groups));
+        validateColumnTableRelations(referencableTableNames, streamSafely(havingPredicates).flatMap(Predicate::columnRefs));
+        validateColumnTableRelations(referencableTableNames, streamSafely(orders).flatMap(Order::columnRefs));
 
+        if (nonNull(rowLock)) {
             if (distinct || nonEmpty(groups) || streamSafely(projections).anyMatch(instanceOf(AggregateFunction.class))) {
                 throw new IllegalStateException("SELECT ... FOR UPDATE can't be used with DISTINCT, GROUP BY or aggregates");
             }
@@ -555,27 +793,37 @@ public class SelectStatement implements PreparableStatement {
                 .distinct()
                 .toList();
 
-            if (projectedTables.size() != 1) {
+            if (projectedTables.size() != 1 && !rowLock.hasOfTables()) {
                 throw new IllegalStateException("SELECT ... FOR UPDATE can be used for a single projected table only. Projected tables in this statement are: %s".formatted(projectedTables));
             }
         }
     }
 
-    private void validateColumnTableRelations(Context context, Stream<Column> columns) {
-        Function<Relation, Stream<Table>> filterTables = r -> r instanceof Table table ? Stream.of(table) : Stream.empty();
+    private Stream<Table> referencedTables() {
+        return Stream.concat(
+            streamSafely(relations).filter(instanceOf(Table.class)).map(castTo(Table.class)),
+            streamSafely(joins).map(Join::joined));
+    }
 
-        Set<String> outerTableNames = new HashSet<>();
-        if (nonEmpty(context.getOuterStatements())) {
-            context.getOuterStatements().forEach(os -> streamSafely(os.relations).flatMap(filterTables).map(Table::name).forEach(outerTableNames::add));
-            context.getOuterStatements().forEach(os -> streamSafely(os.joins).map(Join::joined).map(Table::name).forEach(outerTableNames::add));
-        }
+    private static boolean isJoinedSubquery(Relation relation) {
+        // Lateral subqueries are formatted after the joins, hence combine well with them
+        return relation instanceof Subquery && !(relation instanceof LateralSubquery);
+    }
 
-        Set<String> tableNames = Stream.concat(streamSafely(relations).flatMap(filterTables), streamSafely(joins).map(Join::joined))
+    // Columns can belong to tables specified in the FROM and JOIN clauses of this statement and of its outer statements,
+    // all being outer statements of the local context
+    private Set<String> referencableTableNames(Context localContext) {
+        Set<String> tableNames = new HashSet<>();
+        localContext.streamOuterStatements()
+            .flatMap(SelectStatement::referencedTables)
             .map(Table::name)
-            .collect(toSet());
+            .forEach(tableNames::add);
+        return tableNames;
+    }
 
+    private static void validateColumnTableRelations(Set<String> tableNames, Stream<Column> columns) {
         columns
-            .filter(c -> !outerTableNames.contains(c.table().name()) && !tableNames.contains(c.table().name()))
+            .filter(c -> !tableNames.contains(c.table().name()))
             .findFirst()
             .ifPresent(c -> {
                 throw new IllegalStateException("Column " + c.name() + " belongs to table " + c.table().name() + ", but is not specified in a FROM or JOIN clause");
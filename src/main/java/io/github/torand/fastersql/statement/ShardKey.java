@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.constant.Constant;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.predicate.In;
+import io.github.torand.fastersql.predicate.Predicate;
+import io.github.torand.fastersql.predicate.comparison.Eq;
+import io.github.torand.fastersql.predicate.compound.And;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.predicate.compound.CompoundPredicates.and;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Defines the column by which rows are distributed across shards, and the function mapping a column value to a shard.
+ * Used by {@link FanOutExecutor} to execute statements only on the shards which may hold matching rows.
+ * <p>
+ * A statement is routed by the first predicate of its WHERE clause, or of a top level AND predicate, comparing the
+ * shard key column to constant values, i.e. an equality ({@code eq}) or set membership ({@code in}) predicate.
+ * The values of a set membership predicate are split per shard, and each shard is queried for its own values only.
+ * Statements without such a predicate are executed on all shards.
+ * </p>
+ */
+public final class ShardKey {
+    private final Column column;
+    private final ToIntFunction<Object> shardFunction;
+
+    /**
+     * Creates a shard key.
+     * @param column the shard key column.
+     * @param shardFunction the function mapping a (non-null) shard key value to a zero-based shard index.
+     * @return the shard key.
+     */
+    public static ShardKey of(Column column, ToIntFunction<Object> shardFunction) {
+        return new ShardKey(column, shardFunction);
+    }
+
+    private ShardKey(Column column, ToIntFunction<Object> shardFunction) {
+        this.column = requireNonNull(column, "No column specified");
+        this.shardFunction = requireNonNull(shardFunction, "No shard function specified");
+    }
+
+    /**
+     * Gets the shard key column.
+     * @return the shard key column.
+     */
+    public Column column() {
+        return column;
+    }
+
+    /**
+     * Gets the WHERE predicates to apply on each shard possibly holding matching rows, keyed by shard index.
+     * @param predicates the WHERE predicates of the statement.
+     * @param shardCount the number of shards.
+     * @return the WHERE predicates per shard, in order of shard index.
+     */
+    Map<Integer, List<Predicate>> route(List<Predicate> predicates, int shardCount) {
+        Map<Integer, List<Predicate>> shardPredicates = new TreeMap<>();
+
+        Optional<Predicate> restriction = streamSafely(predicates)
+            .flatMap(ShardKey::conjuncts)
+            .filter(this::isRestriction)
+            .findFirst();
+
+        if (restriction.isEmpty()) {
+            for (int shard = 0; shard < shardCount; shard++) {
+                shardPredicates.put(shard, predicates);
+            }
+            return shardPredicates;
+        }
+
+        if (restriction.get() instanceof In in) {
+            Map<Integer, List<Object>> shardValues = new TreeMap<>();
+            in.values().forEach(value -> shardValues.computeIfAbsent(shardOf(value, shardCount), s -> new ArrayList<>()).add(value));
+            shardValues.forEach((shard, values) -> {
+                Predicate shardRestriction = in.left().in(values);
+                shardPredicates.put(shard, predicates.stream().map(p -> replace(p, in, shardRestriction)).toList());
+            });
+        } else {
+            Object value = ((Constant) ((Eq) restriction.get()).right()).value();
+            shardPredicates.put(shardOf(value, shardCount), predicates);
+        }
+
+        return shardPredicates;
+    }
+
+    private boolean isRestriction(Predicate predicate) {
+        if (predicate instanceof Eq eq) {
+            return eq.left() instanceof Column left && isShardKey(left) && eq.right() instanceof Constant constant && nonNull(constant.value());
+        } else if (predicate instanceof In in) {
+            return in.left() instanceof Column left && isShardKey(left) && in.values().stream().allMatch(Objects::nonNull);
+        }
+        return false;
+    }
+
+    private boolean isShardKey(Column other) {
+        // Table aliases are irrelevant
+        return column.table().name().equalsIgnoreCase(other.table().name()) && column.name().equalsIgnoreCase(other.name());
+    }
+
+    private int shardOf(Object value, int shardCount) {
+        int shard = shardFunction.applyAsInt(value);
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalStateException("Shard function returned shard %d for value %s, expected a shard in the range 0 to %d".formatted(shard, value, shardCount - 1));
+        }
+        return shard;
+    }
+
+    private static Stream<Predicate> conjuncts(Predicate predicate) {
+        return predicate instanceof And and ? and.operands().stream().flatMap(ShardKey::conjuncts) : Stream.of(predicate);
+    }
+
+    private static Predicate replace(Predicate predicate, Predicate target, Predicate replacement) {
+        if (predicate == target) {
+            return replacement;
+        } else if (predicate instanceof And and) {
+            return and(and.operands().stream().map(o -> replace(o, target, replacement)).toArray(Predicate[]::new));
+        }
+        return predicate;
+    }
+}
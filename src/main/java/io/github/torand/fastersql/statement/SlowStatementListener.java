@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Receives notifications about statements exceeding a latency threshold, see {@link StatementExecutor#withSlowStatementListener(Duration, SlowStatementListener)}.
+ */
+@FunctionalInterface
+public interface SlowStatementListener {
+
+    /**
+     * Notifies that the execution of a statement exceeded the latency threshold.
+     * Invoked on the executing thread, after the connection of the execution is released.
+     * @param statement the statement.
+     * @param elapsed the execution time.
+     * @param plan the execution plan of the statement, if supported by the SQL dialect and explained successfully.
+     */
+    void onSlowStatement(PreparableStatement statement, Duration elapsed, Optional<String> plan);
+}
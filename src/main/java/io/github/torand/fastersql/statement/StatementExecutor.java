@@ -0,0 +1,856 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.dialect.DialectResolver;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.asNonEmptyList;
+import static io.github.torand.javacommons.contract.Requires.require;
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static java.util.Collections.emptyMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes statements on connections obtained from a {@link DataSource}.
+ * Connections are acquired per execution and released when the execution completes,
+ * or - for streamed results - when the stream is closed.
+ */
+public class StatementExecutor {
+    /**
+     * The default number of rows fetched per database round trip when streaming query results.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /**
+     * The default number of rows sent per database round trip when executing JDBC batches.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final DataSource dataSource;
+    private final Dialect dialect;
+    private final int fetchSize;
+    private final int batchSize;
+    private final Map<String, String> tableSubstitutions;
+    private final Duration slowStatementThreshold;
+    private final SlowStatementListener slowStatementListener;
+    private final ResultCache resultCache;
+    private final ReplicaRouter replicaRouter;
+    private final boolean trusted;
+
+    // Dialect resolved from connection metadata when no dialect is specified, for formatting result cache keys
+    private volatile Dialect resolvedDialect;
+
+    /**
+     * Creates executor for statements to be executed on connections from specified data source.
+     * The SQL dialect is selected based on metadata from each connection.
+     * @param dataSource the data source.
+     * @return the statement executor.
+     */
+    public static StatementExecutor using(DataSource dataSource) {
+        return new StatementExecutor(dataSource, null, DEFAULT_FETCH_SIZE, DEFAULT_BATCH_SIZE, emptyMap(), null, null, null, null, false);
+    }
+
+    /**
+     * Creates executor for statements to be executed on connections from specified data source,
+     * using specified SQL dialect.
+     * @param dataSource the data source.
+     * @param dialect the SQL dialect.
+     * @return the statement executor.
+     */
+    public static StatementExecutor using(DataSource dataSource, Dialect dialect) {
+        return new StatementExecutor(dataSource, requireNonNull(dialect, "No dialect specified"), DEFAULT_FETCH_SIZE, DEFAULT_BATCH_SIZE, emptyMap(), null, null, null, null, false);
+    }
+
+    private StatementExecutor(DataSource dataSource, Dialect dialect, int fetchSize, int batchSize, Map<String, String> tableSubstitutions, Duration slowStatementThreshold, SlowStatementListener slowStatementListener, ResultCache resultCache, ReplicaRouter replicaRouter, boolean trusted) {
+        this.dataSource = requireNonNull(dataSource, "No data source specified");
+        this.dialect = dialect;
+        this.fetchSize = fetchSize;
+        this.batchSize = batchSize;
+        this.tableSubstitutions = tableSubstitutions;
+        this.slowStatementThreshold = slowStatementThreshold;
+        this.slowStatementListener = slowStatementListener;
+        this.resultCache = resultCache;
+        this.replicaRouter = replicaRouter;
+        this.trusted = trusted;
+    }
+
+    /**
+     * Specifies the number of rows to fetch per database round trip when streaming query results.
+     * Some JDBC drivers ignore this value, see {@link Dialect#getStreamingFetchSize(int)}.
+     * @param fetchSize the number of rows to fetch per round trip.
+     * @return the modified executor.
+     */
+    public StatementExecutor withFetchSize(int fetchSize) {
+        require(() -> fetchSize > 0, "Fetch size must be positive");
+        return new StatementExecutor(dataSource, dialect, fetchSize, batchSize, tableSubstitutions, slowStatementThreshold, slowStatementListener, resultCache, replicaRouter, trusted);
+    }
+
+    /**
+     * Specifies the number of rows to send per database round trip when executing JDBC batches.
+     * @param batchSize the number of rows to send per round trip.
+     * @return the modified executor.
+     */
+    public StatementExecutor withBatchSize(int batchSize) {
+        require(() -> batchSize > 0, "Batch size must be positive");
+        return new StatementExecutor(dataSource, dialect, fetchSize, batchSize, tableSubstitutions, slowStatementThreshold, slowStatementListener, resultCache, replicaRouter, trusted);
+    }
+
+    /**
+     * Specifies a table name to render in place of the name of specified table in all executed statements,
+     * e.g. to target a per-tenant schema or a per-month table.
+     * @param table the table to substitute.
+     * @param substituteName the substitute table name.
+     * @return the modified executor.
+     */
+    public StatementExecutor withTableSubstitution(Table table, String substituteName) {
+        requireNonNull(table, "No table specified");
+        requireNonBlank(substituteName, "No substitute name specified");
+        return new StatementExecutor(dataSource, dialect, fetchSize, batchSize, PreparedStatementBuilder.withSubstitution(tableSubstitutions, table, substituteName), slowStatementThreshold, slowStatementListener, resultCache, replicaRouter, trusted);
+    }
+
+    /**
+     * Specifies a listener notified about queries and DML statements whose execution exceeds specified latency threshold,
+     * along with their execution plan if supported by the SQL dialect. The plan is captured by explaining the statement
+     * on a separate connection after the execution, without executing the statement again.
+     * <p>
+     * Note that the plan is captured and the listener notified on the thread executing the statement, before the result is
+     * returned. Hence slow statements are further delayed by acquiring a second connection and explaining the statement,
+     * and may exhaust small connection pools. Keep the threshold well above the typical latency, and the listener fast.
+     * </p>
+     * @param threshold the latency threshold.
+     * @param listener the listener.
+     * @return the modified executor.
+     */
+    public StatementExecutor withSlowStatementListener(Duration threshold, SlowStatementListener listener) {
+        requireNonNull(threshold, "No threshold specified");
+        requireNonNull(listener, "No listener specified");
+        require(() -> !threshold.isNegative(), "Threshold must not be negative");
+        return new StatementExecutor(dataSource, dialect, fetchSize, batchSize, tableSubstitutions, threshold, listener, resultCache, replicaRouter, trusted);
+    }
+
+    /**
+     * Specifies a cache of query results. Results of SELECT statements executed using {@link #query(PreparableStatement, RowMapper)}
+     * are cached per SQL, parameter values and row mapper instance, hence row mappers should be reused, e.g. kept as constants.
+     * DML statements executed by this executor invalidate cached results of queries referencing the affected tables.
+     * Locking queries (SELECT ... FOR UPDATE) and streamed results are never cached.
+     * <p>
+     * Cache lookups require the SQL dialect to render the statement. Specify the dialect explicitly using {@link #using(DataSource, Dialect)}
+     * to avoid acquiring a connection to resolve the dialect when the result is cached.
+     * </p>
+     * <p>
+     * Results of queries routed to read replicas are never cached, since a lagging replica may return rows not yet reflecting
+     * DML statements executed on the primary, which would otherwise remain cached until expired.
+     * </p>
+     * @param resultCache the result cache.
+     * @return the modified executor.
+     */
+    public StatementExecutor withResultCache(ResultCache resultCache) {
+        requireNonNull(resultCache, "No result cache specified");
+        return new StatementExecutor(dataSource, dialect, fetchSize, batchSize, tableSubstitutions, slowStatementThreshold, slowStatementListener, resultCache, replicaRouter, trusted);
+    }
+
+    /**
+     * Invalidates the cached results of all queries referencing specified table, taking table substitutions of this executor
+     * into account. Use this to invalidate results after changes made by other means than this executor.
+     * See {@link #withResultCache(ResultCache)}.
+     * @param table the table.
+     */
+    public void invalidateCachedResults(Table table) {
+        requireNonNull(table, "No table specified");
+        if (nonNull(resultCache)) {
+            resultCache.invalidate(tableSubstitutions.getOrDefault(table.name(), table.name()));
+        }
+    }
+
+    /**
+     * Specifies read replicas of the data source of this executor. Queries without locking clauses, i.e. SELECT statements
+     * and set operations, are executed on connections from the replicas, while all other statements are executed on
+     * connections from the primary data source of this executor.
+     * <p>
+     * Replicas may lag behind the primary. To read data written by the current thread, open a read-your-writes scope
+     * using {@link #readYourWrites()}, which routes queries to the primary after the first write within the scope.
+     * </p>
+     * @param selection the replica selection strategy.
+     * @param firstReplica the first replica data source.
+     * @param moreReplicas the other replica data sources, if any.
+     * @return the modified executor.
+     */
+    public StatementExecutor withReadReplicas(ReplicaSelection selection, DataSource firstReplica, DataSource... moreReplicas) {
+        requireNonNull(firstReplica, "No replica specified");
+        ReplicaRouter router = new ReplicaRouter(asNonEmptyList(firstReplica, moreReplicas), selection);
+        return new StatementExecutor(dataSource, dialect, fetchSize, batchSize, tableSubstitutions, slowStatementThreshold, slowStatementListener, resultCache, router, trusted);
+    }
+
+    /**
+     * Specifies that all statements executed by this executor are trusted, i.e. known to be valid, e.g. by being verified by tests.
+     * Trusted statements are formatted without validating their structure, saving the validation cost on every execution of
+     * statements created per execution. Statements reused across executions are validated once only, regardless of this setting.
+     * Invalid trusted statements may result in invalid SQL, reported by the database rather than by FasterSQL.
+     * @return the modified executor.
+     */
+    public StatementExecutor withTrustedStatements() {
+        return new StatementExecutor(dataSource, dialect, fetchSize, batchSize, tableSubstitutions, slowStatementThreshold, slowStatementListener, resultCache, replicaRouter, true);
+    }
+
+    /**
+     * Opens a read-your-writes scope on the current thread, typically spanning a transaction or unit of work.
+     * Once a DML statement has been executed within the scope, by any executor, subsequent queries of the thread
+     * are routed to the primary data source rather than to read replicas, until the scope is closed.
+     * See {@link #withReadReplicas(ReplicaSelection, DataSource, DataSource...)}.
+     * @return the scope, which must be closed by the current thread.
+     */
+    public static ReadYourWritesScope readYourWrites() {
+        return ReadYourWritesScope.open();
+    }
+
+    /**
+     * Executes a query and maps all rows of the result.
+     * The entire result is held in memory, use {@link #stream(PreparableStatement, RowMapper)} for large results.
+     * @param statement the query statement.
+     * @param rowMapper the row mapper.
+     * @return the list of mapped rows.
+     * @param <T> the type of object each row is mapped to.
+     */
+    public <T> List<T> query(PreparableStatement statement, RowMapper<T> rowMapper) {
+        return query(statement, rowMapper, CancellationHandle.create());
+    }
+
+    /**
+     * Executes a query and maps all rows of the result. The execution can be aborted from another thread
+     * using specified cancellation handle.
+     * @param statement the query statement.
+     * @param rowMapper the row mapper.
+     * @param cancellation the cancellation handle.
+     * @return the list of mapped rows.
+     * @param <T> the type of object each row is mapped to.
+     */
+    public <T> List<T> query(PreparableStatement statement, RowMapper<T> rowMapper, CancellationHandle cancellation) {
+        requireNonNull(statement, "No statement specified");
+        requireNonNull(rowMapper, "No row mapper specified");
+        requireNonNull(cancellation, "No cancellation handle specified");
+
+        if (nonNull(resultCache) && isReadOnlyQuery(statement)) {
+            return queryCached(statement, rowMapper, cancellation);
+        }
+
+        return executeQuery(statement, rowMapper, cancellation);
+    }
+
+    private <T> List<T> queryCached(PreparableStatement statement, RowMapper<T> rowMapper, CancellationHandle cancellation) {
+        final Dialect keyDialect = resolveDialect();
+        Set<String> tableNames = new HashSet<>();
+        Context context = Context.of(keyDialect)
+            .withTableSubstitutions(tableSubstitutions)
+            .withReferencedTableNames(tableNames)
+            .withTrusted(trusted);
+
+        ResultCache.Key key = new ResultCache.Key(statement.sql(context), statement.params(context).toList(), rowMapper);
+
+        Optional<List<T>> cachedRows = resultCache.get(key);
+        if (cachedRows.isPresent()) {
+            return cachedRows.get();
+        }
+
+        final long generation = resultCache.generation();
+
+        // The formatted key is executed as is, instead of formatting the statement once more
+        List<T> rows = executeQuery(statement, rowMapper, cancellation, connection ->
+            prepare(connection, keyDialect, statement, key.sql(), key.params()));
+
+        // Results not referencing any table, e.g. system function values, can never be invalidated.
+        // Results read from replicas may be stale.
+        if (!tableNames.isEmpty() && !isRoutedToReplica(statement)) {
+            resultCache.put(key, tableNames, rows, generation);
+        }
+
+        return rows;
+    }
+
+    private static boolean isReadOnlyQuery(PreparableStatement statement) {
+        // Locking queries must always reach the (primary) database
+        return (statement instanceof SelectStatement select && !select.isLocking())
+            || (statement instanceof PrecompiledQuery precompiled && !precompiled.query().isLocking())
+            || statement instanceof SelectSetOpStatement;
+    }
+
+    private <T> List<T> executeQuery(PreparableStatement statement, RowMapper<T> rowMapper, CancellationHandle cancellation) {
+        return executeQuery(statement, rowMapper, cancellation, connection -> prepare(connection, resolveDialect(connection), statement));
+    }
+
+    private <T> List<T> executeQuery(PreparableStatement statement, RowMapper<T> rowMapper, CancellationHandle cancellation, Preparer preparer) {
+        final long startNanos = System.nanoTime();
+        final List<T> rows = new ArrayList<>();
+
+        try (Connection connection = getConnection(statement);
+             PreparedStatement stmt = preparer.prepare(connection)) {
+
+            cancellation.register(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(rowMapper.map(rs));
+                }
+            } finally {
+                cancellation.unregister(stmt);
+            }
+        } catch (SQLException e) {
+            throw new FasterSQLException("Failed to execute query", e);
+        }
+
+        notifyIfSlow(statement, startNanos);
+        return rows;
+    }
+
+    /**
+     * Executes a query and returns a lazily populated stream of mapped rows.
+     * Rows are fetched from the database in chunks of the configured fetch size as the stream is consumed,
+     * so memory usage is bounded regardless of the size of the result.
+     * <p>
+     * The connection is held until the stream is closed, hence the stream must be closed after use,
+     * preferably with a try-with-resources block. Closing the stream closes the result set, the statement and the connection.
+     * </p>
+     * @param statement the query statement.
+     * @param rowMapper the row mapper.
+     * @return the stream of mapped rows.
+     * @param <T> the type of object each row is mapped to.
+     */
+    public <T> Stream<T> stream(PreparableStatement statement, RowMapper<T> rowMapper) {
+        return openCursor(statement, rowMapper).stream();
+    }
+
+    /**
+     * Creates a reactive publisher of the mapped rows of a query.
+     * The query is executed for each subscription when the subscriber first signals demand, and rows are read
+     * from the result set only as requested by the subscriber. Cancelling the subscription cancels the JDBC statement
+     * and releases the connection.
+     * <p>
+     * Rows are read on a new thread per batch of demand; a virtual thread if supported by the Java runtime.
+     * </p>
+     * @param statement the query statement.
+     * @param rowMapper the row mapper.
+     * @return the publisher of mapped rows.
+     * @param <T> the type of object each row is mapped to.
+     */
+    public <T> Flow.Publisher<T> publish(PreparableStatement statement, RowMapper<T> rowMapper) {
+        return new ResultPublisher<>(this, statement, rowMapper, AsyncExecutor.newThreadPerTaskExecutor());
+    }
+
+    /**
+     * Creates a reactive publisher of the mapped rows of a query, reading rows on threads of specified executor.
+     * See {@link #publish(PreparableStatement, RowMapper)}.
+     * @param statement the query statement.
+     * @param rowMapper the row mapper.
+     * @param executor the executor reading rows from the result set.
+     * @return the publisher of mapped rows.
+     * @param <T> the type of object each row is mapped to.
+     */
+    public <T> Flow.Publisher<T> publish(PreparableStatement statement, RowMapper<T> rowMapper, Executor executor) {
+        return new ResultPublisher<>(this, statement, rowMapper, executor);
+    }
+
+    /**
+     * Executes a DML statement.
+     * @param statement the DML statement.
+     * @return the number of affected rows.
+     */
+    public int update(PreparableStatement statement) {
+        return update(statement, CancellationHandle.create());
+    }
+
+    /**
+     * Executes a DML statement. The execution can be aborted from another thread using specified cancellation handle.
+     * @param statement the DML statement.
+     * @param cancellation the cancellation handle.
+     * @return the number of affected rows.
+     */
+    public int update(PreparableStatement statement, CancellationHandle cancellation) {
+        requireNonNull(statement, "No statement specified");
+        requireNonNull(cancellation, "No cancellation handle specified");
+
+        final long startNanos = System.nanoTime();
+        final int affectedRowCount;
+        final Set<String> tableNames = new HashSet<>();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stmt = prepare(connection, resolveDialect(connection), statement, tableNames)) {
+
+            cancellation.register(stmt);
+            try {
+                affectedRowCount = stmt.executeUpdate();
+            } finally {
+                cancellation.unregister(stmt);
+            }
+        } catch (SQLException e) {
+            throw new FasterSQLException("Failed to execute statement", e);
+        } finally {
+            afterWrite(tableNames);
+        }
+
+        notifyIfSlow(statement, startNanos);
+        return affectedRowCount;
+    }
+
+    /**
+     * Explains the execution plan of a statement, without executing it. The statement is explained with its parameters bound,
+     * using the explain form of the SQL dialect, e.g. EXPLAIN, EXPLAIN PLAN FOR or SET SHOWPLAN_XML ON.
+     * @param statement the statement.
+     * @return the execution plan, one line per row of the plan, with the columns of each row separated by tabs.
+     */
+    public String explain(PreparableStatement statement) {
+        return explain(statement, false);
+    }
+
+    /**
+     * Explains the execution plan of a statement, executing it to report actual run time statistics, i.e. EXPLAIN ANALYZE.
+     * The statement is executed within a transaction which is always rolled back, hence DML statements have no lasting effect.
+     * Note that statements causing implicit commits on some databases, e.g. DDL statements on MySQL, are not rolled back.
+     * @param statement the statement.
+     * @return the execution plan, one line per row of the plan, with the columns of each row separated by tabs.
+     */
+    public String explainAnalyze(PreparableStatement statement) {
+        return explain(statement, true);
+    }
+
+    private String explain(PreparableStatement statement, boolean analyze) {
+        requireNonNull(statement, "No statement specified");
+
+        try (Connection connection = getConnection(statement)) {
+            if (!analyze) {
+                return explain(connection, statement, false);
+            }
+
+            // Statements executed by EXPLAIN ANALYZE are rolled back, to not have DML statements take effect
+            final boolean restoreAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                return explain(connection, statement, true);
+            } finally {
+                connection.rollback();
+                if (restoreAutoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            throw new FasterSQLException("Failed to explain statement", e);
+        }
+    }
+
+    private String explain(Connection connection, PreparableStatement statement, boolean analyze) throws SQLException {
+        Dialect actualDialect = resolveDialect(connection);
+        PreparedStatementBuilder builder = PreparedStatementBuilder.using(connection, actualDialect)
+            .withTableSubstitutions(tableSubstitutions)
+            .withTrusted(trusted);
+
+        String explainSql = actualDialect.formatExplainStatement(builder.sql(statement), analyze)
+            .orElseThrow(() -> new UnsupportedOperationException("%s does not support %s".formatted(actualDialect.getProductName(), analyze ? "EXPLAIN ANALYZE" : "EXPLAIN")));
+
+        executeOptional(connection, actualDialect.formatExplainSessionCommand(true));
+        try (PreparedStatement stmt = connection.prepareStatement(explainSql)) {
+            builder.setParameters(stmt, statement);
+
+            Optional<String> planQuery = actualDialect.formatExplainPlanQuery();
+            if (planQuery.isPresent()) {
+                stmt.execute();
+                try (Statement planStmt = connection.createStatement(); ResultSet rs = planStmt.executeQuery(planQuery.get())) {
+                    return planText(rs);
+                }
+            } else {
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return planText(rs);
+                }
+            }
+        } finally {
+            executeOptional(connection, actualDialect.formatExplainSessionCommand(false));
+        }
+    }
+
+    private static void executeOptional(Connection connection, Optional<String> command) throws SQLException {
+        if (command.isPresent()) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute(command.get());
+            }
+        }
+    }
+
+    private static String planText(ResultSet rs) throws SQLException {
+        final int columnCount = rs.getMetaData().getColumnCount();
+
+        List<String> lines = new ArrayList<>();
+        while (rs.next()) {
+            List<String> values = new ArrayList<>();
+            for (int i = 1; i <= columnCount; i++) {
+                values.add(String.valueOf(rs.getObject(i)));
+            }
+            lines.add(String.join("\t", values));
+        }
+
+        return String.join("\n", lines);
+    }
+
+    private void notifyIfSlow(PreparableStatement statement, long startNanos) {
+        if (isNull(slowStatementListener)) {
+            return;
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        if (elapsed.compareTo(slowStatementThreshold) > 0) {
+            Optional<String> plan;
+            try {
+                plan = Optional.of(explain(statement));
+            } catch (FasterSQLException | UnsupportedOperationException e) {
+                // The plan is optional, hence the notification is not suppressed
+                plan = Optional.empty();
+            }
+            slowStatementListener.onSlowStatement(statement, elapsed, plan);
+        }
+    }
+
+    /**
+     * Creates executor for DELETE and UPDATE statements affecting a limited number of rows per execution,
+     * committing each chunk in a separate transaction. See {@link ChunkedExecutor}.
+     * @param chunkSize the maximum number of rows affected per chunk.
+     * @return the chunked executor.
+     */
+    public ChunkedExecutor inChunksOf(int chunkSize) {
+        require(() -> chunkSize > 0, "Chunk size must be positive");
+        return new ChunkedExecutor(this, chunkSize, null, null, null);
+    }
+
+    /**
+     * Executes an INSERT statement returning values of the columns specified by its RETURNING clause,
+     * e.g. generated keys and column defaults. Values are returned in a single round trip, either as the
+     * result set of the statement itself or as generated keys, depending on the SQL dialect.
+     * @param statement the INSERT statement.
+     * @param rowMapper the row mapper, mapping the returned values of each inserted row.
+     * @return the list of mapped rows, one per inserted row.
+     * @param <T> the type of object each row is mapped to.
+     */
+    public <T> List<T> executeReturning(PreparableStatement statement, RowMapper<T> rowMapper) {
+        requireNonNull(statement, "No statement specified");
+        requireNonNull(rowMapper, "No row mapper specified");
+        require(() -> !statement.getReturningColumns().isEmpty(), "Statement has no returning columns");
+
+        final Set<String> tableNames = new HashSet<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            Dialect actualDialect = resolveDialect(connection);
+            try (PreparedStatement stmt = prepare(connection, actualDialect, statement, tableNames)) {
+                ResultSet rs;
+                if (Helpers.returnsResultSet(actualDialect)) {
+                    rs = stmt.executeQuery();
+                } else {
+                    stmt.executeUpdate();
+                    rs = stmt.getGeneratedKeys();
+                }
+
+                try (rs) {
+                    List<T> rows = new ArrayList<>();
+                    while (rs.next()) {
+                        rows.add(rowMapper.map(rs));
+                    }
+                    return rows;
+                }
+            }
+        } catch (SQLException e) {
+            throw new FasterSQLException("Failed to execute statement", e);
+        } finally {
+            afterWrite(tableNames);
+        }
+    }
+
+    /**
+     * Executes an UPDATE (batch) statement as JDBC batches of a parameterized single row UPDATE statement,
+     * sending rows in chunks of the configured batch size. Unless a transaction is already in progress,
+     * all rows are updated in a single transaction.
+     * <p>
+     * Execute the statement using {@link #update(PreparableStatement)} to update all rows by a single set based statement instead.
+     * </p>
+     * @param statement the UPDATE (batch) statement.
+     * @return the number of affected rows, as reported by the JDBC driver.
+     */
+    public int executeBatch(UpdateBatchStatement<?> statement) {
+        requireNonNull(statement, "No statement specified");
+
+        final Set<String> tableNames = new HashSet<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatementBuilder builder = PreparedStatementBuilder.using(connection, resolveDialect(connection))
+                .withTableSubstitutions(tableSubstitutions)
+                .withReferencedTableNames(tableNames)
+                .withTrusted(trusted);
+
+            boolean restoreAutoCommit = connection.getAutoCommit();
+            if (restoreAutoCommit) {
+                connection.setAutoCommit(false);
+            }
+
+            try {
+                int affectedRowCount = executeBatches(connection, builder, statement.rowStatements());
+                if (restoreAutoCommit) {
+                    connection.commit();
+                }
+                return affectedRowCount;
+            } catch (SQLException | RuntimeException e) {
+                if (restoreAutoCommit) {
+                    connection.rollback();
+                }
+                throw e;
+            } finally {
+                if (restoreAutoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            throw new FasterSQLException("Failed to execute batch", e);
+        } finally {
+            afterWrite(tableNames);
+        }
+    }
+
+    private int executeBatches(Connection connection, PreparedStatementBuilder builder, Stream<UpdateStatement> rowStatements) throws SQLException {
+        int affectedRowCount = 0;
+        String batchSql = null;
+        PreparedStatement stmt = null;
+        int batchRowCount = 0;
+
+        try {
+            for (UpdateStatement rowStatement : (Iterable<UpdateStatement>) rowStatements::iterator) {
+                String sql = builder.sql(rowStatement);
+                if (!sql.equals(batchSql)) {
+                    // Rows rendered differently (e.g. null values) start a new batch, preserving the row order
+                    if (nonNull(stmt)) {
+                        affectedRowCount += executeBatch(stmt, batchRowCount);
+                        stmt.close();
+                    }
+                    stmt = connection.prepareStatement(sql);
+                    batchSql = sql;
+                    batchRowCount = 0;
+                }
+
+                builder.setParameters(stmt, rowStatement);
+                stmt.addBatch();
+
+                if (++batchRowCount == batchSize) {
+                    affectedRowCount += executeBatch(stmt, batchRowCount);
+                    batchRowCount = 0;
+                }
+            }
+
+            if (nonNull(stmt)) {
+                affectedRowCount += executeBatch(stmt, batchRowCount);
+            }
+        } finally {
+            if (nonNull(stmt)) {
+                stmt.close();
+            }
+        }
+
+        return affectedRowCount;
+    }
+
+    private static int executeBatch(PreparedStatement stmt, int batchRowCount) throws SQLException {
+        if (batchRowCount == 0) {
+            return 0;
+        }
+
+        // Drivers may report SUCCESS_NO_INFO (a negative value) instead of the actual row count
+        return Arrays.stream(stmt.executeBatch()).filter(count -> count > 0).sum();
+    }
+
+    int updateCommitted(PreparableStatement statement) {
+        requireNonNull(statement, "No statement specified");
+
+        final Set<String> tableNames = new HashSet<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            try (PreparedStatement stmt = prepare(connection, resolveDialect(connection), statement, tableNames)) {
+                int affectedRowCount = stmt.executeUpdate();
+                if (!autoCommit) {
+                    connection.commit();
+                }
+                return affectedRowCount;
+            } catch (SQLException | RuntimeException e) {
+                // Do not return the connection to the pool with an open transaction
+                if (!autoCommit) {
+                    connection.rollback();
+                }
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new FasterSQLException("Failed to execute statement", e);
+        } finally {
+            afterWrite(tableNames);
+        }
+    }
+
+    <T> ResultCursor<T> openCursor(PreparableStatement statement, RowMapper<T> rowMapper) {
+        requireNonNull(statement, "No statement specified");
+        requireNonNull(rowMapper, "No row mapper specified");
+
+        Connection connection = null;
+        PreparedStatement stmt = null;
+        boolean restoreAutoCommit = false;
+        try {
+            connection = getConnection(statement);
+            Dialect actualDialect = resolveDialect(connection);
+
+            // Some drivers only fetch incrementally using a server side cursor, which requires an open transaction
+            if (actualDialect.cursorFetchRequiresTransaction() && connection.getAutoCommit()) {
+                connection.setAutoCommit(false);
+                restoreAutoCommit = true;
+            }
+
+            stmt = prepare(connection, actualDialect, statement);
+            stmt.setFetchSize(actualDialect.getStreamingFetchSize(fetchSize));
+            ResultSet rs = stmt.executeQuery();
+
+            return new ResultCursor<>(connection, stmt, rs, rowMapper, restoreAutoCommit);
+        } catch (SQLException e) {
+            releaseSafely(connection, stmt, restoreAutoCommit, e);
+            throw new FasterSQLException("Failed to execute query", e);
+        } catch (RuntimeException e) {
+            // E.g. invalid or unsupported statements, detected when formatting the statement
+            releaseSafely(connection, stmt, restoreAutoCommit, e);
+            throw e;
+        }
+    }
+
+    private PreparedStatement prepare(Connection connection, Dialect actualDialect, PreparableStatement statement) throws SQLException {
+        return prepare(connection, actualDialect, statement, null);
+    }
+
+    private PreparedStatement prepare(Connection connection, Dialect actualDialect, PreparableStatement statement, Set<String> referencedTableNames) throws SQLException {
+        setServerSideTimeout(connection, actualDialect, statement);
+
+        return PreparedStatementBuilder.using(connection, actualDialect)
+            .withTableSubstitutions(tableSubstitutions)
+            .withReferencedTableNames(referencedTableNames)
+            .withTrusted(trusted)
+            .prepare(statement);
+    }
+
+    private PreparedStatement prepare(Connection connection, Dialect actualDialect, PreparableStatement statement, String sql, List<Object> params) throws SQLException {
+        setServerSideTimeout(connection, actualDialect, statement);
+
+        return PreparedStatementBuilder.using(connection, actualDialect)
+            .prepare(statement, sql, params);
+    }
+
+    private static void setServerSideTimeout(Connection connection, Dialect actualDialect, PreparableStatement statement) throws SQLException {
+        if (statement.getTimeout().isPresent() && !connection.getAutoCommit()) {
+            // Server side timeout, in addition to the JDBC query timeout, effective for the current transaction only
+            Optional<String> timeoutCommand = actualDialect.formatStatementTimeoutCommand(statement.getTimeout().get());
+            if (timeoutCommand.isPresent()) {
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.execute(timeoutCommand.get());
+                }
+            }
+        }
+    }
+
+    private Connection getConnection(PreparableStatement statement) throws SQLException {
+        if (isRoutedToReplica(statement)) {
+            return replicaRouter.getConnection();
+        }
+
+        return dataSource.getConnection();
+    }
+
+    private boolean isRoutedToReplica(PreparableStatement statement) {
+        return nonNull(replicaRouter) && isReadOnlyQuery(statement) && !ReadYourWritesScope.isPrimaryRequired();
+    }
+
+    private void afterWrite(Set<String> tableNames) {
+        ReadYourWritesScope.markWritten();
+        if (nonNull(resultCache)) {
+            resultCache.invalidate(tableNames);
+        }
+    }
+
+    private Dialect resolveDialect(Connection connection) {
+        return nonNull(dialect) ? dialect : DialectResolver.fromConnection(connection);
+    }
+
+    private Dialect resolveDialect() {
+        if (nonNull(dialect)) {
+            return dialect;
+        }
+
+        // Resolved once, since the database product of a data source does not change
+        Dialect resolved = resolvedDialect;
+        if (isNull(resolved)) {
+            try (Connection connection = dataSource.getConnection()) {
+                resolved = DialectResolver.fromConnection(connection);
+                resolvedDialect = resolved;
+            } catch (SQLException e) {
+                throw new FasterSQLException("Failed to resolve SQL dialect", e);
+            }
+        }
+        return resolved;
+    }
+
+    private void releaseSafely(Connection connection, PreparedStatement stmt, boolean restoreAutoCommit, Exception failure) {
+        if (nonNull(stmt)) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        if (nonNull(connection)) {
+            try {
+                if (restoreAutoCommit) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+                connection.close();
+            } catch (SQLException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Prepares a statement for execution on a connection.
+     */
+    @FunctionalInterface
+    private interface Preparer {
+        PreparedStatement prepare(Connection connection) throws SQLException;
+    }
+}
@@ -20,6 +20,7 @@ import io.github.torand.fastersql.projection.Projection;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.asNonEmptyList;
 import static java.util.Objects.requireNonNull;
@@ -54,13 +55,50 @@ public final class Statements {
         return new SelectFromBuilder(true, projections);
     }
 
+    /**
+     * Creates a common table expression, i.e. a named subquery declared by a WITH clause, to be used in FROM clauses.
+     * @param name the name of the common table expression.
+     * @param query the subquery.
+     * @return the common table expression.
+     */
+    public static CommonTableExpression with(String name, SelectStatement query) {
+        requireNonNull(query, "No query specified");
+        return new CommonTableExpression(name, query, false, null, null);
+    }
+
+    /**
+     * Creates a recursive common table expression, i.e. a named subquery referencing itself.
+     * The subquery is created by specified factory, given a reference to the common table expression itself,
+     * and is typically a UNION ALL of an anchor query and a recursive query selecting from the reference.
+     * The projections of the anchor query must have aliases, which become the column names of the common table expression.
+     * @param name the name of the common table expression.
+     * @param queryFactory the factory creating the subquery.
+     * @return the common table expression.
+     */
+    public static CommonTableExpression withRecursive(String name, Function<CommonTableExpression, SelectSetOpStatement> queryFactory) {
+        requireNonNull(queryFactory, "No query factory specified");
+        CommonTableExpression self = new CommonTableExpression(name, null, true, null, null);
+        SelectSetOpStatement query = requireNonNull(queryFactory.apply(self), "No query created");
+        return new CommonTableExpression(name, query, true, null, null);
+    }
+
     /**
      * Creates an UPDATE statement for specified table.
      * @param table the table
      * @return the statement.
      */
     public static UpdateStatement update(Table table) {
-        return new UpdateStatement(table, null, null);
+        return new UpdateStatement(table, null, null, null, null, null, null);
+    }
+
+    /**
+     * Creates an UPDATE (batch) statement builder, for specified entities.
+     * @param entities the entities
+     * @return the statement builder.
+     * @param <T> the entity type.
+     */
+    public static <T> UpdateBatchBuilder<T> updateBatch(Collection<T> entities) {
+        return new UpdateBatchBuilder<>(entities);
     }
 
     /**
@@ -77,7 +115,7 @@ public final class Statements {
      * @return the statement.
      */
     public static DeleteStatement deleteFrom(Table table) {
-        return new DeleteStatement(table, null);
+        return new DeleteStatement(table, null, null, null, null, null);
     }
 
     /**
@@ -111,7 +149,7 @@ public final class Statements {
      * @return the statement builder.
      */
     public static InsertStatement insertInto(Table table) {
-        return new InsertStatement(table, null);
+        return new InsertStatement(table, null, null);
     }
 
     /**
@@ -123,4 +161,23 @@ public final class Statements {
     public static <T> InsertBatchIntoBuilder<T> insertBatch(Collection<T> entities) {
         return new InsertBatchIntoBuilder<>(entities);
     }
+
+    /**
+     * Creates an upsert statement for specified table, inserting a row or updating it if a row with the same key exists.
+     * @param table the table to insert into or update.
+     * @return the statement.
+     */
+    public static UpsertStatement upsert(Table table) {
+        return new UpsertStatement(table, null, null);
+    }
+
+    /**
+     * Creates an upsert (batch) statement builder, for specified entities.
+     * @param entities the entities
+     * @return the statement builder.
+     * @param <T> the entity type.
+     */
+    public static <T> UpsertBatchIntoBuilder<T> upsertBatch(Collection<T> entities) {
+        return new UpsertBatchIntoBuilder<>(entities);
+    }
 }
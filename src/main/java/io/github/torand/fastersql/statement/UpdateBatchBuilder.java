@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.model.Table;
+
+import java.util.Collection;
+import java.util.List;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.asList;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder of UPDATE (batch) statements with a table to update.
+ * @param <T> the batch entity type.
+ */
+public class UpdateBatchBuilder<T> {
+    private final List<? extends T> entities;
+
+    UpdateBatchBuilder(Collection<? extends T> entities) {
+        this.entities = asList(requireNonEmpty(entities, "No entities specified"));
+    }
+
+    /**
+     * Creates an UPDATE (batch) statement updating rows of specified table.
+     * @param table the table to update.
+     * @return the statement.
+     */
+    public UpdateBatchStatement<T> table(Table table) {
+        return new UpdateBatchStatement<>(entities, requireNonNull(table, "No table specified"), null, null);
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.AnsiIsoDialect;
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.dialect.SqlServerDialect;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.constant.Constants.$;
+import static io.github.torand.fastersql.dialect.Capability.MERGE;
+import static io.github.torand.fastersql.dialect.Capability.UPDATE_FROM;
+import static io.github.torand.fastersql.sql.Command.UPDATE;
+import static io.github.torand.fastersql.statement.UpsertRenderer.SOURCE_ALIAS;
+import static io.github.torand.javacommons.collection.CollectionHelper.*;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Implements an UPDATE statement for batch (multi-row) update of rows identified by a key column.
+ * <p>
+ * The statement can be executed in one of two ways:
+ * </p>
+ * <ul>
+ *     <li>As a single set based statement, formatted as UPDATE ... FROM (VALUES ...), MERGE or UPDATE ... SET col = CASE key WHEN ...
+ *     depending on the SQL dialect. This is the case when preparing or executing the statement like any other statement.</li>
+ *     <li>As a JDBC batch of a parameterized UPDATE statement per row, using {@link StatementExecutor#executeBatch(UpdateBatchStatement)}.</li>
+ * </ul>
+ * @param <T> the batch entity type.
+ */
+public class UpdateBatchStatement<T> implements PreparableStatement {
+    private final Table table;
+    private final List<ColumnValueExtractor<? super T>> columnValueExtractors;
+    private final ColumnValueExtractor<? super T> keyExtractor;
+    private final List<? extends T> entities;
+
+    UpdateBatchStatement(Collection<? extends T> entities, Table table, Collection<ColumnValueExtractor<? super T>> columnValueExtractors, ColumnValueExtractor<? super T> keyExtractor) {
+        this.entities = asList(requireNonEmpty(entities, "No entities specified"));
+        this.table = requireNonNull(table, "No table specified");
+        this.columnValueExtractors = asList(columnValueExtractors);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Registers a column-value mapper for a column to be updated.
+     * @param column the column.
+     * @param valueExtractor the value extractor.
+     * @return the modified statement.
+     */
+    public UpdateBatchStatement<T> set(Column column, Function<? super T, Object> valueExtractor) {
+        requireNonNull(column, "No column specified");
+        requireNonNull(valueExtractor, "No value extractor specified");
+
+        List<ColumnValueExtractor<? super T>> concatenated = concat(columnValueExtractors, new ColumnValueExtractor<>(column, valueExtractor));
+        return new UpdateBatchStatement<>(entities, table, concatenated, keyExtractor);
+    }
+
+    /**
+     * Specifies the column identifying the row to update for each entity, typically the primary key.
+     * @param column the key column.
+     * @param keyExtractor the key value extractor.
+     * @return the modified statement.
+     */
+    public UpdateBatchStatement<T> key(Column column, Function<? super T, Object> keyExtractor) {
+        requireNonNull(column, "No column specified");
+        requireNonNull(keyExtractor, "No key extractor specified");
+
+        return new UpdateBatchStatement<>(entities, table, columnValueExtractors, new ColumnValueExtractor<>(column, keyExtractor));
+    }
+
+    @Override
+    public String sql(Context context) {
+        final Context localContext = context.withCommand(UPDATE);
+        if (!context.isTrusted()) {
+            validate();
+        }
+
+        final Dialect dialect = localContext.getDialect();
+        final String keyName = keyExtractor.column().name();
+
+        if (dialect.supports(UPDATE_FROM)) {
+
+            // UPDATE t SET col1 = SRC.col1 FROM (VALUES ('key1', 'val1'), ('key2', 'val2')) SRC (key, col1)
+            // WHERE t.key = SRC.key
+
+            final String target = table.sql(context);
+
+            return "update " + target +
+                " set " + columnValueExtractors().map(cve -> cve.column().name() + " = " + SOURCE_ALIAS + "." + cve.column().name()).collect(joining(", ")) +
+                " from " + UpsertRenderer.sourceSql(dialect, sourceColumns(), sourceRows(localContext)) +
+                " where " + target + "." + keyName + " = " + SOURCE_ALIAS + "." + keyName;
+
+        } else if (dialect.supports(MERGE)) {
+
+            // MERGE INTO t T USING (VALUES ('key1', 'val1'), ('key2', 'val2')) SRC (key, col1)
+            // ON (T.key = SRC.key)
+            // WHEN MATCHED THEN UPDATE SET T.col1 = SRC.col1
+
+            final String target = table.alias().name();
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("merge into ").append(table.sql(context)).append(" ").append(target);
+            sb.append(" using ").append(UpsertRenderer.sourceSql(dialect, sourceColumns(), sourceRows(localContext)));
+            sb.append(" on (").append(target).append(".").append(keyName).append(" = ").append(SOURCE_ALIAS).append(".").append(keyName).append(")");
+            sb.append(" when matched then update set ");
+            sb.append(columnValueExtractors().map(cve -> target + "." + cve.column().name() + " = " + SOURCE_ALIAS + "." + cve.column().name()).collect(joining(", ")));
+
+            if (dialect instanceof SqlServerDialect) {
+                // SQL Server requires MERGE statements to be terminated
+                sb.append(";");
+            }
+
+            return sb.toString();
+
+        } else {
+
+            // UPDATE t SET col1 = CASE key WHEN 'key1' THEN 'val1' WHEN 'key2' THEN 'val2' END
+            // WHERE key IN ('key1', 'key2')
+
+            final String keySql = keyExtractor.column().sql(localContext);
+
+            return "update " + table.sql(context) +
+                " set " + columnValueExtractors()
+                    .map(cve -> cve.column().sql(localContext) + " = case " + keySql + " " +
+                        entities().map(e -> "when ? then " + cve.valueSql(localContext, e)).collect(joining(" ")) +
+                        " end")
+                    .collect(joining(", ")) +
+                " where " + keySql + " in (" + entities().map(e -> "?").collect(joining(", ")) + ")";
+        }
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        final Dialect dialect = context.getDialect();
+
+        if (dialect.supports(UPDATE_FROM) || dialect.supports(MERGE)) {
+            return entities()
+                .flatMap(e -> Stream.concat(Stream.of(keyExtractor), columnValueExtractors())
+                    .map(cve -> cve.valueParam(e))
+                    .flatMap(Optional::stream));
+        } else {
+            return Stream.concat(
+                columnValueExtractors()
+                    .flatMap(cve -> entities()
+                        .flatMap(e -> Stream.concat(keyExtractor.valueParam(e).stream(), cve.valueParam(e).stream()))),
+                entities()
+                    .flatMap(e -> keyExtractor.valueParam(e).stream()));
+        }
+    }
+
+    /**
+     * Creates a single row UPDATE statement for each entity, in entity order.
+     * @return the single row statements.
+     */
+    Stream<UpdateStatement> rowStatements() {
+        validate();
+
+        return entities()
+            .map(e -> new UpdateStatement(
+                table,
+                null,
+                columnValueExtractors().map(cve -> new ColumnValue(cve.column(), $(cve.valueParam(e).orElse(null)))).toList(),
+                List.of(keyExtractor.column().eq(keyExtractor.valueParam(e).orElseThrow())),
+                null,
+                null,
+                null));
+    }
+
+    private List<Column> sourceColumns() {
+        return Stream.concat(Stream.of(keyExtractor), columnValueExtractors())
+            .map(ColumnValueExtractor::column)
+            .toList();
+    }
+
+    private List<List<String>> sourceRows(Context context) {
+        return entities()
+            .map(e -> Stream.concat(Stream.of(keyExtractor), columnValueExtractors())
+                .map(cve -> cve.valueSql(context, e))
+                .toList())
+            .toList();
+    }
+
+    private Stream<? extends T> entities() {
+        return streamSafely(entities);
+    }
+
+    private Stream<ColumnValueExtractor<? super T>> columnValueExtractors() {
+        return streamSafely(columnValueExtractors);
+    }
+
+    private void validate() {
+        if (isEmpty(columnValueExtractors)) {
+            throw new IllegalStateException("No values to set");
+        }
+        if (isNull(keyExtractor)) {
+            throw new IllegalStateException("No key column specified");
+        }
+        if (entities().anyMatch(e -> keyExtractor.valueParam(e).isEmpty())) {
+            throw new IllegalStateException("Key column " + keyExtractor.column().name() + " has no value for one or more entities");
+        }
+
+        Stream.concat(Stream.of(keyExtractor), columnValueExtractors())
+            .map(ColumnValueExtractor::column)
+            .filter(c -> !table.name().equalsIgnoreCase(c.table().name()))
+            .findFirst()
+            .ifPresent(c -> {
+                throw new IllegalStateException("Column " + c.name() + " belongs to table " + c.table().name() + ", but is not specified in the UPDATE clause");
+            });
+    }
+
+    @Override
+    public String toString() {
+        return toString(new AnsiIsoDialect());
+    }
+}
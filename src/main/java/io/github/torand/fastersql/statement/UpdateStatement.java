@@ -16,24 +16,45 @@
 package io.github.torand.fastersql.statement;
 
 import io.github.torand.fastersql.dialect.AnsiIsoDialect;
+import io.github.torand.fastersql.dialect.Dialect;
 import io.github.torand.fastersql.expression.Expression;
+import io.github.torand.fastersql.hint.Hint;
+import io.github.torand.fastersql.join.Join;
 import io.github.torand.fastersql.model.Column;
 import io.github.torand.fastersql.model.Table;
 import io.github.torand.fastersql.predicate.OptionalPredicate;
 import io.github.torand.fastersql.predicate.Predicate;
 import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.sql.Sql;
+import io.github.torand.fastersql.subquery.Subquery;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static io.github.torand.fastersql.constant.Constants.$;
+import static io.github.torand.fastersql.dialect.Capability.UPDATE_FROM;
+import static io.github.torand.fastersql.dialect.Capability.UPDATE_FROM_JOIN;
+import static io.github.torand.fastersql.dialect.Capability.UPDATE_JOIN;
 import static io.github.torand.fastersql.sql.Command.UPDATE;
+import static io.github.torand.fastersql.statement.AppendOnlyList.concat;
+import static io.github.torand.fastersql.statement.Helpers.correlatedSubqueryParams;
+import static io.github.torand.fastersql.statement.Helpers.correlatedSubquerySql;
+import static io.github.torand.fastersql.statement.Helpers.joinContext;
+import static io.github.torand.fastersql.statement.Helpers.referencableTableNames;
+import static io.github.torand.fastersql.statement.HintRenderer.queryOptionSql;
+import static io.github.torand.fastersql.statement.HintRenderer.withOptimizerHintSql;
 import static io.github.torand.javacommons.collection.CollectionHelper.*;
+import static io.github.torand.javacommons.contract.Requires.require;
 import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.concatStreams;
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -41,13 +62,34 @@ import static java.util.stream.Collectors.joining;
  */
 public class UpdateStatement implements PreparableStatement {
     private final Table table;
+    private final List<Join> joins;
     private final List<ColumnValue> columnValues;
     private final List<Predicate> predicates;
+    private final Duration timeout;
+    private final RowLimit rowLimit;
+    private final List<Hint> hints;
 
-    UpdateStatement(Table table, Collection<ColumnValue> columnValues, Collection<Predicate> predicates) {
+    UpdateStatement(Table table, Collection<Join> joins, Collection<ColumnValue> columnValues, Collection<Predicate> predicates, Duration timeout, RowLimit rowLimit, Collection<Hint> hints) {
         this.table = requireNonNull(table, "No table specified");
-        this.columnValues = asList(columnValues);
-        this.predicates = asList(predicates);
+        this.joins = AppendOnlyList.of(joins);
+        this.columnValues = AppendOnlyList.of(columnValues);
+        this.predicates = AppendOnlyList.of(predicates);
+        this.timeout = timeout;
+        this.rowLimit = rowLimit;
+        this.hints = AppendOnlyList.of(hints);
+    }
+
+    /**
+     * Adds one or more JOIN clauses, making columns of the joined tables available to values and predicates.
+     * The statement is formatted as UPDATE ... JOIN, UPDATE ... FROM, or with correlated subqueries, depending on the SQL dialect.
+     * @param joins the JOIN clauses.
+     * @return the modified statement.
+     */
+    public UpdateStatement join(Join... joins) {
+        requireNonEmpty(joins, "No joins specified");
+
+        List<Join> concatenated = concat(this.joins, joins);
+        return new UpdateStatement(table, concatenated, columnValues, predicates, timeout, rowLimit, hints);
     }
 
     /**
@@ -61,7 +103,7 @@ public class UpdateStatement implements PreparableStatement {
         requireNonNull(value, "No expression specified");
 
         List<ColumnValue> concatenated = concat(this.columnValues, new ColumnValue(column, value));
-        return new UpdateStatement(table, concatenated, predicates);
+        return new UpdateStatement(table, joins, concatenated, predicates, timeout, rowLimit, hints);
     }
 
     /**
@@ -74,7 +116,7 @@ public class UpdateStatement implements PreparableStatement {
         requireNonNull(column, "No column specified");
 
         List<ColumnValue> concatenated = concat(this.columnValues, new ColumnValue(column, $(value)));
-        return new UpdateStatement(table, concatenated, predicates);
+        return new UpdateStatement(table, joins, concatenated, predicates, timeout, rowLimit, hints);
     }
 
     /**
@@ -90,7 +132,7 @@ public class UpdateStatement implements PreparableStatement {
 
         if (maybeValue.isPresent()) {
             List<ColumnValue> concatenated = concat(this.columnValues, new ColumnValue(column, $(maybeValue.get())));
-            return new UpdateStatement(table, concatenated, predicates);
+            return new UpdateStatement(table, joins, concatenated, predicates, timeout, rowLimit, hints);
         } else {
             return this;
         }
@@ -105,7 +147,7 @@ public class UpdateStatement implements PreparableStatement {
         requireNonEmpty(predicates, "No predicates specified");
 
         List<Predicate> concatenated = concat(this.predicates, predicates);
-        return new UpdateStatement(table, columnValues, concatenated);
+        return new UpdateStatement(table, joins, columnValues, concatenated, timeout, rowLimit, hints);
     }
 
     /**
@@ -117,49 +159,254 @@ public class UpdateStatement implements PreparableStatement {
         requireNonEmpty(maybePredicates, "No optional predicates specified");
 
         List<Predicate> concatenated = concat(this.predicates, OptionalPredicate.unwrap(maybePredicates));
-        return new UpdateStatement(table, columnValues, concatenated);
+        return new UpdateStatement(table, joins, columnValues, concatenated, timeout, rowLimit, hints);
+    }
+
+    /**
+     * Sets the maximum time the database may spend executing the statement.
+     * @param timeout the timeout.
+     * @return the modified statement.
+     */
+    public UpdateStatement timeout(Duration timeout) {
+        requireNonNull(timeout, "No timeout specified");
+        require(() -> !timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+        return new UpdateStatement(table, joins, columnValues, predicates, timeout, rowLimit, hints);
+    }
+
+    @Override
+    public Optional<Duration> getTimeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    /**
+     * Limits the number of rows updated by a single execution of the statement.
+     * @param rowLimit the row limit.
+     * @return the modified statement.
+     */
+    UpdateStatement withRowLimit(RowLimit rowLimit) {
+        requireNonNull(rowLimit, "No row limit specified");
+        return new UpdateStatement(table, joins, columnValues, predicates, timeout, rowLimit, hints);
+    }
+
+    /**
+     * Gets the predicates of the WHERE clause.
+     * @return the predicates, possibly empty.
+     */
+    List<Predicate> wherePredicates() {
+        return predicates;
+    }
+
+    /**
+     * Adds optimizer hints. Hints not supported by the SQL dialect are ignored, as are table hints.
+     * @param firstHint the first hint.
+     * @param moreHints the other hints, if any.
+     * @return the modified statement.
+     */
+    public UpdateStatement hint(Hint firstHint, Hint... moreHints) {
+        requireNonNull(firstHint, "First hint is null");
+        List<Hint> concatenated = concat(this.hints, asNonEmptyList(firstHint, moreHints));
+        return new UpdateStatement(table, joins, columnValues, predicates, timeout, rowLimit, concatenated);
     }
 
     @Override
     public String sql(Context context) {
+        final Context hintContext = nonEmpty(joins) ? joinContext(context) : context.withCommand(UPDATE);
+        return withOptimizerHintSql(hintContext, hints, statementSql(context)) + queryOptionSql(hintContext, hints);
+    }
+
+    private String statementSql(Context context) {
         final Context localContext = context.withCommand(UPDATE);
-        validate();
+        if (!context.isTrusted()) {
+            validate();
+        }
+
+        if (nonEmpty(joins)) {
+            return joinedSql(context);
+        }
 
         StringBuilder sb = new StringBuilder();
         sb.append("update ");
+        if (nonNull(rowLimit)) {
+            sb.append(rowLimit.prefixSql(localContext));
+        }
         sb.append(table.sql(context));
         sb.append(" set ");
         sb.append(streamSafely(columnValues).map(cv -> cv.column().sql(localContext) + " = " + cv.valueSql(localContext)).collect(joining(", ")));
-        if (nonEmpty(predicates)) {
+
+        List<String> conditions = Stream.concat(
+                streamSafely(predicates).map(p -> p.sql(localContext)),
+                nonNull(rowLimit) ? rowLimit.conditionSql(localContext, table, predicates).stream() : Stream.empty())
+            .toList();
+
+        if (nonEmpty(conditions)) {
             sb.append(" where ");
-            sb.append(streamSafely(predicates).map(p -> p.sql(localContext)).collect(joining(" and ")));
+            sb.append(String.join(" and ", conditions));
+        }
+
+        if (nonNull(rowLimit)) {
+            sb.append(rowLimit.suffixSql(localContext));
+        }
+
+        return sb.toString();
+    }
+
+    private String joinedSql(Context context) {
+        final Context joinContext = joinContext(context);
+        final Dialect dialect = context.getDialect();
+        final String target = table.alias().name();
+
+        StringBuilder sb = new StringBuilder();
+
+        if (dialect.supports(UPDATE_JOIN)) {
+
+            // UPDATE t T INNER JOIN x X ON T.id = X.t_id SET T.col1 = X.col1 WHERE ...
+
+            sb.append("update ").append(table.sql(joinContext)).append(" ").append(joinsSql(joinContext));
+            sb.append(" set ").append(assignmentsSql(joinContext, true));
+            appendWhere(sb, joinContext, Stream.empty());
+
+        } else if (dialect.supports(UPDATE_FROM_JOIN)) {
+
+            // UPDATE T SET T.col1 = X.col1 FROM t T INNER JOIN x X ON T.id = X.t_id WHERE ...
+
+            sb.append("update ").append(target);
+            sb.append(" set ").append(assignmentsSql(joinContext, true));
+            sb.append(" from ").append(table.sql(joinContext)).append(" ").append(joinsSql(joinContext));
+            appendWhere(sb, joinContext, Stream.empty());
+
+        } else if (dialect.supports(UPDATE_FROM) && streamSafely(joins).allMatch(Join::isInner)) {
+
+            // UPDATE t T SET col1 = X.col1 FROM x X WHERE T.id = X.t_id AND ...
+
+            sb.append("update ").append(table.sql(joinContext));
+            sb.append(" set ").append(assignmentsSql(joinContext, false));
+            sb.append(" from ").append(streamSafely(joins).map(j -> j.joined().sql(joinContext)).collect(joining(", ")));
+            appendWhere(sb, joinContext, streamSafely(joins).map(j -> j.conditionSql(joinContext)));
+
+        } else {
+
+            // UPDATE t T SET col1 = (SELECT X.col1 FROM x X WHERE T.id = X.t_id AND ...)
+            // WHERE EXISTS (SELECT 1 FROM x X WHERE T.id = X.t_id AND ...)
+
+            final String subquerySql = correlatedSubquerySql(joinContext, joins, predicates);
+
+            sb.append("update ").append(table.sql(joinContext));
+            sb.append(" set ").append(streamSafely(columnValues)
+                .map(cv -> cv.column().name() + " = " + (isCorrelated(cv)
+                    ? "(select " + cv.valueSql(joinContext) + subquerySql + ")"
+                    : cv.valueSql(joinContext)))
+                .collect(joining(", ")));
+            sb.append(" where exists (select 1").append(subquerySql).append(")");
         }
 
         return sb.toString();
     }
 
+    private String joinsSql(Context joinContext) {
+        return streamSafely(joins).map(j -> j.sql(joinContext)).collect(joining(" "));
+    }
+
+    private String assignmentsSql(Context joinContext, boolean qualified) {
+        return streamSafely(columnValues)
+            .map(cv -> (qualified ? cv.column().sql(joinContext) : cv.column().name()) + " = " + cv.valueSql(joinContext))
+            .collect(joining(", "));
+    }
+
+    private void appendWhere(StringBuilder sb, Context joinContext, Stream<String> joinConditions) {
+        List<String> conditions = Stream.concat(joinConditions, streamSafely(predicates).map(p -> p.sql(joinContext))).toList();
+        if (nonEmpty(conditions)) {
+            sb.append(" where ").append(String.join(" and ", conditions));
+        }
+    }
+
+    private boolean isCorrelated(ColumnValue columnValue) {
+        return columnValue.valueColumnRefs().anyMatch(c -> !table.name().equalsIgnoreCase(c.table().name()));
+    }
+
     @Override
     public Stream<Object> params(Context context) {
+        if (nonEmpty(joins)) {
+            return joinedParams(context);
+        }
+
         final Context localContext = context.withCommand(UPDATE);
+        if (nonNull(rowLimit)) {
+            return Stream.of(
+                    rowLimit.prefixParams(localContext),
+                    streamSafely(columnValues).flatMap(cv -> cv.valueParams(localContext)),
+                    streamSafely(predicates).flatMap(p -> p.params(localContext)),
+                    rowLimit.conditionParams(localContext, table, predicates),
+                    rowLimit.suffixParams(localContext))
+                .flatMap(identity());
+        }
+
         return Stream.concat(
                 streamSafely(columnValues).flatMap(cv -> cv.valueParams(localContext)),
                 streamSafely(predicates).flatMap(p -> p.params(localContext)));
     }
 
+    private Stream<Object> joinedParams(Context context) {
+        final Context joinContext = joinContext(context);
+        final Dialect dialect = context.getDialect();
+        final Stream<Object> joinParams = streamSafely(joins).flatMap(j -> j.params(joinContext));
+
+        if (dialect.supports(UPDATE_JOIN)) {
+            return Stream.of(
+                    joinParams,
+                    streamSafely(columnValues).flatMap(cv -> cv.valueParams(joinContext)),
+                    streamSafely(predicates).flatMap(p -> p.params(joinContext)))
+                .flatMap(identity());
+        } else if (dialect.supports(UPDATE_FROM_JOIN) || (dialect.supports(UPDATE_FROM) && streamSafely(joins).allMatch(Join::isInner))) {
+            return Stream.of(
+                    streamSafely(columnValues).flatMap(cv -> cv.valueParams(joinContext)),
+                    joinParams,
+                    streamSafely(predicates).flatMap(p -> p.params(joinContext)))
+                .flatMap(identity());
+        } else {
+            // Join conditions and predicates are repeated in each correlated subquery
+            return Stream.concat(
+                streamSafely(columnValues).flatMap(cv -> isCorrelated(cv)
+                    ? Stream.concat(cv.valueParams(joinContext), correlatedSubqueryParams(joinContext, joins, predicates))
+                    : cv.valueParams(joinContext)),
+                correlatedSubqueryParams(joinContext, joins, predicates));
+        }
+    }
+
     private void validate() {
         if (isEmpty(columnValues)) {
             throw new IllegalStateException("No values to set");
         }
-        validateColumnTableRelations(streamSafely(columnValues).map(ColumnValue::column));
-        validateColumnTableRelations(streamSafely(predicates).flatMap(Predicate::columnRefs));
+        if (nonNull(rowLimit)) {
+            if (nonEmpty(joins)) {
+                throw new IllegalStateException("Row limit is not supported in combination with JOIN clauses");
+            }
+            rowLimit.validate(table);
+        }
+        validateColumnTableRelations(streamSafely(columnValues).map(ColumnValue::column), Set.of(table.name().toUpperCase()));
+
+        Set<String> tableNames = referencableTableNames(table, joins);
+        if (nonEmpty(joins)) {
+            validateColumnTableRelations(streamSafely(columnValues).flatMap(ColumnValue::valueColumnRefs), tableNames);
+            validateColumnTableRelations(streamSafely(joins).flatMap(Join::columnRefs), tableNames);
+        }
+        validateColumnTableRelations(streamSafely(predicates).flatMap(Predicate::columnRefs), tableNames);
+
+        // The WITH clause is declared by top level SELECT statements only
+        Stream<Subquery> subqueries = concatStreams(
+            streamSafely(columnValues).flatMap(ColumnValue::valueSubqueries),
+            streamSafely(joins).flatMap(Sql::subqueries),
+            streamSafely(predicates).flatMap(Sql::subqueries));
+        if (CommonTableExpression.referencedBy(subqueries).findAny().isPresent()) {
+            throw new IllegalStateException("Common table expressions are not supported in the subqueries of an UPDATE statement");
+        }
     }
 
-    private void validateColumnTableRelations(Stream<Column> columns) {
+    private void validateColumnTableRelations(Stream<Column> columns, Set<String> tableNames) {
         columns
-            .filter(c -> !table.name().equalsIgnoreCase(c.table().name()))
+            .filter(c -> !tableNames.contains(c.table().name().toUpperCase()))
             .findFirst()
             .ifPresent(c -> {
-                throw new IllegalStateException("Column " + c.name() + " belongs to table " + c.table().name() + ", but is not specified in the UPDATE clause");
+                throw new IllegalStateException("Column " + c.name() + " belongs to table " + c.table().name() + ", but is not specified in the UPDATE or JOIN clause");
             });
     }
 
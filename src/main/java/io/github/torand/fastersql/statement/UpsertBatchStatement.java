@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.AnsiIsoDialect;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.sql.Command.INSERT;
+import static io.github.torand.javacommons.collection.CollectionHelper.*;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implements an upsert statement for batch (multi-row) insertion, or update of rows with the same key.
+ * The statement is formatted as INSERT ... ON CONFLICT, INSERT ... ON DUPLICATE KEY UPDATE or MERGE, depending on the SQL dialect.
+ * @param <T> the batch entity type.
+ */
+public class UpsertBatchStatement<T> implements PreparableStatement {
+    private final Table table;
+    private final List<ColumnValueExtractor<? super T>> columnValueExtractors;
+    private final List<Column> keyColumns;
+    private final List<? extends T> entities;
+
+    UpsertBatchStatement(Collection<? extends T> entities, Table table, Collection<ColumnValueExtractor<? super T>> columnValueExtractors, Collection<Column> keyColumns) {
+        this.entities = asList(requireNonEmpty(entities, "No entities specified"));
+        this.table = requireNonNull(table, "No table specified");
+        this.columnValueExtractors = asList(columnValueExtractors);
+        this.keyColumns = asList(keyColumns);
+    }
+
+    /**
+     * Registers a column-value mapper.
+     * @param column the column.
+     * @param valueExtractor the value extractor.
+     * @return the modified statement.
+     */
+    public UpsertBatchStatement<T> value(Column column, Function<? super T, Object> valueExtractor) {
+        requireNonNull(column, "No column specified");
+        requireNonNull(valueExtractor, "No value extractor specified");
+
+        List<ColumnValueExtractor<? super T>> concatenated = concat(columnValueExtractors, new ColumnValueExtractor<>(column, valueExtractor));
+        return new UpsertBatchStatement<>(entities, table, concatenated, keyColumns);
+    }
+
+    /**
+     * Specifies the columns identifying an existing row, typically the primary key or a unique key.
+     * Columns not specified here are updated if the row exists.
+     * @param keyColumns the key columns.
+     * @return the modified statement.
+     */
+    public UpsertBatchStatement<T> onConflict(Column... keyColumns) {
+        requireNonEmpty(keyColumns, "No key columns specified");
+
+        List<Column> concatenated = concat(this.keyColumns, keyColumns);
+        return new UpsertBatchStatement<>(entities, table, columnValueExtractors, concatenated);
+    }
+
+    @Override
+    public String sql(Context context) {
+        final Context localContext = context.withCommand(INSERT);
+        if (!context.isTrusted()) {
+            validate();
+        }
+
+        List<Column> columns = columnValueExtractors().map(ColumnValueExtractor::column).toList();
+        List<List<String>> rows = entities()
+            .map(e -> columnValueExtractors().map(cve -> cve.valueSql(localContext, e)).toList())
+            .toList();
+
+        return UpsertRenderer.sql(localContext, table, columns, keyColumns, rows);
+    }
+
+    private Stream<? extends T> entities() {
+        return streamSafely(entities);
+    }
+
+    private Stream<ColumnValueExtractor<? super T>> columnValueExtractors() {
+        return streamSafely(columnValueExtractors);
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        return entities()
+            .flatMap(e -> columnValueExtractors()
+                .map(cve -> cve.valueParam(e))
+                .flatMap(Optional::stream));
+    }
+
+    private void validate() {
+        UpsertRenderer.validate(table, columnValueExtractors().map(ColumnValueExtractor::column).toList(), keyColumns);
+    }
+
+    @Override
+    public String toString() {
+        return toString(new AnsiIsoDialect());
+    }
+}
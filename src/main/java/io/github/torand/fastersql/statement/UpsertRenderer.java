@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.dialect.OracleDialect;
+import io.github.torand.fastersql.dialect.SqlServerDialect;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.dialect.Capability.MERGE;
+import static io.github.torand.fastersql.dialect.Capability.UPSERT_ON_CONFLICT;
+import static io.github.torand.fastersql.dialect.Capability.UPSERT_ON_DUPLICATE_KEY;
+import static io.github.torand.javacommons.collection.CollectionHelper.isEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Formats upsert statements (insert, or update if row exists) in the form supported by the SQL dialect.
+ */
+final class UpsertRenderer {
+    static final String SOURCE_ALIAS = "SRC";
+
+    private UpsertRenderer() {}
+
+    /**
+     * Formats an upsert statement as SQL.
+     * @param context the context (incl. dialect).
+     * @param table the target table.
+     * @param columns the columns to insert or update.
+     * @param keyColumns the columns identifying an existing row.
+     * @param rows the value SQL fragments of each row, ordered like the columns.
+     * @return the formatted SQL statement.
+     */
+    static String sql(Context context, Table table, List<Column> columns, List<Column> keyColumns, List<List<String>> rows) {
+        final Dialect dialect = context.getDialect();
+        final List<Column> updateColumns = streamSafely(columns).filter(c -> !containsColumn(keyColumns, c)).toList();
+
+        if (dialect.supports(UPSERT_ON_CONFLICT)) {
+
+            // INSERT INTO t (key, col1) VALUES ('key1', 'val1'), ('key2', 'val2')
+            // ON CONFLICT (key) DO UPDATE SET col1 = excluded.col1
+
+            String onConflict = " on conflict (" + columnNames(keyColumns) + ")";
+            if (isEmpty(updateColumns)) {
+                onConflict += " do nothing";
+            } else {
+                onConflict += " do update set " + streamSafely(updateColumns)
+                    .map(c -> c.name() + " = excluded." + c.name())
+                    .collect(joining(", "));
+            }
+
+            return insertValues(context, table, columns, rows) + onConflict;
+
+        } else if (dialect.supports(UPSERT_ON_DUPLICATE_KEY)) {
+
+            // INSERT INTO t (key, col1) VALUES ('key1', 'val1'), ('key2', 'val2')
+            // ON DUPLICATE KEY UPDATE col1 = values(col1)
+
+            // Updating a key column to itself turns the upsert into an insert-if-absent
+            List<Column> assignedColumns = isEmpty(updateColumns) ? keyColumns.subList(0, 1) : updateColumns;
+
+            return insertValues(context, table, columns, rows) + " on duplicate key update " + streamSafely(assignedColumns)
+                .map(c -> c.name() + " = values(" + c.name() + ")")
+                .collect(joining(", "));
+
+        } else if (dialect.supports(MERGE)) {
+
+            // MERGE INTO t T USING (VALUES ('key1', 'val1'), ('key2', 'val2')) SRC (key, col1)
+            // ON (T.key = SRC.key)
+            // WHEN MATCHED THEN UPDATE SET T.col1 = SRC.col1
+            // WHEN NOT MATCHED THEN INSERT (key, col1) VALUES (SRC.key, SRC.col1)
+
+            final String target = table.alias().name();
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("merge into ").append(table.sql(context)).append(" ").append(target);
+            sb.append(" using ").append(sourceSql(dialect, columns, rows));
+            sb.append(" on (");
+            sb.append(streamSafely(keyColumns).map(c -> target + "." + c.name() + " = " + SOURCE_ALIAS + "." + c.name()).collect(joining(" and ")));
+            sb.append(")");
+
+            if (!isEmpty(updateColumns)) {
+                sb.append(" when matched then update set ");
+                sb.append(streamSafely(updateColumns).map(c -> target + "." + c.name() + " = " + SOURCE_ALIAS + "." + c.name()).collect(joining(", ")));
+            }
+
+            sb.append(" when not matched then insert (").append(columnNames(columns)).append(")");
+            sb.append(" values (").append(streamSafely(columns).map(c -> SOURCE_ALIAS + "." + c.name()).collect(joining(", "))).append(")");
+
+            if (dialect instanceof SqlServerDialect) {
+                // SQL Server requires MERGE statements to be terminated
+                sb.append(";");
+            }
+
+            return sb.toString();
+
+        } else {
+            throw new UnsupportedOperationException("%s does not support upsert statements".formatted(dialect.getProductName()));
+        }
+    }
+
+    private static String insertValues(Context context, Table table, List<Column> columns, List<List<String>> rows) {
+        return "insert into " + table.sql(context) +
+            " (" + columnNames(columns) + ") values " +
+            streamSafely(rows)
+                .map(row -> "(" + String.join(", ", row) + ")")
+                .collect(joining(", "));
+    }
+
+    /**
+     * Formats the rows of a MERGE statement source as a derived table aliased {@value #SOURCE_ALIAS}.
+     * @param dialect the SQL dialect.
+     * @param columns the columns of the derived table.
+     * @param rows the value SQL fragments of each row, ordered like the columns.
+     * @return the formatted SQL fragment.
+     */
+    static String sourceSql(Dialect dialect, List<Column> columns, List<List<String>> rows) {
+        if (dialect instanceof OracleDialect) {
+
+            // (SELECT 'key1' key, 'val1' col1 FROM DUAL UNION ALL SELECT 'key2', 'val2' FROM DUAL) SRC
+
+            String selects = IntStream.range(0, rows.size())
+                .mapToObj(r -> "select " + IntStream.range(0, columns.size())
+                    .mapToObj(c -> rows.get(r).get(c) + (r == 0 ? " " + columns.get(c).name() : ""))
+                    .collect(joining(", ")) + " from DUAL")
+                .collect(joining(" union all "));
+
+            return "(" + selects + ") " + SOURCE_ALIAS;
+        } else {
+            return "(values " + streamSafely(rows)
+                .map(row -> "(" + String.join(", ", row) + ")")
+                .collect(joining(", ")) + ") " + SOURCE_ALIAS + " (" + columnNames(columns) + ")";
+        }
+    }
+
+    private static boolean containsColumn(List<Column> columns, Column column) {
+        return streamSafely(columns).anyMatch(c -> c.name().equalsIgnoreCase(column.name()));
+    }
+
+    static String columnNames(List<Column> columns) {
+        return streamSafely(columns).map(Column::name).collect(joining(", "));
+    }
+
+    /**
+     * Validates the columns of an upsert statement.
+     * @param table the target table.
+     * @param columns the columns to insert or update.
+     * @param keyColumns the columns identifying an existing row.
+     */
+    static void validate(Table table, List<Column> columns, List<Column> keyColumns) {
+        if (isEmpty(columns)) {
+            throw new IllegalStateException("No values specified");
+        }
+        if (isEmpty(keyColumns)) {
+            throw new IllegalStateException("No conflict (key) columns specified");
+        }
+
+        Stream.concat(streamSafely(columns), streamSafely(keyColumns))
+            .filter(c -> !table.name().equals(c.table().name()))
+            .findFirst()
+            .ifPresent(c -> {
+                throw new IllegalStateException("Column " + c.name() + " belongs to table " + c.table().name() + ", not the table specified by the INTO clause");
+            });
+
+        streamSafely(keyColumns)
+            .filter(c -> !containsColumn(columns, c))
+            .findFirst()
+            .ifPresent(c -> {
+                throw new IllegalStateException("Conflict column " + c.name() + " has no value specified");
+            });
+    }
+}
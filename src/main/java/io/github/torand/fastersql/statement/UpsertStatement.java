@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement;
+
+import io.github.torand.fastersql.dialect.AnsiIsoDialect;
+import io.github.torand.fastersql.expression.Expression;
+import io.github.torand.fastersql.model.Column;
+import io.github.torand.fastersql.model.Table;
+import io.github.torand.fastersql.sql.Context;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.constant.Constants.$;
+import static io.github.torand.fastersql.sql.Command.INSERT;
+import static io.github.torand.javacommons.collection.CollectionHelper.*;
+import static io.github.torand.javacommons.contract.Requires.requireNonEmpty;
+import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implements an upsert statement for single row insertion, or update if a row with the same key exists.
+ * The statement is formatted as INSERT ... ON CONFLICT, INSERT ... ON DUPLICATE KEY UPDATE or MERGE, depending on the SQL dialect.
+ */
+public class UpsertStatement implements PreparableStatement {
+    private final Table table;
+    private final List<ColumnValue> columnValues;
+    private final List<Column> keyColumns;
+
+    UpsertStatement(Table table, Collection<ColumnValue> columnValues, Collection<Column> keyColumns) {
+        this.table = requireNonNull(table, "No table specified");
+        this.columnValues = asList(columnValues);
+        this.keyColumns = asList(keyColumns);
+    }
+
+    /**
+     * Adds an expression value to be inserted into or updated for a column.
+     * @param column the column.
+     * @param value the value.
+     * @return the modified statement.
+     */
+    public UpsertStatement value(Column column, Expression value) {
+        requireNonNull(column, "No column specified");
+        requireNonNull(value, "No expression specified");
+
+        List<ColumnValue> concatenated = concat(columnValues, new ColumnValue(column, value));
+        return new UpsertStatement(table, concatenated, keyColumns);
+    }
+
+    /**
+     * Adds a constant value to be inserted into or updated for a column.
+     * @param column the column.
+     * @param value the value.
+     * @return the modified statement.
+     */
+    public UpsertStatement value(Column column, Object value) {
+        requireNonNull(column, "No column specified");
+
+        List<ColumnValue> concatenated = concat(columnValues, new ColumnValue(column, $(value)));
+        return new UpsertStatement(table, concatenated, keyColumns);
+    }
+
+    /**
+     * Adds an optional value to be inserted into or updated for a column.
+     * The value is inserted or updated only if the optional value is present.
+     * @param column the column.
+     * @param maybeValue the optional value.
+     * @return the modified statement.
+     */
+    public UpsertStatement value(Column column, Optional<?> maybeValue) {
+        requireNonNull(column, "No column specified");
+        requireNonNull(maybeValue, "No value specified");
+
+        if (maybeValue.isPresent()) {
+            List<ColumnValue> concatenated = concat(columnValues, new ColumnValue(column, $(maybeValue.get())));
+            return new UpsertStatement(table, concatenated, keyColumns);
+        } else {
+            return this;
+        }
+    }
+
+    /**
+     * Specifies the columns identifying an existing row, typically the primary key or a unique key.
+     * Columns not specified here are updated if the row exists.
+     * @param keyColumns the key columns.
+     * @return the modified statement.
+     */
+    public UpsertStatement onConflict(Column... keyColumns) {
+        requireNonEmpty(keyColumns, "No key columns specified");
+
+        List<Column> concatenated = concat(this.keyColumns, keyColumns);
+        return new UpsertStatement(table, columnValues, concatenated);
+    }
+
+    @Override
+    public String sql(Context context) {
+        final Context localContext = context.withCommand(INSERT);
+        if (!context.isTrusted()) {
+            validate();
+        }
+
+        List<Column> columns = streamSafely(columnValues).map(ColumnValue::column).toList();
+        List<String> values = streamSafely(columnValues).map(cv -> cv.valueSql(localContext)).toList();
+
+        return UpsertRenderer.sql(localContext, table, columns, keyColumns, List.of(values));
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        final Context localContext = context.withCommand(INSERT);
+        return streamSafely(columnValues)
+            .flatMap(cv -> cv.valueParams(localContext));
+    }
+
+    private void validate() {
+        UpsertRenderer.validate(table, streamSafely(columnValues).map(ColumnValue::column).toList(), keyColumns);
+
+        // The WITH clause is declared by top level SELECT statements only
+        if (CommonTableExpression.referencedBy(streamSafely(columnValues).flatMap(ColumnValue::valueSubqueries)).findAny().isPresent()) {
+            throw new IllegalStateException("Common table expressions are not supported in the subqueries of an upsert statement");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toString(new AnsiIsoDialect());
+    }
+}
@@ -60,6 +60,11 @@ public class ExpressionSubquery implements Subquery, Expression {
         return query.params(context);
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.of(this);
+    }
+
     // Subquery
 
     @Override
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.subquery;
+
+import io.github.torand.fastersql.alias.TableAlias;
+import io.github.torand.fastersql.dialect.Dialect;
+import io.github.torand.fastersql.relation.Relation;
+import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.statement.SelectStatement;
+
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.dialect.Capability.CROSS_APPLY;
+import static io.github.torand.fastersql.dialect.Capability.LATERAL_JOIN;
+import static io.github.torand.javacommons.contract.Requires.requireNonBlank;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implements a lateral subquery to be used in a FROM clause, i.e. a subquery evaluated once per row of the
+ * preceding relations of the FROM clause, which it may reference. Typically used with a row limit to fetch the
+ * top N related rows per row, e.g. the latest orders per customer.
+ * <p>
+ * Formatted as CROSS JOIN LATERAL (or LEFT JOIN LATERAL ... ON TRUE) or as CROSS APPLY (or OUTER APPLY),
+ * depending on the SQL dialect, succeeding the other relations and joins of the FROM clause.
+ * </p>
+ */
+public class LateralSubquery implements Subquery, Relation {
+    private final SelectStatement query;
+    private final TableAlias alias;
+    private final boolean outer;
+
+    /**
+     * Creates a lateral subquery.
+     * @param query the subquery.
+     */
+    public LateralSubquery(SelectStatement query) {
+        this(query, null, false);
+    }
+
+    private LateralSubquery(SelectStatement query, TableAlias alias, boolean outer) {
+        this.query = requireNonNull(query, "No query specified");
+        this.alias = alias;
+        this.outer = outer;
+    }
+
+    /**
+     * Specifies that rows of the preceding relations are retained even if the subquery returns no rows for them,
+     * with null values for the columns of the subquery.
+     * @return the modified lateral subquery.
+     */
+    public LateralSubquery outer() {
+        return new LateralSubquery(query, alias, true);
+    }
+
+    // Sql
+
+    @Override
+    public String sql(Context context) {
+        final Dialect dialect = context.getDialect();
+        if (isNull(alias)) {
+            throw new IllegalStateException("No alias specified for lateral subquery");
+        }
+
+        final String subquerySql = "(" + query.sql(context) + ") " + alias.sql(context);
+
+        if (dialect.supports(LATERAL_JOIN)) {
+            return outer ? "left join lateral " + subquerySql + " on true" : "cross join lateral " + subquerySql;
+        } else if (dialect.supports(CROSS_APPLY)) {
+            return (outer ? "outer apply " : "cross apply ") + subquerySql;
+        } else {
+            throw new UnsupportedOperationException("%s does not support lateral subqueries".formatted(dialect.getProductName()));
+        }
+    }
+
+    @Override
+    public Stream<Object> params(Context context) {
+        return query.params(context);
+    }
+
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.of(this);
+    }
+
+    // Subquery
+
+    @Override
+    public SelectStatement query() {
+        return query;
+    }
+
+    // Relation
+
+    @Override
+    public LateralSubquery as(String alias) {
+        return new LateralSubquery(query, new TableAlias(requireNonBlank(alias, "No alias specified")), outer);
+    }
+
+    @Override
+    public TableAlias alias() {
+        return alias;
+    }
+}
@@ -59,6 +59,11 @@ public class TableSubquery implements Subquery, Relation {
         return query.params(context);
     }
 
+    @Override
+    public Stream<Subquery> subqueries() {
+        return Stream.of(this);
+    }
+
     // Subquery
 
     @Override
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.h2;
+
+import io.github.torand.fastersql.statement.StatementExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.fastersql.statement.Statements.update;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class H2StatementExecutorTest extends H2Test {
+
+    @Test
+    void shouldRollBackExplainAnalyzedStatement() {
+        final UUID id = UUID.fromString("c50df894-ed38-49bc-831e-8de6453cd6f6"); // Electrolux
+
+        StatementExecutor executor = StatementExecutor.using(ds);
+
+        assertThat(executor.explainAnalyze(update(PRODUCT).set(PRODUCT.STOCK_COUNT, 100).where(PRODUCT.ID.eq(id))))
+            .isNotBlank()
+            .contains("PRODUCT");
+
+        assertThat(executor.query(select(PRODUCT.STOCK_COUNT).from(PRODUCT).where(PRODUCT.ID.eq(id)), rs -> rs.getInt("PR_STOCK_COUNT")))
+            .containsExactly(5);
+    }
+}
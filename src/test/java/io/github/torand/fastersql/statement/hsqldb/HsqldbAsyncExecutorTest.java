@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.hsqldb;
+
+import io.github.torand.fastersql.statement.AsyncExecutor;
+import io.github.torand.fastersql.statement.PreparableStatement;
+import io.github.torand.fastersql.statement.SelectStatement;
+import io.github.torand.fastersql.statement.StatementExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.torand.fastersql.datamodel.DataModel.CUSTOMER;
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.fastersql.statement.Statements.update;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HsqldbAsyncExecutorTest extends HsqldbTest {
+
+    @Test
+    void shouldExecuteQueriesInParallel() {
+        SelectStatement productStmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("ELECTRONICS"))
+                .orderBy(PRODUCT.NAME.asc());
+
+        SelectStatement customerStmt =
+            select(CUSTOMER.LAST_NAME)
+                .from(CUSTOMER)
+                .orderBy(CUSTOMER.LAST_NAME.asc());
+
+        try (AsyncExecutor executor = AsyncExecutor.using(StatementExecutor.using(ds), 2)) {
+            CompletableFuture<List<String>> products = executor.executeQueryAsync(productStmt, rs -> rs.getString("PR_NAME"));
+            CompletableFuture<List<String>> customers = executor.executeQueryAsync(customerStmt, rs -> rs.getString("C_LAST_NAME"));
+
+            assertThat(products.join()).containsExactly("Apple iPad Pro tablet", "Samsung Galaxy S25 Ultra mobile phone");
+            assertThat(customers.join()).hasSize(3).isSorted();
+        }
+    }
+
+    @Test
+    void shouldExecuteUpdateAsync() {
+        final UUID id = UUID.fromString("c50df894-ed38-49bc-831e-8de6453cd6f6"); // Electrolux
+
+        PreparableStatement stmt =
+            update(PRODUCT)
+                .set(PRODUCT.STOCK_COUNT, 6)
+                .where(PRODUCT.ID.eq(id));
+
+        try (AsyncExecutor executor = AsyncExecutor.using(StatementExecutor.using(ds), 1)) {
+            assertThat(executor.executeUpdateAsync(stmt).join()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldNotExecuteStatementCancelledWhileWaitingForPermit() throws InterruptedException {
+        final UUID id = UUID.fromString("fdd89ce1-db38-4deb-9767-0324e91d4933"); // Ekornes
+
+        PreparableStatement stmt =
+            update(PRODUCT)
+                .set(PRODUCT.STOCK_COUNT, 100)
+                .where(PRODUCT.ID.eq(id));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch mapping = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        try (AsyncExecutor executor = AsyncExecutor.using(StatementExecutor.using(ds), 1, executorService)) {
+            // Holds the only permit until released
+            CompletableFuture<List<String>> blocking = executor.executeQueryAsync(select(PRODUCT.NAME).from(PRODUCT).where(PRODUCT.ID.eq(id)), rs -> {
+                mapping.countDown();
+                awaitUninterruptibly(blocker);
+                return rs.getString("PR_NAME");
+            });
+            assertThat(mapping.await(10, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<Integer> cancelled = executor.executeUpdateAsync(stmt);
+            cancelled.cancel(true);
+            blocker.countDown();
+
+            assertThat(blocking.join()).containsExactly("Ekornes Stressless resting chair");
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(StatementExecutor.using(ds).query(select(PRODUCT.STOCK_COUNT).from(PRODUCT).where(PRODUCT.ID.eq(id)), rs -> rs.getInt("PR_STOCK_COUNT")))
+            .containsExactly(7);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.hsqldb;
+
+import io.github.torand.fastersql.statement.StatementExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.delete;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.fastersql.statement.Statements.update;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HsqldbChunkedExecutorTest extends HsqldbTest {
+
+    @Test
+    void shouldUpdateRowsInChunks() {
+        List<Long> progress = new ArrayList<>();
+
+        long affectedRowCount = StatementExecutor.using(ds)
+            .inChunksOf(2)
+            .withKey(PRODUCT.ID)
+            .withPause(Duration.ofMillis(10))
+            .withProgressListener(progress::add)
+            .execute(
+                update(PRODUCT)
+                    .set(PRODUCT.STOCK_COUNT, 0)
+                    .where(PRODUCT.STOCK_COUNT.gt(0))
+            );
+
+        assertThat(affectedRowCount).isEqualTo(5);
+        assertThat(progress).containsExactly(2L, 4L, 5L);
+
+        assertThat(StatementExecutor.using(ds).query(select(PRODUCT.ID).from(PRODUCT).where(PRODUCT.STOCK_COUNT.gt(0)), rs -> rs.getString("PR_ID")))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldRequireKeyColumnWhenDialectHasNoRowIdentifier() {
+        assertThatThrownBy(() -> StatementExecutor.using(ds).inChunksOf(100).execute(delete().from(PRODUCT)))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("HyperSQL/HSQLDB does not support row limits without a key column");
+    }
+}
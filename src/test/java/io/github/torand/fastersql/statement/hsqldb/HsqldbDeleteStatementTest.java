@@ -15,15 +15,25 @@
  */
 package io.github.torand.fastersql.statement.hsqldb;
 
+import io.github.torand.fastersql.dialect.HsqldbDialect;
+import io.github.torand.fastersql.domainmodel.PurchaseStatus;
+import io.github.torand.fastersql.statement.CommonTableExpression;
 import io.github.torand.fastersql.statement.PreparableStatement;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
 
+import static io.github.torand.fastersql.alias.Aliases.colRef;
 import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.datamodel.DataModel.PURCHASE;
+import static io.github.torand.fastersql.datamodel.DataModel.PURCHASE_ITEM;
 import static io.github.torand.fastersql.function.singlerow.SingleRowFunctions.length;
 import static io.github.torand.fastersql.statement.Statements.delete;
+import static io.github.torand.fastersql.statement.Statements.deleteFrom;
 import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.fastersql.statement.Statements.with;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.is;
 
 class HsqldbDeleteStatementTest extends HsqldbTest {
 
@@ -80,4 +90,43 @@ class HsqldbDeleteStatementTest extends HsqldbTest {
                     .where(PRODUCT.ID.eq(id))
             );
     }
+
+    @Test
+    void shouldDeleteUsingJoinedTable() {
+        PreparableStatement stmt =
+            delete().from(PURCHASE_ITEM)
+                .join(PURCHASE_ITEM.PURCHASE_ID.on(PURCHASE.ID))
+                .where(PURCHASE.STATUS.eq(PurchaseStatus.PROCESSING));
+
+        statementTester()
+            .assertSql("""
+                delete from PURCHASE_ITEM PI \
+                where exists (select 1 from PURCHASE PU where PI.PURCHASE_ID = PU.ID and PU.STATUS = ?)"""
+            )
+            .assertParams(PurchaseStatus.PROCESSING)
+            .assertAffectedRowCount(1)
+            .verify(stmt);
+
+        statementTester()
+            .assertRowCount(1)
+            .assertRow(1,
+                "PI_PURCHASE_ID", is("df168f1d-ed4a-4cc4-b93a-51956d9a9c56"))
+            .verify(
+                select(PURCHASE_ITEM.PURCHASE_ID)
+                    .from(PURCHASE_ITEM)
+            );
+    }
+
+    @Test
+    void shouldRejectCommonTableExpressionInSubquery() {
+        CommonTableExpression lamps = with("LAMPS", select(PRODUCT.ID).from(PRODUCT).where(PRODUCT.CATEGORY.eq("LAMP")));
+
+        PreparableStatement stmt =
+            deleteFrom(PRODUCT)
+                .where(PRODUCT.ID.in(select(colRef("LAMPS", "PR_ID")).from(lamps)));
+
+        assertThatThrownBy(() -> stmt.toString(new HsqldbDialect()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Common table expressions are not supported in the subqueries of a DELETE statement");
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.hsqldb;
+
+import io.github.torand.fastersql.statement.FanOutExecutor;
+import io.github.torand.fastersql.statement.SelectStatement;
+import io.github.torand.fastersql.statement.ShardKey;
+import io.github.torand.fastersql.statement.StatementExecutor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HsqldbFanOutExecutorTest extends HsqldbTest {
+    private static final UUID EKORNES_ID = UUID.fromString("fdd89ce1-db38-4deb-9767-0324e91d4933");
+    private static final UUID ELECTROLUX_ID = UUID.fromString("c50df894-ed38-49bc-831e-8de6453cd6f6");
+
+    @BeforeAll
+    static void createArchiveTable() throws SQLException {
+        try (Connection connection = ds.getConnection(); Statement stmt = connection.createStatement()) {
+            stmt.execute("create table PRODUCT_ARCHIVE as (select * from PRODUCT) with data");
+        }
+    }
+
+    @Test
+    void shouldMergeOrderedResultsWithGlobalLimitAndOffset() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME, PRODUCT.PRICE)
+                .from(PRODUCT)
+                .orderBy(PRODUCT.PRICE.desc())
+                .limit(3)
+                .offset(1);
+
+        try (FanOutExecutor executor = FanOutExecutor.across(shards())) {
+            List<String> names = executor.query(stmt, rs -> new PricedProduct(rs.getString("PR_NAME"), rs.getBigDecimal("PR_PRICE")),
+                    Comparator.comparing(PricedProduct::price).reversed())
+                .stream()
+                .map(PricedProduct::name)
+                .toList();
+
+            assertThat(names).containsExactly(
+                "Samsung Galaxy S25 Ultra mobile phone",
+                "Apple iPad Pro tablet",
+                "Apple iPad Pro tablet"
+            );
+        }
+    }
+
+    @Test
+    void shouldConcatenateUnorderedResults() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("FURNITURE"));
+
+        try (FanOutExecutor executor = FanOutExecutor.across(shards())) {
+            assertThat(executor.query(stmt, rs -> rs.getString("PR_NAME"))).containsExactly(
+                "Ekornes Stressless resting chair",
+                "Ekornes Stressless resting chair"
+            );
+        }
+    }
+
+    @Test
+    void shouldRequireComparatorForOrderedStatement() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .orderBy(PRODUCT.NAME.asc());
+
+        try (FanOutExecutor executor = FanOutExecutor.across(shards())) {
+            assertThatThrownBy(() -> executor.query(stmt, rs -> rs.getString("PR_NAME")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Statement has an ORDER BY clause, a comparator must be specified to merge the results");
+        }
+    }
+
+    @Test
+    void shouldRouteToSingleShardByShardKeyEquality() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.ID.eq(EKORNES_ID));
+
+        try (FanOutExecutor executor = FanOutExecutor.across(shards(), shardKey())) {
+            assertThat(executor.query(stmt, rs -> rs.getString("PR_NAME"))).containsExactly(
+                "Ekornes Stressless resting chair"
+            );
+        }
+    }
+
+    @Test
+    void shouldSplitShardKeySetPerShard() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.ID.in(EKORNES_ID, ELECTROLUX_ID)
+                    .and(PRODUCT.PRICE.gt(0)));
+
+        try (FanOutExecutor executor = FanOutExecutor.across(shards(), shardKey())) {
+            assertThat(executor.query(stmt, rs -> rs.getString("PR_NAME"))).containsExactly(
+                "Ekornes Stressless resting chair",
+                "Electrolux 800 UltraCare washing machine"
+            );
+        }
+    }
+
+    private ShardKey shardKey() {
+        return ShardKey.of(PRODUCT.ID, id -> ELECTROLUX_ID.equals(id) ? 1 : 0);
+    }
+
+    private List<StatementExecutor> shards() {
+        return List.of(
+            StatementExecutor.using(ds),
+            StatementExecutor.using(ds).withTableSubstitution(PRODUCT, "PRODUCT_ARCHIVE")
+        );
+    }
+
+    private record PricedProduct(String name, BigDecimal price) {
+    }
+}
@@ -17,10 +17,13 @@ package io.github.torand.fastersql.statement.hsqldb;
 
 import io.github.torand.fastersql.domainmodel.Product;
 import io.github.torand.fastersql.domainmodel.ProductCategory;
+import io.github.torand.fastersql.statement.InsertBatchStatement;
 import io.github.torand.fastersql.statement.PreparableStatement;
+import io.github.torand.fastersql.statement.StatementExecutor;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
@@ -29,6 +32,7 @@ import static io.github.torand.fastersql.statement.Statements.select;
 import static io.github.torand.fastersql.util.RowValueMatchers.isBigDecimal;
 import static io.github.torand.fastersql.util.RowValueMatchers.isNull;
 import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 
 class HsqldbInsertBatchStatementTest extends HsqldbTest {
@@ -93,4 +97,27 @@ class HsqldbInsertBatchStatementTest extends HsqldbTest {
                     .orderBy(PRODUCT.PRICE.asc())
             );
     }
+
+    @Test
+    void shouldReturnInsertedValuesInEntityOrder() {
+        final UUID id1 = UUID.randomUUID(), id2 = UUID.randomUUID();
+
+        Collection<Product> products = asList(
+            new Product(id1, "Vitra Eames lounge chair", null, ProductCategory.FURNITURE, 79990.00, 2),
+            new Product(id2, "Bosch Serie 8 oven", null, ProductCategory.APPLIANCE, 15990.00, 5)
+        );
+
+        InsertBatchStatement<Product> stmt =
+            insertBatch(products).into(PRODUCT)
+                .value(PRODUCT.ID, Product::id)
+                .value(PRODUCT.NAME, Product::name)
+                .value(PRODUCT.CATEGORY, Product::category)
+                .value(PRODUCT.PRICE, Product::price)
+                .value(PRODUCT.STOCK_COUNT, Product::stock_count)
+                .returning(PRODUCT.ID);
+
+        List<String> returnedIds = StatementExecutor.using(ds).executeReturning(stmt, rs -> rs.getString("ID"));
+
+        assertThat(returnedIds).containsExactly(id1.toString(), id2.toString());
+    }
 }
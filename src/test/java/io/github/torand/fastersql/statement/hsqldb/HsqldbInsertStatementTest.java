@@ -15,8 +15,10 @@
  */
 package io.github.torand.fastersql.statement.hsqldb;
 
+import io.github.torand.fastersql.dialect.HsqldbDialect;
 import io.github.torand.fastersql.domainmodel.ProductCategory;
 import io.github.torand.fastersql.domainmodel.PurchaseStatus;
+import io.github.torand.fastersql.statement.CommonTableExpression;
 import io.github.torand.fastersql.statement.PreparableStatement;
 import org.junit.jupiter.api.Test;
 
@@ -24,14 +26,19 @@ import java.time.Year;
 import java.util.Optional;
 import java.util.UUID;
 
+import static io.github.torand.fastersql.alias.Aliases.colRef;
 import static io.github.torand.fastersql.constant.Constants.$;
 import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
 import static io.github.torand.fastersql.datamodel.DataModel.PURCHASE;
 import static io.github.torand.fastersql.function.singlerow.SingleRowFunctions.toChar;
+import static io.github.torand.fastersql.function.singlerow.SingleRowFunctions.upper;
 import static io.github.torand.fastersql.function.system.SystemFunctions.currentTimestamp;
 import static io.github.torand.fastersql.statement.Statements.insert;
+import static io.github.torand.fastersql.statement.Statements.insertInto;
 import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.fastersql.statement.Statements.with;
 import static io.github.torand.fastersql.util.RowValueMatchers.isNull;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.is;
 
 class HsqldbInsertStatementTest extends HsqldbTest {
@@ -175,4 +182,62 @@ class HsqldbInsertStatementTest extends HsqldbTest {
                     .where(PRODUCT.ID.eq(id))
             );
     }
+
+    @Test
+    void shouldInsertSelectedRows() {
+        final UUID id = UUID.fromString("c50df894-ed38-49bc-831e-8de6453cd6f6"); // Electrolux
+        final String copyId = id.toString().toUpperCase();
+
+        PreparableStatement stmt =
+            insertInto(PRODUCT)
+                .columns(PRODUCT.ID, PRODUCT.NAME, PRODUCT.CATEGORY, PRODUCT.PRICE, PRODUCT.STOCK_COUNT)
+                .select(
+                    select(upper(PRODUCT.ID).as("ID"), PRODUCT.NAME, PRODUCT.CATEGORY, PRODUCT.PRICE, PRODUCT.STOCK_COUNT)
+                        .from(PRODUCT)
+                        .where(PRODUCT.ID.eq(id)));
+
+        statementTester()
+            .assertSql("""
+                insert into PRODUCT (ID, NAME, CATEGORY, PRICE, STOCK_COUNT) \
+                select upper(PR.ID) ID, PR.NAME PR_NAME, PR.CATEGORY PR_CATEGORY, PR.PRICE PR_PRICE, PR.STOCK_COUNT PR_STOCK_COUNT \
+                from PRODUCT PR \
+                where PR.ID = ?"""
+            )
+            .assertParams(id)
+            .assertAffectedRowCount(1)
+            .verify(stmt);
+
+        statementTester()
+            .assertRowCount(1)
+            .assertRow(1,
+                "PR_NAME", is("Electrolux 800 UltraCare washing machine"))
+            .verify(
+                select(PRODUCT.NAME)
+                    .from(PRODUCT)
+                    .where(PRODUCT.ID.eq(copyId))
+            );
+    }
+
+    @Test
+    void shouldRejectCommonTableExpressionInInsertedSelect() {
+        CommonTableExpression lamps = with("LAMPS", select(PRODUCT.ID, PRODUCT.NAME).from(PRODUCT).where(PRODUCT.CATEGORY.eq("LAMP")));
+
+        PreparableStatement stmt =
+            insertInto(PRODUCT)
+                .columns(PRODUCT.ID, PRODUCT.NAME)
+                .select(
+                    select(colRef("LAMPS", "PR_ID").as("ID"), colRef("LAMPS", "PR_NAME").as("NAME"))
+                        .from(lamps));
+
+        assertThatThrownBy(() -> stmt.toString(new HsqldbDialect()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Common table expressions are not supported in the SELECT statement of an INSERT statement");
+    }
+
+    @Test
+    void shouldRejectReturningColumnsInInsertSelect() {
+        assertThatThrownBy(() -> insertInto(PRODUCT).returning(PRODUCT.ID).columns(PRODUCT.ID))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Columns can't be combined with returning columns");
+    }
 }
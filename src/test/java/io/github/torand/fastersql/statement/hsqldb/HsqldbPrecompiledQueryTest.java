@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.hsqldb;
+
+import io.github.torand.fastersql.dialect.HsqldbDialect;
+import io.github.torand.fastersql.statement.PrecompiledQuery;
+import io.github.torand.fastersql.statement.StatementExecutor;
+import org.junit.jupiter.api.Test;
+
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.PrecompiledQuery.parameter;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HsqldbPrecompiledQueryTest extends HsqldbTest {
+
+    private static final PrecompiledQuery PRODUCTS_BY_CATEGORY = PrecompiledQuery.compile(
+        select(PRODUCT.NAME)
+            .from(PRODUCT)
+            .where(PRODUCT.CATEGORY.eq(parameter("category")))
+            .orderBy(PRODUCT.NAME.asc()),
+        new HsqldbDialect());
+
+    @Test
+    void shouldExecuteBoundPrecompiledQuery() {
+        StatementExecutor executor = StatementExecutor.using(ds, new HsqldbDialect());
+
+        assertThat(executor.query(PRODUCTS_BY_CATEGORY.bind("category", "LAMP"), rs -> rs.getString("PR_NAME")))
+            .containsExactly("Louis Poulsen Panthella 160 table lamp");
+        assertThat(executor.query(PRODUCTS_BY_CATEGORY.bind("category", "UNKNOWN"), rs -> rs.getString("PR_NAME")))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldNotExecuteUnboundPrecompiledQuery() {
+        StatementExecutor executor = StatementExecutor.using(ds, new HsqldbDialect());
+
+        assertThatThrownBy(() -> executor.query(PRODUCTS_BY_CATEGORY, rs -> rs.getString("PR_NAME")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Parameter category is not bound");
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.hsqldb;
+
+import io.github.torand.fastersql.statement.ReadYourWritesScope;
+import io.github.torand.fastersql.statement.ReplicaSelection;
+import io.github.torand.fastersql.statement.ResultCache;
+import io.github.torand.fastersql.statement.SelectStatement;
+import io.github.torand.fastersql.statement.StatementExecutor;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.fastersql.statement.Statements.update;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HsqldbReplicaRoutingTest extends HsqldbTest {
+
+    private static JDBCDataSource replicaDs;
+
+    @BeforeAll
+    static void setUpReplica() throws SQLException {
+        replicaDs = new JDBCDataSource();
+        replicaDs.setUrl("jdbc:hsqldb:mem:%s".formatted(UUID.randomUUID().toString().replace("-", "")));
+        replicaDs.setUser("SA");
+        replicaDs.setPassword("password");
+
+        createDatabase(replicaDs);
+
+        // Make replica data distinguishable from primary data
+        try (Connection connection = replicaDs.getConnection(); Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("update PRODUCT set NAME = 'Replica table lamp' where CATEGORY = 'LAMP'");
+        }
+    }
+
+    @Test
+    void shouldRouteQueriesToReplica() {
+        StatementExecutor executor = StatementExecutor.using(ds).withReadReplicas(ReplicaSelection.ROUND_ROBIN, replicaDs);
+
+        assertThat(executor.query(lampQuery(), rs -> rs.getString("PR_NAME")))
+            .containsExactly("Replica table lamp");
+        assertThat(executor.query(lampQuery().forUpdate(), rs -> rs.getString("PR_NAME")))
+            .containsExactly("Louis Poulsen Panthella 160 table lamp");
+    }
+
+    @Test
+    void shouldRouteQueriesToPrimaryAfterWriteWithinScope() {
+        StatementExecutor executor = StatementExecutor.using(ds).withReadReplicas(ReplicaSelection.LEAST_OUTSTANDING, replicaDs);
+
+        try (ReadYourWritesScope scope = StatementExecutor.readYourWrites()) {
+            assertThat(executor.query(lampQuery(), rs -> rs.getString("PR_NAME")))
+                .containsExactly("Replica table lamp");
+
+            executor.update(update(PRODUCT).set(PRODUCT.STOCK_COUNT, 3).where(PRODUCT.CATEGORY.eq("LAMP")));
+
+            assertThat(scope.isWritten()).isTrue();
+            assertThat(executor.query(lampQuery(), rs -> rs.getString("PR_NAME")))
+                .containsExactly("Louis Poulsen Panthella 160 table lamp");
+        }
+
+        assertThat(executor.query(lampQuery(), rs -> rs.getString("PR_NAME")))
+            .containsExactly("Replica table lamp");
+    }
+
+    @Test
+    void shouldNotCacheResultsReadFromReplica() throws SQLException {
+        StatementExecutor executor = StatementExecutor.using(ds)
+            .withReadReplicas(ReplicaSelection.ROUND_ROBIN, replicaDs)
+            .withResultCache(ResultCache.create(10, Duration.ofMinutes(5)));
+
+        assertThat(executor.query(lampQuery(), rs -> rs.getString("PR_NAME")))
+            .containsExactly("Replica table lamp");
+
+        try {
+            renameReplicaLamp("Replicated table lamp");
+
+            assertThat(executor.query(lampQuery(), rs -> rs.getString("PR_NAME")))
+                .containsExactly("Replicated table lamp");
+        } finally {
+            renameReplicaLamp("Replica table lamp");
+        }
+    }
+
+    private static void renameReplicaLamp(String name) throws SQLException {
+        try (Connection connection = replicaDs.getConnection(); Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("update PRODUCT set NAME = '%s' where CATEGORY = 'LAMP'".formatted(name));
+        }
+    }
+
+    private static SelectStatement lampQuery() {
+        return select(PRODUCT.NAME)
+            .from(PRODUCT)
+            .where(PRODUCT.CATEGORY.eq("LAMP"));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.hsqldb;
+
+import io.github.torand.fastersql.statement.SelectStatement;
+import io.github.torand.fastersql.statement.StatementExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HsqldbResultPublisherTest extends HsqldbTest {
+
+    @Test
+    void shouldPublishRowsOnDemand() throws Exception {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("ELECTRONICS"))
+                .orderBy(PRODUCT.NAME.asc());
+
+        CollectingSubscriber subscriber = new CollectingSubscriber(1, Long.MAX_VALUE);
+        StatementExecutor.using(ds).publish(stmt, rs -> rs.getString("PR_NAME")).subscribe(subscriber);
+
+        assertThat(subscriber.completion.get(10, TimeUnit.SECONDS)).containsExactly(
+            "Apple iPad Pro tablet",
+            "Samsung Galaxy S25 Ultra mobile phone"
+        );
+    }
+
+    @Test
+    void shouldStopPublishingWhenCancelled() throws Exception {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .orderBy(PRODUCT.PRICE.desc());
+
+        CollectingSubscriber subscriber = new CollectingSubscriber(2, 2);
+        StatementExecutor.using(ds).publish(stmt, rs -> rs.getString("PR_NAME")).subscribe(subscriber);
+
+        assertThat(subscriber.completion.get(10, TimeUnit.SECONDS)).containsExactly(
+            "Samsung Galaxy S25 Ultra mobile phone",
+            "Apple iPad Pro tablet"
+        );
+    }
+
+    /**
+     * Requests rows in batches, and cancels the subscription when the max number of rows is received.
+     */
+    private static class CollectingSubscriber implements Flow.Subscriber<String> {
+        private final long batchSize;
+        private final long maxRows;
+        private final List<String> rows = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<List<String>> completion = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        CollectingSubscriber(long batchSize, long maxRows) {
+            this.batchSize = batchSize;
+            this.maxRows = maxRows;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(String row) {
+            rows.add(row);
+            if (rows.size() >= maxRows) {
+                subscription.cancel();
+                completion.complete(rows);
+            } else if (rows.size() % batchSize == 0) {
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(rows);
+        }
+    }
+}
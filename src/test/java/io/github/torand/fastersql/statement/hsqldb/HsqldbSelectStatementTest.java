@@ -15,6 +15,7 @@
  */
 package io.github.torand.fastersql.statement.hsqldb;
 
+import io.github.torand.fastersql.statement.CommonTableExpression;
 import io.github.torand.fastersql.statement.PreparableStatement;
 import io.github.torand.fastersql.statement.SelectSetOpStatement;
 import io.github.torand.fastersql.statement.SelectStatement;
@@ -40,6 +41,7 @@ import static io.github.torand.fastersql.projection.Projections.subquery;
 import static io.github.torand.fastersql.relation.Relations.table;
 import static io.github.torand.fastersql.statement.Statements.select;
 import static io.github.torand.fastersql.statement.Statements.selectDistinct;
+import static io.github.torand.fastersql.statement.Statements.with;
 import static io.github.torand.fastersql.util.RowValueMatchers.*;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
@@ -194,6 +196,45 @@ class HsqldbSelectStatementTest extends HsqldbTest {
             .verify(stmt);
     }
 
+    @Test
+    void shouldNotShareClausesOfStatementsDerivedFromSameStatement() {
+        SelectStatement base =
+            select(CUSTOMER.LAST_NAME)
+                .from(CUSTOMER)
+                .where(CUSTOMER.LAST_NAME.ne("Doe"));
+
+        SelectStatement first = base.where(CUSTOMER.FIRST_NAME.eq("Ola"));
+        SelectStatement second = base.where(CUSTOMER.FIRST_NAME.eq("Jens"));
+
+        statementTester()
+            .assertSql("""
+                select C.LAST_NAME C_LAST_NAME \
+                from CUSTOMER C \
+                where C.LAST_NAME <> ? \
+                and C.FIRST_NAME = ?"""
+            )
+            .assertParams("Doe", "Ola")
+            .assertRowCount(1)
+            .assertRow(1,
+                "C_LAST_NAME", is("Nordmann")
+            )
+            .verify(first);
+
+        statementTester()
+            .assertSql("""
+                select C.LAST_NAME C_LAST_NAME \
+                from CUSTOMER C \
+                where C.LAST_NAME <> ? \
+                and C.FIRST_NAME = ?"""
+            )
+            .assertParams("Doe", "Jens")
+            .assertRowCount(1)
+            .assertRow(1,
+                "C_LAST_NAME", is("Hansen")
+            )
+            .verify(second);
+    }
+
     @Test
     void shouldHandleOptionalWhereClauses() {
         Optional<String> maybeFirstName = Optional.of("Ola");
@@ -259,6 +300,41 @@ class HsqldbSelectStatementTest extends HsqldbTest {
             .verify(stmt);
     }
 
+    @Test
+    void shouldHandleJoinWithRangeCondition() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+        SelectStatement stmt =
+            select(CUSTOMER.LAST_NAME, PURCHASE.STATUS)
+                .from(CUSTOMER)
+                .leftOuterJoin(CUSTOMER.ID.on(PURCHASE.CUSTOMER_ID).and(PURCHASE.CREATED_TIME.between(from, to)))
+                .orderBy(CUSTOMER.LAST_NAME.asc());
+
+        statementTester()
+            .assertSql("""
+                select C.LAST_NAME C_LAST_NAME, PU.STATUS PU_STATUS \
+                from CUSTOMER C \
+                left outer join PURCHASE PU on C.ID = PU.CUSTOMER_ID and PU.CREATED_TIME between ? and ? \
+                order by C.LAST_NAME asc"""
+            )
+            .assertParams(from, to)
+            .assertRowCount(3)
+            .assertRow(1,
+                "C_LAST_NAME", is("Hansen"),
+                "PU_STATUS", is("DISPATCHED")
+            )
+            .assertRow(2,
+                "C_LAST_NAME", is("Nordmann"),
+                "PU_STATUS", isNull()
+            )
+            .assertRow(3,
+                "C_LAST_NAME", is("Svensson"),
+                "PU_STATUS", isNull()
+            )
+            .verify(stmt);
+    }
+
     @Test
     void shouldHandleSubqueriesInProjection() {
         PreparableStatement stmt =
@@ -737,4 +813,90 @@ class HsqldbSelectStatementTest extends HsqldbTest {
             )
             .verify(stmt);
     }
+
+    @Test
+    void shouldHandleCommonTableExpression() {
+        CommonTableExpression electronics = with("ELECTRONICS",
+            select(PRODUCT.ID, PRODUCT.STOCK_COUNT)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("ELECTRONICS")));
+
+        PreparableStatement stmt =
+            select(colRef("ELECTRONICS", "PR_ID").as("ID"))
+                .from(electronics)
+                .where(colRef("ELECTRONICS", "PR_STOCK_COUNT").gt(18));
+
+        statementTester()
+            .assertSql("""
+                with ELECTRONICS as (select PR.ID PR_ID, PR.STOCK_COUNT PR_STOCK_COUNT from PRODUCT PR where PR.CATEGORY = ?) \
+                select ELECTRONICS.PR_ID ID \
+                from ELECTRONICS \
+                where ELECTRONICS.PR_STOCK_COUNT > ?"""
+            )
+            .assertParams("ELECTRONICS", 18)
+            .assertRowCount(1)
+            .assertRow(1,
+                "ID", is("dba9f942-c24f-4b6a-89b6-881236ff5438")
+            )
+            .verify(stmt);
+    }
+
+    @Test
+    void shouldDeclareCommonTableExpressionOfPredicateSubquery() {
+        CommonTableExpression electronics = with("ELECTRONICS",
+            select(PRODUCT.ID, PRODUCT.STOCK_COUNT)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("ELECTRONICS")));
+
+        PreparableStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.ID.in(
+                    select(colRef("ELECTRONICS", "PR_ID"))
+                        .from(electronics)
+                        .where(colRef("ELECTRONICS", "PR_STOCK_COUNT").gt(18))));
+
+        statementTester()
+            .assertSql("""
+                with ELECTRONICS as (select PR.ID PR_ID, PR.STOCK_COUNT PR_STOCK_COUNT from PRODUCT PR where PR.CATEGORY = ?) \
+                select PR.NAME PR_NAME \
+                from PRODUCT PR \
+                where PR.ID in (select ELECTRONICS.PR_ID from ELECTRONICS where ELECTRONICS.PR_STOCK_COUNT > ?)"""
+            )
+            .assertParams("ELECTRONICS", 18)
+            .assertRowCount(1)
+            .assertRow(1,
+                "PR_NAME", is("Apple iPad Pro tablet")
+            )
+            .verify(stmt);
+    }
+
+    @Test
+    void shouldDeclareCommonTableExpressionOfProjectionSubquery() {
+        CommonTableExpression electronics = with("ELECTRONICS",
+            select(PRODUCT.ID, PRODUCT.STOCK_COUNT)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("ELECTRONICS")));
+
+        PreparableStatement stmt =
+            select(PRODUCT.NAME,
+                    subquery(select(max(colRef("ELECTRONICS", "PR_STOCK_COUNT")).as("MAX_STOCK")).from(electronics)).as("MAX_ELECTRONICS_STOCK"))
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP"));
+
+        statementTester()
+            .assertSql("""
+                with ELECTRONICS as (select PR.ID PR_ID, PR.STOCK_COUNT PR_STOCK_COUNT from PRODUCT PR where PR.CATEGORY = ?) \
+                select PR.NAME PR_NAME, (select max(ELECTRONICS.PR_STOCK_COUNT) MAX_STOCK from ELECTRONICS) MAX_ELECTRONICS_STOCK \
+                from PRODUCT PR \
+                where PR.CATEGORY = ?"""
+            )
+            .assertParams("ELECTRONICS", "LAMP")
+            .assertRowCount(1)
+            .assertRow(1,
+                "PR_NAME", is("Louis Poulsen Panthella 160 table lamp"),
+                "MAX_ELECTRONICS_STOCK", isInteger(21)
+            )
+            .verify(stmt);
+    }
 }
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.hsqldb;
+
+import io.github.torand.fastersql.statement.CancellationHandle;
+import io.github.torand.fastersql.statement.FasterSQLException;
+import io.github.torand.fastersql.statement.PreparableStatement;
+import io.github.torand.fastersql.statement.ResultCache;
+import io.github.torand.fastersql.statement.RowMapper;
+import io.github.torand.fastersql.statement.SelectStatement;
+import io.github.torand.fastersql.statement.StatementExecutor;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static io.github.torand.fastersql.datamodel.DataModel.CUSTOMER;
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.fastersql.statement.Statements.update;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HsqldbStatementExecutorTest extends HsqldbTest {
+
+    @Test
+    void shouldStreamMappedRows() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .orderBy(PRODUCT.NAME.asc());
+
+        try (Stream<String> names = StatementExecutor.using(ds).withFetchSize(2).stream(stmt, rs -> rs.getString("PR_NAME"))) {
+            assertThat(names.toList()).containsExactly(
+                "Apple iPad Pro tablet",
+                "Ekornes Stressless resting chair",
+                "Electrolux 800 UltraCare washing machine",
+                "Louis Poulsen Panthella 160 table lamp",
+                "Samsung Galaxy S25 Ultra mobile phone"
+            );
+        }
+    }
+
+    @Test
+    void shouldStopFetchingWhenStreamIsShortCircuited() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .orderBy(PRODUCT.PRICE.desc());
+
+        AtomicInteger mappedRows = new AtomicInteger();
+        RowMapper<String> nameMapper = rs -> {
+            mappedRows.incrementAndGet();
+            return rs.getString("PR_NAME");
+        };
+
+        try (Stream<String> names = StatementExecutor.using(ds).withFetchSize(1).stream(stmt, nameMapper)) {
+            assertThat(names.limit(2).toList()).containsExactly(
+                "Samsung Galaxy S25 Ultra mobile phone",
+                "Apple iPad Pro tablet"
+            );
+        }
+
+        assertThat(mappedRows.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReleaseConnectionWhenStreamingInvalidStatement() {
+        SelectStatement stmt =
+            select(CUSTOMER.LAST_NAME)
+                .from(PRODUCT);
+
+        AtomicInteger openConnections = new AtomicInteger();
+        StatementExecutor executor = StatementExecutor.using(countingDataSource(openConnections, new AtomicInteger()));
+
+        assertThatThrownBy(() -> executor.stream(stmt, rs -> rs.getString("C_LAST_NAME")))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(openConnections.get()).isZero();
+    }
+
+    @Test
+    void shouldQueryMappedRows() {
+        SelectStatement stmt =
+            select(PRODUCT.STOCK_COUNT)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("ELECTRONICS"))
+                .orderBy(PRODUCT.STOCK_COUNT.asc());
+
+        List<Integer> stockCounts = StatementExecutor.using(ds).query(stmt, rs -> rs.getInt("PR_STOCK_COUNT"));
+
+        assertThat(stockCounts).containsExactly(17, 21);
+    }
+
+    @Test
+    void shouldUpdateRows() {
+        final UUID id = UUID.fromString("c50df894-ed38-49bc-831e-8de6453cd6f6"); // Electrolux
+
+        PreparableStatement stmt =
+            update(PRODUCT)
+                .set(PRODUCT.STOCK_COUNT, 4)
+                .where(PRODUCT.ID.eq(id));
+
+        assertThat(StatementExecutor.using(ds).update(stmt)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExecuteWithTimeout() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP"))
+                .timeout(Duration.ofMillis(2500));
+
+        assertThat(StatementExecutor.using(ds).query(stmt, rs -> rs.getString("PR_NAME")))
+            .containsExactly("Louis Poulsen Panthella 160 table lamp");
+    }
+
+    @Test
+    void shouldNotExecuteWhenCancelled() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT);
+
+        CancellationHandle cancellation = CancellationHandle.create();
+        cancellation.cancel();
+
+        assertThatThrownBy(() -> StatementExecutor.using(ds).query(stmt, rs -> rs.getString("PR_NAME"), cancellation))
+            .isInstanceOf(FasterSQLException.class)
+            .hasMessage("Failed to execute query");
+    }
+
+    @Test
+    void shouldExplainStatement() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP"));
+
+        assertThat(StatementExecutor.using(ds).explain(stmt))
+            .isNotBlank()
+            .contains("PRODUCT");
+    }
+
+    @Test
+    void shouldNotifySlowStatementListener() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP"));
+
+        List<Optional<String>> plans = new ArrayList<>();
+        StatementExecutor executor = StatementExecutor.using(ds)
+            .withSlowStatementListener(Duration.ZERO, (statement, elapsed, plan) -> plans.add(plan));
+
+        assertThat(executor.query(stmt, rs -> rs.getString("PR_NAME")))
+            .containsExactly("Louis Poulsen Panthella 160 table lamp");
+
+        assertThat(plans).hasSize(1);
+        assertThat(plans.get(0)).hasValueSatisfying(plan -> assertThat(plan).contains("PRODUCT"));
+    }
+
+    @Test
+    void shouldCacheQueryResultsUntilTableIsUpdated() throws SQLException {
+        final UUID id = UUID.fromString("fdd89ce1-db38-4deb-9767-0324e91d4933"); // Ekornes
+        final RowMapper<Integer> stockCountMapper = rs -> rs.getInt("PR_STOCK_COUNT");
+
+        StatementExecutor executor = StatementExecutor.using(ds).withResultCache(ResultCache.create(10, Duration.ofMinutes(5)));
+
+        SelectStatement stmt =
+            select(PRODUCT.STOCK_COUNT)
+                .from(PRODUCT)
+                .where(PRODUCT.ID.eq(id));
+
+        int stockCount = executor.query(stmt, stockCountMapper).get(0);
+
+        // Changes made by other means than the executor are not detected
+        try (Connection connection = ds.getConnection(); Statement jdbcStmt = connection.createStatement()) {
+            jdbcStmt.executeUpdate("update PRODUCT set STOCK_COUNT = %d where ID = '%s'".formatted(stockCount + 1, id));
+        }
+        assertThat(executor.query(stmt, stockCountMapper)).containsExactly(stockCount);
+
+        executor.update(update(PRODUCT).set(PRODUCT.STOCK_COUNT, stockCount + 2).where(PRODUCT.ID.eq(id)));
+        assertThat(executor.query(stmt, stockCountMapper)).containsExactly(stockCount + 2);
+    }
+
+    @Test
+    void shouldInvalidateCachedResultsOfSubstitutedTable() throws SQLException {
+        final UUID id = UUID.fromString("fdd89ce1-db38-4deb-9767-0324e91d4933"); // Ekornes
+        final RowMapper<Integer> stockCountMapper = rs -> rs.getInt("PR_STOCK_COUNT");
+
+        ResultCache resultCache = ResultCache.create(10, Duration.ofMinutes(5));
+        StatementExecutor executor = StatementExecutor.using(ds)
+            .withTableSubstitution(PRODUCT, "PUBLIC.PRODUCT")
+            .withResultCache(resultCache);
+
+        SelectStatement stmt =
+            select(PRODUCT.STOCK_COUNT)
+                .from(PRODUCT)
+                .where(PRODUCT.ID.eq(id));
+
+        int stockCount = executor.query(stmt, stockCountMapper).get(0);
+
+        try (Connection connection = ds.getConnection(); Statement jdbcStmt = connection.createStatement()) {
+            jdbcStmt.executeUpdate("update PRODUCT set STOCK_COUNT = %d where ID = '%s'".formatted(stockCount + 1, id));
+        }
+
+        // Results are cached by substitute table name
+        resultCache.invalidate(PRODUCT);
+        assertThat(executor.query(stmt, stockCountMapper)).containsExactly(stockCount);
+
+        executor.invalidateCachedResults(PRODUCT);
+        assertThat(executor.query(stmt, stockCountMapper)).containsExactly(stockCount + 1);
+    }
+
+    @Test
+    void shouldNotBorrowConnectionForCachedResults() {
+        final RowMapper<Integer> stockCountMapper = rs -> rs.getInt("PR_STOCK_COUNT");
+
+        AtomicInteger openConnections = new AtomicInteger();
+        AtomicInteger borrowedConnections = new AtomicInteger();
+        StatementExecutor executor = StatementExecutor.using(countingDataSource(openConnections, borrowedConnections))
+            .withResultCache(ResultCache.create(10, Duration.ofMinutes(5)));
+
+        SelectStatement stmt =
+            select(PRODUCT.STOCK_COUNT)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("ELECTRONICS"))
+                .orderBy(PRODUCT.STOCK_COUNT.asc());
+
+        // The SQL dialect is resolved once, using a connection of its own
+        assertThat(executor.query(stmt, stockCountMapper)).containsExactly(17, 21);
+        assertThat(borrowedConnections.get()).isEqualTo(2);
+
+        assertThat(executor.query(stmt, stockCountMapper)).containsExactly(17, 21);
+        assertThat(borrowedConnections.get()).isEqualTo(2);
+        assertThat(openConnections.get()).isZero();
+    }
+
+    @Test
+    void shouldNotValidateTrustedStatements() {
+        SelectStatement stmt =
+            select(CUSTOMER.LAST_NAME)
+                .from(PRODUCT);
+
+        assertThatThrownBy(() -> StatementExecutor.using(ds).query(stmt, rs -> rs.getString("C_LAST_NAME")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Column LAST_NAME belongs to table CUSTOMER, but is not specified in a FROM or JOIN clause");
+
+        assertThatThrownBy(() -> StatementExecutor.using(ds).withTrustedStatements().query(stmt, rs -> rs.getString("C_LAST_NAME")))
+            .isInstanceOf(FasterSQLException.class)
+            .hasMessage("Failed to execute query");
+    }
+
+    private static DataSource countingDataSource(AtomicInteger openConnections, AtomicInteger borrowedConnections) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] {DataSource.class}, (dsProxy, dsMethod, dsArgs) -> {
+            Object result = invoke(ds, dsMethod, dsArgs);
+            if (!"getConnection".equals(dsMethod.getName())) {
+                return result;
+            }
+
+            Connection connection = (Connection) result;
+            openConnections.incrementAndGet();
+            borrowedConnections.incrementAndGet();
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && !connection.isClosed()) {
+                    openConnections.decrementAndGet();
+                }
+                return invoke(connection, method, args);
+            });
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.ibatis.jdbc.ScriptRunner;
 import org.hsqldb.jdbc.JDBCDataSource;
 import org.junit.jupiter.api.BeforeAll;
 
+import javax.sql.DataSource;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -45,11 +46,11 @@ abstract class HsqldbTest {
         ds.setUser("SA");
         ds.setPassword("password");
 
-        createDatabase();
+        createDatabase(ds);
     }
 
-    private static void createDatabase() throws SQLException {
-        ScriptRunner sr = new ScriptRunner(ds.getConnection());
+    protected static void createDatabase(DataSource dataSource) throws SQLException {
+        ScriptRunner sr = new ScriptRunner(dataSource.getConnection());
         Reader initScriptReader = new BufferedReader(new InputStreamReader(HsqldbTest.class.getResourceAsStream("/hsqldb-init.sql")));
         sr.runScript(initScriptReader);
     }
@@ -15,20 +15,26 @@
  */
 package io.github.torand.fastersql.statement.hsqldb;
 
+import io.github.torand.fastersql.dialect.HsqldbDialect;
+import io.github.torand.fastersql.statement.CommonTableExpression;
 import io.github.torand.fastersql.statement.PreparableStatement;
 import org.junit.jupiter.api.Test;
 
 import java.util.Optional;
 import java.util.UUID;
 
+import static io.github.torand.fastersql.alias.Aliases.colRef;
 import static io.github.torand.fastersql.constant.Constants.$;
 import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
 import static io.github.torand.fastersql.datamodel.DataModel.PURCHASE;
+import static io.github.torand.fastersql.datamodel.DataModel.PURCHASE_ITEM;
 import static io.github.torand.fastersql.function.singlerow.SingleRowFunctions.concat;
 import static io.github.torand.fastersql.statement.Statements.select;
 import static io.github.torand.fastersql.statement.Statements.update;
+import static io.github.torand.fastersql.statement.Statements.with;
 import static io.github.torand.fastersql.util.RowValueMatchers.isBigDecimal;
 import static io.github.torand.fastersql.util.RowValueMatchers.isNull;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.*;
 
 class HsqldbUpdateStatementTest extends HsqldbTest {
@@ -162,4 +168,50 @@ class HsqldbUpdateStatementTest extends HsqldbTest {
                     .where(PRODUCT.ID.eq(id))
             );
     }
+
+    @Test
+    void shouldUpdateUsingJoinedTable() {
+        final UUID productId = UUID.fromString("fdd89ce1-db38-4deb-9767-0324e91d4933"); // Ekornes
+        final UUID purchaseId = UUID.fromString("da47cb5b-0fd2-491f-acec-9726af1f32aa");
+
+        PreparableStatement stmt =
+            update(PRODUCT)
+                .join(PRODUCT.ID.on(PURCHASE_ITEM.PRODUCT_ID))
+                .set(PRODUCT.STOCK_COUNT, PRODUCT.STOCK_COUNT.plus(PURCHASE_ITEM.QUANTITY))
+                .where(PURCHASE_ITEM.PURCHASE_ID.eq(purchaseId));
+
+        statementTester()
+            .assertSql("""
+                update PRODUCT PR \
+                set STOCK_COUNT = (select PR.STOCK_COUNT + PI.QUANTITY from PURCHASE_ITEM PI where PR.ID = PI.PRODUCT_ID and PI.PURCHASE_ID = ?) \
+                where exists (select 1 from PURCHASE_ITEM PI where PR.ID = PI.PRODUCT_ID and PI.PURCHASE_ID = ?)"""
+            )
+            .assertParams(purchaseId, purchaseId)
+            .assertAffectedRowCount(1)
+            .verify(stmt);
+
+        statementTester()
+            .assertRowCount(1)
+            .assertRow(1,
+                "PR_STOCK_COUNT", isBigDecimal(8))
+            .verify(
+                select(PRODUCT.STOCK_COUNT)
+                    .from(PRODUCT)
+                    .where(PRODUCT.ID.eq(productId))
+            );
+    }
+
+    @Test
+    void shouldRejectCommonTableExpressionInSubquery() {
+        CommonTableExpression lamps = with("LAMPS", select(PRODUCT.ID).from(PRODUCT).where(PRODUCT.CATEGORY.eq("LAMP")));
+
+        PreparableStatement stmt =
+            update(PRODUCT)
+                .set(PRODUCT.STOCK_COUNT, 0)
+                .where(PRODUCT.ID.in(select(colRef("LAMPS", "PR_ID")).from(lamps)));
+
+        assertThatThrownBy(() -> stmt.toString(new HsqldbDialect()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Common table expressions are not supported in the subqueries of an UPDATE statement");
+    }
 }
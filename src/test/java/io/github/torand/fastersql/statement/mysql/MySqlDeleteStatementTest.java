@@ -15,15 +15,19 @@
  */
 package io.github.torand.fastersql.statement.mysql;
 
+import io.github.torand.fastersql.domainmodel.PurchaseStatus;
 import io.github.torand.fastersql.statement.PreparableStatement;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
 
 import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.datamodel.DataModel.PURCHASE;
+import static io.github.torand.fastersql.datamodel.DataModel.PURCHASE_ITEM;
 import static io.github.torand.fastersql.function.singlerow.SingleRowFunctions.length;
 import static io.github.torand.fastersql.statement.Statements.delete;
 import static io.github.torand.fastersql.statement.Statements.select;
+import static org.hamcrest.Matchers.is;
 
 class MySqlDeleteStatementTest extends MySqlTest {
 
@@ -80,4 +84,32 @@ class MySqlDeleteStatementTest extends MySqlTest {
                     .where(PRODUCT.ID.eq(id))
             );
     }
+
+    @Test
+    void shouldDeleteUsingJoinedTable() {
+        PreparableStatement stmt =
+            delete().from(PURCHASE_ITEM)
+                .join(PURCHASE_ITEM.PURCHASE_ID.on(PURCHASE.ID))
+                .where(PURCHASE.STATUS.eq(PurchaseStatus.PROCESSING));
+
+        statementTester()
+            .assertSql("""
+                delete PI \
+                from PURCHASE_ITEM PI \
+                inner join PURCHASE PU on PI.PURCHASE_ID = PU.ID \
+                where PU.STATUS = ?"""
+            )
+            .assertParams(PurchaseStatus.PROCESSING)
+            .assertAffectedRowCount(1)
+            .verify(stmt);
+
+        statementTester()
+            .assertRowCount(1)
+            .assertRow(1,
+                "PI_PURCHASE_ID", is("df168f1d-ed4a-4cc4-b93a-51956d9a9c56"))
+            .verify(
+                select(PURCHASE_ITEM.PURCHASE_ID)
+                    .from(PURCHASE_ITEM)
+            );
+    }
 }
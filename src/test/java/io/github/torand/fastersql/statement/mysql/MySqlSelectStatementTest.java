@@ -20,6 +20,7 @@ import io.github.torand.fastersql.statement.SelectSetOpStatement;
 import io.github.torand.fastersql.statement.SelectStatement;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -34,6 +35,8 @@ import static io.github.torand.fastersql.function.singlerow.SingleRowFunctions.*
 import static io.github.torand.fastersql.function.singlerow.cast.DataTypes.char_;
 import static io.github.torand.fastersql.function.singlerow.cast.DataTypes.decimal;
 import static io.github.torand.fastersql.function.system.SystemFunctions.*;
+import static io.github.torand.fastersql.hint.Hints.forceIndex;
+import static io.github.torand.fastersql.hint.Hints.parallel;
 import static io.github.torand.fastersql.projection.Projections.colPos;
 import static io.github.torand.fastersql.projection.Projections.subquery;
 import static io.github.torand.fastersql.relation.Relations.table;
@@ -505,6 +508,26 @@ class MySqlSelectStatementTest extends MySqlTest {
             .verify(stmt);
     }
 
+    @Test
+    void shouldHandleIndexHints() {
+        PreparableStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.ID.eq("fdd89ce1-db38-4deb-9767-0324e91d4933"))
+                .hint(forceIndex(PRODUCT, "PRIMARY"), parallel(2));
+
+        statementTester()
+            .assertSql("""
+                select PR.NAME PR_NAME \
+                from PRODUCT PR force index (PRIMARY) \
+                where PR.ID = ?"""
+            )
+            .assertParams("fdd89ce1-db38-4deb-9767-0324e91d4933")
+            .assertRowCount(1)
+            .assertRow(1, "PR_NAME", is("Ekornes Stressless resting chair"))
+            .verify(stmt);
+    }
+
     @Test
     void shouldHandleSystemFunctions() {
         PreparableStatement stmt =
@@ -716,4 +739,24 @@ class MySqlSelectStatementTest extends MySqlTest {
             )
             .verify(stmt);
     }
+
+    @Test
+    void shouldHandleQueryTimeout() {
+        PreparableStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP"))
+                .timeout(Duration.ofSeconds(5));
+
+        statementTester()
+            .assertSql("""
+                select /*+ MAX_EXECUTION_TIME(5000) */ PR.NAME PR_NAME \
+                from PRODUCT PR \
+                where PR.CATEGORY = ?"""
+            )
+            .assertParams("LAMP")
+            .assertRowCount(1)
+            .assertRow(1, "PR_NAME", is("Louis Poulsen Panthella 160 table lamp"))
+            .verify(stmt);
+    }
 }
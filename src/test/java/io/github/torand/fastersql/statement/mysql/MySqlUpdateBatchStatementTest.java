@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.mysql;
+
+import io.github.torand.fastersql.domainmodel.Product;
+import io.github.torand.fastersql.domainmodel.ProductCategory;
+import io.github.torand.fastersql.statement.PreparableStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.fastersql.statement.Statements.updateBatch;
+import static io.github.torand.fastersql.util.RowValueMatchers.isBigDecimal;
+import static io.github.torand.fastersql.util.RowValueMatchers.isInteger;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+
+class MySqlUpdateBatchStatementTest extends MySqlTest {
+
+    @Test
+    void shouldUpdateRowsBySingleStatement() {
+        final UUID id1 = UUID.fromString("c50df894-ed38-49bc-831e-8de6453cd6f6"); // Electrolux
+        final UUID id2 = UUID.fromString("fdd89ce1-db38-4deb-9767-0324e91d4933"); // Ekornes
+
+        Collection<Product> products = asList(
+            new Product(id1, "Electrolux 800 UltraCare washing machine", null, ProductCategory.APPLIANCE, 7499.00, 3),
+            new Product(id2, "Ekornes Stressless resting chair", null, ProductCategory.FURNITURE, 4499.00, 6)
+        );
+
+        PreparableStatement stmt =
+            updateBatch(products).table(PRODUCT)
+                .set(PRODUCT.PRICE, Product::price)
+                .set(PRODUCT.STOCK_COUNT, Product::stock_count)
+                .key(PRODUCT.ID, Product::id);
+
+        statementTester()
+            .assertSql("""
+                update PRODUCT \
+                set PRICE = case ID when ? then ? when ? then ? end, STOCK_COUNT = case ID when ? then ? when ? then ? end \
+                where ID in (?, ?)"""
+            )
+            .assertParams(id1, 7499.00, id2, 4499.00, id1, 3, id2, 6, id1, id2)
+            .assertAffectedRowCount(2)
+            .verify(stmt);
+
+        statementTester()
+            .assertRowCount(2)
+            .assertRow(1,
+                "PR_PRICE", isBigDecimal(4499.00),
+                "PR_STOCK_COUNT", isInteger(6))
+            .assertRow(2,
+                "PR_PRICE", isBigDecimal(7499.00),
+                "PR_STOCK_COUNT", isInteger(3))
+            .verify(
+                select(PRODUCT.PRICE, PRODUCT.STOCK_COUNT)
+                    .from(PRODUCT)
+                    .where(PRODUCT.ID.in(id1, id2))
+                    .orderBy(PRODUCT.PRICE.asc())
+            );
+    }
+}
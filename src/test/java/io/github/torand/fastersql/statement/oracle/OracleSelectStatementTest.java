@@ -16,6 +16,7 @@
 package io.github.torand.fastersql.statement.oracle;
 
 import io.github.torand.fastersql.dialect.OracleDialect;
+import io.github.torand.fastersql.statement.CommonTableExpression;
 import io.github.torand.fastersql.statement.PreparableStatement;
 import io.github.torand.fastersql.statement.SelectSetOpStatement;
 import io.github.torand.fastersql.statement.SelectStatement;
@@ -36,11 +37,13 @@ import static io.github.torand.fastersql.function.singlerow.cast.DataTypes.decim
 import static io.github.torand.fastersql.function.singlerow.cast.DataTypes.varchar;
 import static io.github.torand.fastersql.function.system.SystemFunctions.currentDate;
 import static io.github.torand.fastersql.function.system.SystemFunctions.currentTimestamp;
+import static io.github.torand.fastersql.hint.Hints.parallel;
 import static io.github.torand.fastersql.projection.Projections.colPos;
 import static io.github.torand.fastersql.projection.Projections.subquery;
 import static io.github.torand.fastersql.relation.Relations.table;
 import static io.github.torand.fastersql.statement.Statements.select;
 import static io.github.torand.fastersql.statement.Statements.selectDistinct;
+import static io.github.torand.fastersql.statement.Statements.with;
 import static io.github.torand.fastersql.util.RowValueMatchers.*;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
@@ -763,4 +766,29 @@ class OracleSelectStatementTest extends OracleTest {
             )
             .verify(stmt);
     }
+
+    @Test
+    void shouldMergeMaterializeHintWithQueryHints() {
+        CommonTableExpression lamps = with("LAMPS",
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP"))
+                .hint(parallel(2)))
+            .materialized();
+
+        PreparableStatement stmt =
+            select(colRef("LAMPS", "PR_NAME").as("NAME"))
+                .from(lamps);
+
+        statementTester()
+            .assertSql("""
+                with LAMPS as (select /*+ parallel(2) materialize */ PR.NAME PR_NAME from PRODUCT PR where PR.CATEGORY = ?) \
+                select LAMPS.PR_NAME NAME \
+                from LAMPS"""
+            )
+            .assertParams("LAMP")
+            .assertRowCount(1)
+            .assertRow(1, "NAME", is("Louis Poulsen Panthella 160 table lamp"))
+            .verify(stmt);
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.oracle;
+
+import io.github.torand.fastersql.domainmodel.Product;
+import io.github.torand.fastersql.domainmodel.ProductCategory;
+import io.github.torand.fastersql.statement.PreparableStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static io.github.torand.fastersql.statement.Statements.upsert;
+import static io.github.torand.fastersql.statement.Statements.upsertBatch;
+import static io.github.torand.fastersql.util.RowValueMatchers.isBigDecimal;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+
+class OracleUpsertStatementTest extends OracleTest {
+
+    @Test
+    void shouldUpdateExistingRow() {
+        final UUID id = UUID.fromString("c50df894-ed38-49bc-831e-8de6453cd6f6"); // Electrolux
+
+        PreparableStatement stmt =
+            upsert(PRODUCT)
+                .value(PRODUCT.ID, id)
+                .value(PRODUCT.NAME, "Electrolux 700 washing machine")
+                .value(PRODUCT.CATEGORY, ProductCategory.APPLIANCE)
+                .value(PRODUCT.PRICE, 6999.50)
+                .value(PRODUCT.STOCK_COUNT, 4)
+                .onConflict(PRODUCT.ID);
+
+        statementTester()
+            .assertSql("""
+                merge into PRODUCT PR \
+                using (select ? ID, ? NAME, ? CATEGORY, ? PRICE, ? STOCK_COUNT from DUAL) SRC \
+                on (PR.ID = SRC.ID) \
+                when matched then update set PR.NAME = SRC.NAME, PR.CATEGORY = SRC.CATEGORY, PR.PRICE = SRC.PRICE, PR.STOCK_COUNT = SRC.STOCK_COUNT \
+                when not matched then insert (ID, NAME, CATEGORY, PRICE, STOCK_COUNT) \
+                values (SRC.ID, SRC.NAME, SRC.CATEGORY, SRC.PRICE, SRC.STOCK_COUNT)"""
+            )
+            .assertParams(id, "Electrolux 700 washing machine", ProductCategory.APPLIANCE, 6999.50, 4)
+            .verify(stmt);
+
+        statementTester()
+            .assertRowCount(1)
+            .assertRow(1,
+                "PR_NAME", is("Electrolux 700 washing machine"),
+                "PR_PRICE", isBigDecimal(6999.50))
+            .verify(
+                select(PRODUCT.NAME, PRODUCT.PRICE)
+                    .from(PRODUCT)
+                    .where(PRODUCT.ID.eq(id))
+            );
+    }
+
+    @Test
+    void shouldInsertOrUpdateRows() {
+        final UUID id1 = UUID.fromString("fdd89ce1-db38-4deb-9767-0324e91d4933"); // Ekornes
+        final UUID id2 = UUID.randomUUID();
+
+        Collection<Product> products = asList(
+            new Product(id1, "Ekornes Stressless resting chair", null, ProductCategory.FURNITURE, 4999.00, 5),
+            new Product(id2, "IKEA Billy bookshelf", null, ProductCategory.FURNITURE, 1234.56, 46)
+        );
+
+        PreparableStatement stmt =
+            upsertBatch(products).into(PRODUCT)
+                .value(PRODUCT.ID, Product::id)
+                .value(PRODUCT.NAME, Product::name)
+                .value(PRODUCT.CATEGORY, Product::category)
+                .value(PRODUCT.PRICE, Product::price)
+                .value(PRODUCT.STOCK_COUNT, Product::stock_count)
+                .onConflict(PRODUCT.ID);
+
+        statementTester()
+            .assertSql("""
+                merge into PRODUCT PR \
+                using (select ? ID, ? NAME, ? CATEGORY, ? PRICE, ? STOCK_COUNT from DUAL union all select ?, ?, ?, ?, ? from DUAL) SRC \
+                on (PR.ID = SRC.ID) \
+                when matched then update set PR.NAME = SRC.NAME, PR.CATEGORY = SRC.CATEGORY, PR.PRICE = SRC.PRICE, PR.STOCK_COUNT = SRC.STOCK_COUNT \
+                when not matched then insert (ID, NAME, CATEGORY, PRICE, STOCK_COUNT) \
+                values (SRC.ID, SRC.NAME, SRC.CATEGORY, SRC.PRICE, SRC.STOCK_COUNT)"""
+            )
+            .assertAffectedRowCount(2)
+            .verify(stmt);
+
+        statementTester()
+            .assertRowCount(2)
+            .assertRow(1,
+                "PR_NAME", is("IKEA Billy bookshelf"),
+                "PR_PRICE", isBigDecimal(1234.56))
+            .assertRow(2,
+                "PR_NAME", is("Ekornes Stressless resting chair"),
+                "PR_PRICE", isBigDecimal(4999.00))
+            .verify(
+                select(PRODUCT.NAME, PRODUCT.PRICE)
+                    .from(PRODUCT)
+                    .where(PRODUCT.ID.in(id1, id2))
+                    .orderBy(PRODUCT.PRICE.asc())
+            );
+    }
+}
@@ -17,10 +17,15 @@ package io.github.torand.fastersql.statement.postgresql;
 
 import io.github.torand.fastersql.domainmodel.ProductCategory;
 import io.github.torand.fastersql.domainmodel.PurchaseStatus;
+import io.github.torand.fastersql.dialect.PostgreSqlDialect;
+import io.github.torand.fastersql.sql.Context;
+import io.github.torand.fastersql.statement.InsertStatement;
 import io.github.torand.fastersql.statement.PreparableStatement;
+import io.github.torand.fastersql.statement.StatementExecutor;
 import org.junit.jupiter.api.Test;
 
 import java.time.Year;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +37,7 @@ import static io.github.torand.fastersql.function.system.SystemFunctions.current
 import static io.github.torand.fastersql.statement.Statements.insert;
 import static io.github.torand.fastersql.statement.Statements.select;
 import static io.github.torand.fastersql.util.RowValueMatchers.isNull;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 
 class PostgreSqlInsertStatementTest extends PostgreSqlTest {
@@ -175,4 +181,28 @@ class PostgreSqlInsertStatementTest extends PostgreSqlTest {
                     .where(PRODUCT.ID.eq(id))
             );
     }
+
+    @Test
+    void shouldReturnInsertedValues() {
+        final UUID id = UUID.randomUUID();
+
+        InsertStatement stmt =
+            insert().into(PRODUCT)
+                .value(PRODUCT.ID, id)
+                .value(PRODUCT.NAME, "Apple Mac mini")
+                .value(PRODUCT.CATEGORY, ProductCategory.ELECTRONICS)
+                .value(PRODUCT.PRICE, 8999)
+                .value(PRODUCT.STOCK_COUNT, 12)
+                .returning(PRODUCT.ID, PRODUCT.NAME);
+
+        assertThat(stmt.sql(Context.of(new PostgreSqlDialect()))).isEqualTo("""
+            insert into PRODUCT (ID, NAME, CATEGORY, PRICE, STOCK_COUNT) \
+            values (?, ?, ?, ?, ?) \
+            returning ID, NAME"""
+        );
+
+        List<String> returned = StatementExecutor.using(ds).executeReturning(stmt, rs -> rs.getString("ID") + "/" + rs.getString("NAME"));
+
+        assertThat(returned).containsExactly(id + "/Apple Mac mini");
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.github.torand.fastersql.statement.postgresql;
 
+import io.github.torand.fastersql.statement.CommonTableExpression;
 import io.github.torand.fastersql.statement.PreparableStatement;
 import io.github.torand.fastersql.statement.SelectSetOpStatement;
 import io.github.torand.fastersql.statement.SelectStatement;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 import static io.github.torand.fastersql.alias.Aliases.alias;
 import static io.github.torand.fastersql.alias.Aliases.colRef;
@@ -34,11 +36,20 @@ import static io.github.torand.fastersql.function.singlerow.SingleRowFunctions.*
 import static io.github.torand.fastersql.function.singlerow.cast.DataTypes.decimal;
 import static io.github.torand.fastersql.function.singlerow.cast.DataTypes.varchar;
 import static io.github.torand.fastersql.function.system.SystemFunctions.*;
+import static io.github.torand.fastersql.function.window.WindowFunctions.currentRow;
+import static io.github.torand.fastersql.function.window.WindowFunctions.lag;
+import static io.github.torand.fastersql.function.window.WindowFunctions.orderBy;
+import static io.github.torand.fastersql.function.window.WindowFunctions.partitionBy;
+import static io.github.torand.fastersql.function.window.WindowFunctions.rowNumber;
+import static io.github.torand.fastersql.function.window.WindowFunctions.unboundedPreceding;
 import static io.github.torand.fastersql.projection.Projections.colPos;
 import static io.github.torand.fastersql.projection.Projections.subquery;
+import static io.github.torand.fastersql.relation.Relations.lateral;
 import static io.github.torand.fastersql.relation.Relations.table;
 import static io.github.torand.fastersql.statement.Statements.select;
 import static io.github.torand.fastersql.statement.Statements.selectDistinct;
+import static io.github.torand.fastersql.statement.Statements.with;
+import static io.github.torand.fastersql.statement.Statements.withRecursive;
 import static io.github.torand.fastersql.util.RowValueMatchers.*;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
@@ -525,6 +536,33 @@ class PostgreSqlSelectStatementTest extends PostgreSqlTest {
             .verify(stmt);
     }
 
+    @Test
+    void shouldHandleForUpdateOfSkipLocked() {
+        PreparableStatement stmt =
+            select(PURCHASE.ID, CUSTOMER.LAST_NAME)
+                .from(PURCHASE)
+                .join(PURCHASE.CUSTOMER_ID.on(CUSTOMER.ID))
+                .where(PURCHASE.STATUS.eq("PROCESSING"))
+                .forUpdateOf(PURCHASE)
+                .skipLocked();
+
+        statementTester()
+            .assertSql("""
+                select PU.ID PU_ID, C.LAST_NAME C_LAST_NAME \
+                from PURCHASE PU \
+                inner join CUSTOMER C on PU.CUSTOMER_ID = C.ID \
+                where PU.STATUS = ? \
+                for update of PU skip locked"""
+            )
+            .assertParams("PROCESSING")
+            .assertRowCount(1)
+            .assertRow(1,
+                "PU_ID", is("da47cb5b-0fd2-491f-acec-9726af1f32aa"),
+                "C_LAST_NAME", is("Nordmann")
+            )
+            .verify(stmt);
+    }
+
     @Test
     void shouldHandleSystemFunctions() {
         PreparableStatement stmt =
@@ -736,4 +774,143 @@ class PostgreSqlSelectStatementTest extends PostgreSqlTest {
             )
             .verify(stmt);
     }
+
+    @Test
+    void shouldHandleRecursiveCommonTableExpression() {
+        final UUID id = UUID.fromString("fdd89ce1-db38-4deb-9767-0324e91d4933"); // Ekornes
+
+        CommonTableExpression countdown = withRecursive("COUNTDOWN", self ->
+            select(PRODUCT.STOCK_COUNT.as("N"))
+                .from(PRODUCT)
+                .where(PRODUCT.ID.eq(id))
+                .unionAll(
+                    select(colRef("COUNTDOWN", "N").minus($i(1)).as("N"))
+                        .from(self)
+                        .where(colRef("COUNTDOWN", "N").gt($i(1)))));
+
+        PreparableStatement stmt =
+            select(colRef("COUNTDOWN", "N").as("N"))
+                .from(countdown)
+                .orderBy(colRef("COUNTDOWN", "N").asc());
+
+        statementTester()
+            .assertSql("""
+                with recursive COUNTDOWN (N) as (\
+                (select PR.STOCK_COUNT N from PRODUCT PR where PR.ID = ?) \
+                union all \
+                (select COUNTDOWN.N - 1 N from COUNTDOWN where COUNTDOWN.N > 1)\
+                ) \
+                select COUNTDOWN.N N \
+                from COUNTDOWN \
+                order by COUNTDOWN.N asc"""
+            )
+            .assertParams(id)
+            .assertRowCount(7)
+            .assertRow(1, "N", isInteger(1))
+            .assertRow(7, "N", isInteger(7))
+            .verify(stmt);
+    }
+
+    @Test
+    void shouldHandleWindowFunctions() {
+        PreparableStatement stmt =
+            select(PRODUCT.NAME,
+                    rowNumber().over(partitionBy(PRODUCT.CATEGORY).orderBy(PRODUCT.PRICE.desc())).as("CATEGORY_RANK"),
+                    sum(PRODUCT.STOCK_COUNT).over(orderBy(PRODUCT.NAME.asc()).rowsBetween(unboundedPreceding(), currentRow())).as("RUNNING_STOCK"),
+                    lag(PRODUCT.NAME).over(orderBy(PRODUCT.NAME.asc())).as("PREVIOUS_NAME"))
+                .from(PRODUCT)
+                .orderBy(PRODUCT.NAME.asc());
+
+        statementTester()
+            .assertSql("""
+                select PR.NAME PR_NAME, \
+                row_number() over (partition by PR.CATEGORY order by PR.PRICE desc) CATEGORY_RANK, \
+                sum(PR.STOCK_COUNT) over (order by PR.NAME asc rows between unbounded preceding and current row) RUNNING_STOCK, \
+                lag(PR.NAME) over (order by PR.NAME asc) PREVIOUS_NAME \
+                from PRODUCT PR \
+                order by PR.NAME asc"""
+            )
+            .assertRowCount(5)
+            .assertRow(1,
+                "PR_NAME", is("Apple iPad Pro tablet"),
+                "CATEGORY_RANK", isLong(2),
+                "RUNNING_STOCK", isLong(21),
+                "PREVIOUS_NAME", isNull()
+            )
+            .assertRow(5,
+                "PR_NAME", is("Samsung Galaxy S25 Ultra mobile phone"),
+                "CATEGORY_RANK", isLong(1),
+                "RUNNING_STOCK", isLong(53),
+                "PREVIOUS_NAME", is("Louis Poulsen Panthella 160 table lamp")
+            )
+            .verify(stmt);
+    }
+
+    @Test
+    void shouldHandleLateralSubquery() {
+        PreparableStatement stmt =
+            select(CUSTOMER.LAST_NAME, colRef("LATEST", "PU_STATUS").as("LATEST_STATUS"))
+                .from(CUSTOMER, lateral(
+                        select(PURCHASE.STATUS, PURCHASE.CREATED_TIME)
+                            .from(PURCHASE)
+                            .where(PURCHASE.CUSTOMER_ID.eq(CUSTOMER.ID))
+                            .orderBy(PURCHASE.CREATED_TIME.desc())
+                            .limit(1))
+                    .outer().as("LATEST"))
+                .orderBy(CUSTOMER.LAST_NAME.asc());
+
+        statementTester()
+            .assertSql("""
+                select C.LAST_NAME C_LAST_NAME, LATEST.PU_STATUS LATEST_STATUS \
+                from CUSTOMER C \
+                left join lateral (select PU.STATUS PU_STATUS, PU.CREATED_TIME PU_CREATED_TIME \
+                from PURCHASE PU \
+                where PU.CUSTOMER_ID = C.ID \
+                order by PU.CREATED_TIME desc \
+                limit ?) LATEST on true \
+                order by C.LAST_NAME asc"""
+            )
+            .assertParams(1L)
+            .assertRowCount(3)
+            .assertRow(1, "C_LAST_NAME", is("Hansen"), "LATEST_STATUS", is("DISPATCHED"))
+            .assertRow(2, "C_LAST_NAME", is("Nordmann"), "LATEST_STATUS", is("PROCESSING"))
+            .assertRow(3, "C_LAST_NAME", is("Svensson"), "LATEST_STATUS", isNull())
+            .verify(stmt);
+    }
+
+    @Test
+    void shouldDeclareCommonTableExpressionOfSetOperation() {
+        CommonTableExpression lamps = with("LAMPS",
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP")));
+
+        SelectSetOpStatement stmt =
+            select(PRODUCT.NAME.as("PR_NAME"))
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("ELECTRONICS"))
+                .union(
+                    select(colRef("LAMPS", "PR_NAME"))
+                        .from(lamps)
+                )
+                .orderBy(alias("PR_NAME").asc());
+
+        statementTester()
+            .assertSql("""
+                with LAMPS as (select PR.NAME PR_NAME from PRODUCT PR where PR.CATEGORY = ?) \
+                (select PR.NAME PR_NAME from PRODUCT PR where PR.CATEGORY = ?) \
+                union \
+                (select LAMPS.PR_NAME from LAMPS) \
+                order by PR_NAME asc"""
+            )
+            .assertParams("LAMP", "ELECTRONICS")
+            .assertRowCount(3)
+            .assertRow(1,
+                "PR_NAME", is("Apple iPad Pro tablet")
+            )
+            .assertRow(2,
+                "PR_NAME", is("Louis Poulsen Panthella 160 table lamp")
+            )
+            .verify(stmt);
+    }
 }
@@ -24,6 +24,7 @@ import java.util.UUID;
 import static io.github.torand.fastersql.constant.Constants.$;
 import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
 import static io.github.torand.fastersql.datamodel.DataModel.PURCHASE;
+import static io.github.torand.fastersql.datamodel.DataModel.PURCHASE_ITEM;
 import static io.github.torand.fastersql.function.singlerow.SingleRowFunctions.concat;
 import static io.github.torand.fastersql.statement.Statements.select;
 import static io.github.torand.fastersql.statement.Statements.update;
@@ -162,4 +163,38 @@ class PostgreSqlUpdateStatementTest extends PostgreSqlTest {
                     .where(PRODUCT.ID.eq(id))
             );
     }
+
+    @Test
+    void shouldUpdateUsingJoinedTable() {
+        final UUID productId = UUID.fromString("fdd89ce1-db38-4deb-9767-0324e91d4933"); // Ekornes
+        final UUID purchaseId = UUID.fromString("da47cb5b-0fd2-491f-acec-9726af1f32aa");
+
+        PreparableStatement stmt =
+            update(PRODUCT)
+                .join(PRODUCT.ID.on(PURCHASE_ITEM.PRODUCT_ID))
+                .set(PRODUCT.STOCK_COUNT, PRODUCT.STOCK_COUNT.plus(PURCHASE_ITEM.QUANTITY))
+                .where(PURCHASE_ITEM.PURCHASE_ID.eq(purchaseId));
+
+        statementTester()
+            .assertSql("""
+                update PRODUCT PR \
+                set STOCK_COUNT = PR.STOCK_COUNT + PI.QUANTITY \
+                from PURCHASE_ITEM PI \
+                where PR.ID = PI.PRODUCT_ID \
+                and PI.PURCHASE_ID = ?"""
+            )
+            .assertParams(purchaseId)
+            .assertAffectedRowCount(1)
+            .verify(stmt);
+
+        statementTester()
+            .assertRowCount(1)
+            .assertRow(1,
+                "PR_STOCK_COUNT", isInteger(8))
+            .verify(
+                select(PRODUCT.STOCK_COUNT)
+                    .from(PRODUCT)
+                    .where(PRODUCT.ID.eq(productId))
+            );
+    }
 }
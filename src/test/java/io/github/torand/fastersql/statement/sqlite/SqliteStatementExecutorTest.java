@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.fastersql.statement.sqlite;
+
+import io.github.torand.fastersql.statement.SelectStatement;
+import io.github.torand.fastersql.statement.StatementExecutor;
+import org.junit.jupiter.api.Test;
+
+import static io.github.torand.fastersql.datamodel.DataModel.PRODUCT;
+import static io.github.torand.fastersql.statement.Statements.select;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqliteStatementExecutorTest extends SqliteTest {
+
+    @Test
+    void shouldExplainQueryPlan() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP"));
+
+        // The plan details are e.g. SCAN or SEARCH followed by the table, one row per plan step
+        assertThat(StatementExecutor.using(ds).explain(stmt))
+            .isNotBlank()
+            .containsAnyOf("SCAN", "SEARCH");
+    }
+
+    @Test
+    void shouldRejectExplainAnalyze() {
+        SelectStatement stmt =
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP"));
+
+        assertThatThrownBy(() -> StatementExecutor.using(ds).explainAnalyze(stmt))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("SQLite does not support EXPLAIN ANALYZE");
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.github.torand.fastersql.statement.sqlserver;
 
+import io.github.torand.fastersql.statement.CommonTableExpression;
 import io.github.torand.fastersql.statement.PreparableStatement;
 import io.github.torand.fastersql.statement.SelectSetOpStatement;
 import io.github.torand.fastersql.statement.SelectStatement;
@@ -40,6 +41,7 @@ import static io.github.torand.fastersql.projection.Projections.subquery;
 import static io.github.torand.fastersql.relation.Relations.table;
 import static io.github.torand.fastersql.statement.Statements.select;
 import static io.github.torand.fastersql.statement.Statements.selectDistinct;
+import static io.github.torand.fastersql.statement.Statements.with;
 import static io.github.torand.fastersql.util.RowValueMatchers.*;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
@@ -696,4 +698,40 @@ class SqlServerSelectStatementTest extends SqlServerTest {
             )
             .verify(stmt);
     }
+
+    @Test
+    void shouldDeclareCommonTableExpressionOfSetOperation() {
+        CommonTableExpression lamps = with("LAMPS",
+            select(PRODUCT.NAME)
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("LAMP")));
+
+        SelectSetOpStatement stmt =
+            select(PRODUCT.NAME.as("PR_NAME"))
+                .from(PRODUCT)
+                .where(PRODUCT.CATEGORY.eq("ELECTRONICS"))
+                .union(
+                    select(colRef("LAMPS", "PR_NAME"))
+                        .from(lamps)
+                )
+                .orderBy(alias("PR_NAME").asc());
+
+        statementTester()
+            .assertSql("""
+                with LAMPS as (select PR.NAME PR_NAME from PRODUCT PR where PR.CATEGORY = ?) \
+                select PR.NAME PR_NAME from PRODUCT PR where PR.CATEGORY = ? \
+                union \
+                select LAMPS.PR_NAME from LAMPS \
+                order by PR_NAME asc"""
+            )
+            .assertParams("LAMP", "ELECTRONICS")
+            .assertRowCount(3)
+            .assertRow(1,
+                "PR_NAME", is("Apple iPad Pro tablet")
+            )
+            .assertRow(2,
+                "PR_NAME", is("Louis Poulsen Panthella 160 table lamp")
+            )
+            .verify(stmt);
+    }
 }